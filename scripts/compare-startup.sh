@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Compares startup time and resident memory of the JVM and the native build.
+# Build both first:  ./gradlew bootJar nativeCompile
+# Usage:             scripts/compare-startup.sh [runs]
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+JAR="$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)"
+NATIVE="build/native/nativeCompile/errorhandler"
+
+measure() {
+	local label="$1"; shift
+	local total_startup=0 total_rss=0
+	for run in $(seq 1 "$RUNS"); do
+		local log
+		log="$(mktemp)"
+		"$@" --server.port="$PORT" > "$log" 2>&1 &
+		local pid=$!
+		until curl -fs "http://localhost:$PORT/actuator/health" > /dev/null; do
+			sleep 0.05
+		done
+		# Exercise the error path once, so the RSS includes the loaded bundles and rendered templates.
+		curl -s -o /dev/null -H 'Accept-Language: fr' -H 'Content-Type: application/json' \
+			-d '{}' "http://localhost:$PORT/v1/test?throwException=false"
+		local startup rss
+		startup="$(grep -o 'Started ErrorhandlerApplication in [0-9.]*' "$log" | awk '{print $4}')"
+		rss="$(ps -o rss= -p "$pid" | tr -d ' ')"
+		kill "$pid"
+		wait "$pid" 2> /dev/null || true
+		rm -f "$log"
+		total_startup="$(echo "$total_startup + $startup" | bc -l)"
+		total_rss=$((total_rss + rss))
+	done
+	printf '%-8s startup %6.3f s   RSS %7d KiB   (mean of %d runs)\n' \
+		"$label" "$(echo "$total_startup / $RUNS" | bc -l)" $((total_rss / RUNS)) "$RUNS"
+}
+
+measure jvm java -jar "$JAR"
+measure native "$NATIVE"
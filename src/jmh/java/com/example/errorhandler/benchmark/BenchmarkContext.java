@@ -0,0 +1,24 @@
+package com.example.errorhandler.benchmark;
+
+import com.example.errorhandler.ErrorhandlerApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application context without a web server, so benchmarks exercise the beans
+ * exactly as they are wired in production.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(ErrorhandlerApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties("spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.errorhandler.benchmark;
+
+import com.example.errorhandler.domain.constants.ContextConstants;
+import com.example.errorhandler.infrastructure.config.LocaleConfig;
+import com.example.errorhandler.infrastructure.filter.AcceptLanguageResolver;
+import com.example.errorhandler.infrastructure.logging.ErrorEventLogger;
+import com.example.errorhandler.infrastructure.filter.LocaleHeaderFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures "Accept-Language" negotiation for a set of realistic header values, both through
+ * the resolver cache and with caching disabled, as well as the complete {@link LocaleHeaderFilter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocaleResolutionBenchmark {
+
+    @Param({
+            "en",
+            "fr-FR,fr;q=0.9,en;q=0.8",
+            "ar-SA,ar;q=0.9,en;q=0.5",
+            "ru-RU,ru;q=0.9,en-US;q=0.8,en;q=0.7",
+            "de-DE,de;q=0.9,en-US;q=0.8,en;q=0.7",
+            "*"
+    })
+    public String acceptLanguage;
+
+    private ConfigurableApplicationContext context;
+    private AcceptLanguageResolver cachedResolver;
+    private AcceptLanguageResolver uncachedResolver;
+    private LocaleHeaderFilter filter;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        cachedResolver = context.getBean(AcceptLanguageResolver.class);
+        uncachedResolver = new AcceptLanguageResolver(context.getBean(LocaleConfig.class), context.getBean(ErrorEventLogger.class), 0);
+        filter = new LocaleHeaderFilter(cachedResolver);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Locale resolveCached() {
+        return cachedResolver.resolve(acceptLanguage);
+    }
+
+    @Benchmark
+    public Locale resolveUncached() {
+        return uncachedResolver.resolve(acceptLanguage);
+    }
+
+    @Benchmark
+    public Locale filter() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/v1/test").header(HttpHeaders.ACCEPT_LANGUAGE, acceptLanguage));
+        filter.filter(exchange, ignored -> Mono.empty()).block();
+        return exchange.getAttribute(ContextConstants.LOCALE_EXCHANGE_ATTRIBUTE);
+    }
+}
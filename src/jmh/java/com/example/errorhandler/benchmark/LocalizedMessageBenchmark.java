@@ -0,0 +1,87 @@
+package com.example.errorhandler.benchmark;
+
+import com.example.errorhandler.domain.constants.ContextConstants;
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.exception.LocalizationFallbackListener;
+import com.example.errorhandler.infrastructure.exception.LocalizedException;
+import com.example.errorhandler.infrastructure.exception.LocalizedMessage;
+import com.example.errorhandler.infrastructure.i18n.CatalogMessageSource;
+import com.example.errorhandler.infrastructure.i18n.MessageCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.MessageSource;
+import reactor.util.context.Context;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LocalizedException#localize} when the message exists for the requested locale
+ * and when it has to fall back to English, and the {@link Map} and {@link reactor.core.publisher.Mono}
+ * wrappers of {@link LocalizedException#getLocalizedMessage} for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocalizedMessageBenchmark {
+
+    private static final LocalizedExceptionTypes TYPE = LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR;
+
+    @Param({"en", "fr", "ar", "ru"})
+    public String languageTag;
+
+    private ConfigurableApplicationContext context;
+    private MessageSource messageSource;
+    private MessageSource incompleteMessageSource;
+    private LocalizedException exception;
+    private Locale locale;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        messageSource = context.getBean(MessageSource.class);
+        incompleteMessageSource = new CatalogMessageSource(MessageCatalog.of(Map.of(
+                Locale.ENGLISH, Map.of(
+                        TYPE.getErrorMessageKey(), messageSource.getMessage(TYPE.getErrorMessageKey(), null, Locale.ENGLISH),
+                        TYPE.getErrorTitleKey(), messageSource.getMessage(TYPE.getErrorTitleKey(), null, Locale.ENGLISH)),
+                Locale.GERMAN, Map.of("unrelated.key", "Unbekannt")), Locale.ENGLISH));
+        exception = new LocalizedException(TYPE);
+        locale = Locale.forLanguageTag(languageTag);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LocalizedMessage hit() {
+        return exception.localize(messageSource, locale, LocalizationFallbackListener.NONE);
+    }
+
+    @Benchmark
+    public Map<String, String> mapHit() {
+        return exception.localize(messageSource, locale, LocalizationFallbackListener.NONE).toMap();
+    }
+
+    @Benchmark
+    public Map<String, String> reactiveHit() {
+        return exception.getLocalizedMessage(messageSource)
+                .contextWrite(Context.of(ContextConstants.ACCEPT_LANGUAGE_CONTEXT_KEY, locale))
+                .block();
+    }
+
+    @Benchmark
+    public LocalizedMessage englishFallback() {
+        return exception.localize(incompleteMessageSource, Locale.GERMAN, LocalizationFallbackListener.NONE);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.errorhandler.benchmark;
+
+import com.example.errorhandler.infrastructure.i18n.BinaryMessageCatalog;
+import com.example.errorhandler.infrastructure.i18n.BinaryMessageCatalogWriter;
+import com.example.errorhandler.infrastructure.i18n.CatalogMessageSource;
+import com.example.errorhandler.infrastructure.i18n.MessageCatalog;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.MessageSource;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the startup time and the retained heap of the message sources for a synthetic locale x key
+ * matrix: Spring's {@link ResourceBundleMessageSource}, the {@link MessageCatalog} parsed from the
+ * bundles, and the {@link MessageCatalog} on top of the memory-mapped {@link BinaryMessageCatalog}.
+ * Each invocation builds a source from scratch and resolves one message per locale, as the first errors
+ * after startup would. A third of the keys is left untranslated, i.e. has the English message in
+ * every locale, which the binary catalog stores once.
+ * The retained heap of the built source is reported as the {@code retainedBytes} secondary result;
+ * it is the difference of the used heap after a full GC with and without the source, so it is an
+ * approximation that includes what the first lookups cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class MessageCatalogFootprintBenchmark {
+
+    private static final String BUNDLE_NAME = "error_messages";
+
+    @Param({"4", "60"})
+    public int locales;
+
+    @Param({"25", "2000"})
+    public int keys;
+
+    private Path directory;
+    private Path catalogFile;
+    private URLClassLoader bundleClassLoader;
+    private List<Locale> localeList;
+    private String probeKey;
+
+    /**
+     * Holds the source built by an invocation until its retained heap is measured.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytes;
+
+        private long baseline;
+        private MessageSource source;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+
+        @Setup(Level.Invocation)
+        public void measureBaseline() {
+            baseline = usedHeapAfterGc();
+        }
+
+        @TearDown(Level.Invocation)
+        public void measureRetained() {
+            retainedBytes += Math.max(0, usedHeapAfterGc() - baseline);
+            source = null;
+        }
+
+        private static long usedHeapAfterGc() {
+            System.gc();
+            System.gc();
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("message-catalog-benchmark");
+        localeList = new ArrayList<>();
+        localeList.add(Locale.ENGLISH);
+        for (String tag : Locale.getISOLanguages()) {
+            if (localeList.size() == locales) {
+                break;
+            }
+            if (!tag.equals("en")) {
+                localeList.add(Locale.forLanguageTag(tag));
+            }
+        }
+        for (Locale locale : localeList) {
+            try (Writer writer = Files.newBufferedWriter(directory.resolve(BUNDLE_NAME + "_" + locale + ".properties"), StandardCharsets.UTF_8)) {
+                for (int k = 0; k < keys; k++) {
+                    boolean translated = k % 3 != 0 || locale.equals(Locale.ENGLISH);
+                    writer.write("error.exception.key_" + k + ".message=" + (translated
+                            ? "Message " + k + " of {0} translated to " + locale.getDisplayLanguage(locale)
+                            : "Message " + k + " of {0} translated to English") + "\n");
+                }
+            }
+        }
+        catalogFile = directory.resolve(BUNDLE_NAME + ".bin");
+        try (OutputStream out = Files.newOutputStream(catalogFile)) {
+            BinaryMessageCatalogWriter.write(BinaryMessageCatalogWriter.read(directory, BUNDLE_NAME), out);
+        }
+        bundleClassLoader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null);
+        probeKey = "error.exception.key_" + (keys - 1) + ".message";
+    }
+
+    @Setup(Level.Invocation)
+    public void clearBundleCache() {
+        // otherwise ResourceBundle would hand out the bundles loaded by the previous invocation
+        ResourceBundle.clearCache(bundleClassLoader);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        bundleClassLoader.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public MessageSource resourceBundleMessageSource(Footprint footprint) {
+        ResourceBundleMessageSource source = new ResourceBundleMessageSource();
+        source.setBundleClassLoader(bundleClassLoader);
+        source.setBasenames(BUNDLE_NAME);
+        source.setDefaultEncoding("UTF-8");
+        source.setFallbackToSystemLocale(false);
+        source.setDefaultLocale(Locale.ENGLISH);
+        return resolveAll(source, footprint);
+    }
+
+    @Benchmark
+    public MessageSource parsedCatalog(Footprint footprint) throws IOException {
+        return resolveAll(new CatalogMessageSource(MessageCatalog.load(directory, BUNDLE_NAME, Locale.ENGLISH)), footprint);
+    }
+
+    @Benchmark
+    public MessageSource binaryCatalog(Footprint footprint) throws IOException {
+        return resolveAll(new CatalogMessageSource(MessageCatalog.of(BinaryMessageCatalog.open(catalogFile), Locale.ENGLISH)), footprint);
+    }
+
+    private MessageSource resolveAll(MessageSource source, Footprint footprint) {
+        Object[] args = {"the request"};
+        for (Locale locale : localeList) {
+            source.getMessage(probeKey, args, locale);
+        }
+        footprint.source = source;
+        return source;
+    }
+}
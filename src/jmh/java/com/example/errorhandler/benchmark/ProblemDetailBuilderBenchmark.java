@@ -0,0 +1,53 @@
+package com.example.errorhandler.benchmark;
+
+import com.example.errorhandler.infrastructure.exception.ApiErrorDetails;
+import com.example.errorhandler.infrastructure.exception.ProblemDetailBuilder;
+import com.example.errorhandler.infrastructure.exception.ProblemTimestampProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ProblemDetailBuilder#build()} for business and validation problem details.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProblemDetailBuilderBenchmark {
+
+    private ProblemTimestampProvider timestampProvider;
+    private List<ApiErrorDetails> errors;
+
+    @Setup
+    public void setUp() {
+        timestampProvider = new ProblemTimestampProvider(Clock.systemDefaultZone(), ProblemTimestampProvider.Format.LOCAL_SECONDS);
+        errors = List.of(new ApiErrorDetails("fieldEmail", "The email address is invalid."));
+    }
+
+    @Benchmark
+    public ProblemDetail business() {
+        return new ProblemDetailBuilder(HttpStatus.PRECONDITION_REQUIRED, "An unexpected business error occurred.")
+                .title("Business Error")
+                .timestamp(timestampProvider.now())
+                .build();
+    }
+
+    @Benchmark
+    public ProblemDetail validation() {
+        return new ProblemDetailBuilder(HttpStatus.BAD_REQUEST, "Validation failed.")
+                .title("Validation Error")
+                .errors(errors)
+                .timestamp(timestampProvider.now())
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.errorhandler.benchmark;
+
+import com.example.errorhandler.infrastructure.exception.ProblemDetailWriter;
+import com.example.errorhandler.infrastructure.exception.ProblemTimestampProvider;
+import com.example.errorhandler.infrastructure.exception.ValidationBudget;
+import com.example.errorhandler.infrastructure.exception.ValidationErrorLocalizer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost and the payload size of encoding a problem detail as JSON, CBOR and Smile,
+ * for a business error without field errors and a validation error with 20 field errors.
+ * The payload size is reported as the {@code bytes} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProblemEncodingBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public ProblemDetailWriter.Format format;
+
+    @Param({"0", "20"})
+    public int fieldErrors;
+
+    private ConfigurableApplicationContext context;
+    private ProblemDetailWriter writer;
+    private ProblemDetail problemDetail;
+
+    /**
+     * Reports the encoded size of the last payload per iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        writer = context.getBean(ProblemDetailWriter.class);
+        String timestamp = context.getBean(ProblemTimestampProvider.class).now();
+        if (fieldErrors == 0) {
+            problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_REQUIRED, "A business error occurred.");
+            problemDetail.setTitle("Business Error");
+            problemDetail.setProperty("timestamp", timestamp);
+        } else {
+            problemDetail = context.getBean(ValidationErrorLocalizer.class).toProblemDetail(
+                    ValidationExceptionBenchmark.createException(context.getBean(LocalValidatorFactoryBean.class), fieldErrors).getFieldErrors(),
+                    Locale.ENGLISH, ValidationBudget.UNLIMITED, timestamp);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payloadSize) throws Exception {
+        byte[] body = writer.encode(problemDetail, format);
+        payloadSize.bytes = body.length;
+        return body;
+    }
+}
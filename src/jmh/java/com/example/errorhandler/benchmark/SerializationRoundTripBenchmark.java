@@ -0,0 +1,83 @@
+package com.example.errorhandler.benchmark;
+
+import com.example.errorhandler.domain.constants.ContextConstants;
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.exception.GlobalExceptionHandler;
+import com.example.errorhandler.infrastructure.exception.LocalizedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a business error from the exception handler to the response body bytes, for
+ * arg-less exceptions (pre-serialized templates) and exceptions with message arguments
+ * (serialized by Jackson).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SerializationRoundTripBenchmark {
+
+    @Param({"en", "ar"})
+    public String languageTag;
+
+    private ConfigurableApplicationContext context;
+    private GlobalExceptionHandler handler;
+    private Locale locale;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        handler = context.getBean(GlobalExceptionHandler.class);
+        locale = Locale.forLanguageTag(languageTag);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] argless() {
+        return roundTrip(new LocalizedException(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR));
+    }
+
+    @Benchmark
+    public byte[] withArguments() {
+        return roundTrip(new LocalizedException(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR, HttpStatus.CONFLICT));
+    }
+
+    private byte[] roundTrip(LocalizedException exception) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/v1/test"));
+        exchange.getAttributes().put(ContextConstants.LOCALE_EXCHANGE_ATTRIBUTE, locale);
+        return handler.handleBusinessException(exception, exchange)
+                .contextWrite(Context.of(ContextConstants.ACCEPT_LANGUAGE_CONTEXT_KEY, locale))
+                .then(Mono.defer(() -> DataBufferUtils.join(exchange.getResponse().getBody())))
+                .map(SerializationRoundTripBenchmark::toBytes)
+                .block();
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+}
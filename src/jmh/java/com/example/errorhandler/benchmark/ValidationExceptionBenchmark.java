@@ -0,0 +1,91 @@
+package com.example.errorhandler.benchmark;
+
+import com.example.errorhandler.domain.constants.ContextConstants;
+import com.example.errorhandler.infrastructure.exception.GlobalExceptionHandler;
+import com.example.errorhandler.web.controller.TestController;
+import com.example.errorhandler.web.model.TestRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GlobalExceptionHandler#handleValidationException} for payloads with 1, 20
+ * and 200 field errors, from the exception to the response body bytes.
+ * The field errors are produced by the application's validator on an empty {@link TestRequest}
+ * and repeated to reach the requested count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationExceptionBenchmark {
+
+    @Param({"1", "20", "200"})
+    public int fieldErrors;
+
+    private ConfigurableApplicationContext context;
+    private GlobalExceptionHandler handler;
+    private WebExchangeBindException exception;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        handler = context.getBean(GlobalExceptionHandler.class);
+        exception = createException(context.getBean(LocalValidatorFactoryBean.class), fieldErrors);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] handle() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/v1/test"));
+        exchange.getAttributes().put(ContextConstants.LOCALE_EXCHANGE_ATTRIBUTE, Locale.FRENCH);
+        return handler.handleValidationException(exception, exchange)
+                .then(Mono.defer(() -> DataBufferUtils.join(exchange.getResponse().getBody())))
+                .map(ValidationExceptionBenchmark::toBytes)
+                .block();
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    static WebExchangeBindException createException(LocalValidatorFactoryBean validator, int fieldErrors) throws NoSuchMethodException {
+        BeanPropertyBindingResult validated = new BeanPropertyBindingResult(new TestRequest(), "testRequest");
+        validator.validate(validated.getTarget(), validated);
+        List<FieldError> available = validated.getFieldErrors();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(validated.getTarget(), "testRequest");
+        for (int i = 0; i < fieldErrors; i++) {
+            bindingResult.addError(available.get(i % available.size()));
+        }
+        MethodParameter parameter = new MethodParameter(
+                TestController.class.getMethod("test", String.class, boolean.class, TestRequest.class), 2);
+        return new WebExchangeBindException(parameter, bindingResult);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.errorhandler.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the results of a load test run: one HdrHistogram percentile distribution
+ * ({@code <scenario>.hgrm}, values in milliseconds) per scenario and overall, and a
+ * machine-readable {@code summary.json} with throughput and p50/p99/p999 latencies in
+ * microseconds that can be diffed between runs.
+ */
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadTestSettings settings;
+    private final Map<Scenario, Histogram> histograms;
+    private final Map<Scenario, AtomicLong> unexpectedStatuses;
+    private final Duration elapsed;
+
+    LoadTestReport(LoadTestSettings settings, Map<Scenario, Histogram> histograms,
+                   Map<Scenario, AtomicLong> unexpectedStatuses, Duration elapsed) {
+        this.settings = settings;
+        this.histograms = histograms;
+        this.unexpectedStatuses = unexpectedStatuses;
+        this.elapsed = elapsed;
+    }
+
+    void write() throws IOException {
+        Path directory = Files.createDirectories(settings.reportDirectory());
+        Histogram overall = new Histogram(3);
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        long unexpected = 0;
+        for (Map.Entry<Scenario, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            overall.add(histogram);
+            long scenarioUnexpected = unexpectedStatuses.get(entry.getKey()).get();
+            unexpected += scenarioUnexpected;
+            writeDistribution(directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm"), histogram);
+            scenarios.put(entry.getKey().name().toLowerCase(), summarize(histogram, scenarioUnexpected));
+        }
+        writeDistribution(directory.resolve("overall.hgrm"), overall);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", overall.getTotalCount());
+        summary.put("concurrency", settings.concurrency());
+        summary.put("mix", settings.mix());
+        summary.put("acceptLanguages", settings.acceptLanguages());
+        summary.put("elapsedMillis", elapsed.toMillis());
+        summary.put("throughputPerSecond", overall.getTotalCount() * 1_000_000_000.0 / Math.max(1, elapsed.toNanos()));
+        summary.put("overall", summarize(overall, unexpected));
+        summary.put("scenarios", scenarios);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("summary.json").toFile(), summary);
+
+        System.out.printf("Load test: %d requests in %d ms (%.0f req/s), p50=%dus p99=%dus p999=%dus, unexpected statuses=%d%n",
+                overall.getTotalCount(), elapsed.toMillis(), summary.get("throughputPerSecond"),
+                overall.getValueAtPercentile(50), overall.getValueAtPercentile(99), overall.getValueAtPercentile(99.9), unexpected);
+        System.out.println("Reports written to " + directory.toAbsolutePath());
+    }
+
+    private static Map<String, Object> summarize(Histogram histogram, long unexpectedStatuses) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("unexpectedStatuses", unexpectedStatuses);
+        summary.put("meanMicros", histogram.getMean());
+        summary.put("p50Micros", histogram.getValueAtPercentile(50));
+        summary.put("p90Micros", histogram.getValueAtPercentile(90));
+        summary.put("p99Micros", histogram.getValueAtPercentile(99));
+        summary.put("p999Micros", histogram.getValueAtPercentile(99.9));
+        summary.put("maxMicros", histogram.getMaxValue());
+        return summary;
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.errorhandler.loadtest;
+
+import com.example.errorhandler.ErrorhandlerApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts the application on a random port and drives {@code POST /v1/test} with a configurable
+ * mix of valid requests, business errors and validation errors across several "Accept-Language"
+ * headers. A fixed number of requests is kept in flight through a non-blocking {@link WebClient};
+ * per-scenario latencies are recorded in HdrHistograms and written by {@link LoadTestReport}.
+ */
+public final class LoadTestRunner {
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final LoadTestSettings settings;
+    private final WebClient client;
+    private final Scenario[] schedule;
+    private final Map<Scenario, Histogram> histograms = new EnumMap<>(Scenario.class);
+    private final Map<Scenario, AtomicLong> unexpectedStatuses = new EnumMap<>(Scenario.class);
+
+    private LoadTestRunner(LoadTestSettings settings, int port) {
+        this.settings = settings;
+        this.schedule = settings.schedule();
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("load-test")
+                .maxConnections(settings.concurrency())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.client = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        for (Scenario scenario : Scenario.values()) {
+            histograms.put(scenario, new ConcurrentHistogram(TimeUnit.SECONDS.toMicros(60), 3));
+            unexpectedStatuses.put(scenario, new AtomicLong());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        try (ConfigurableApplicationContext application = new SpringApplicationBuilder(ErrorhandlerApplication.class)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run(args)) {
+            int port = application.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadTestRunner runner = new LoadTestRunner(settings, port);
+            runner.run(settings.warmupRequests());
+            runner.reset();
+            long start = System.nanoTime();
+            runner.run(settings.requests());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            new LoadTestReport(settings, runner.histograms, runner.unexpectedStatuses, elapsed).write();
+        }
+    }
+
+    private void run(int requests) {
+        Flux.range(0, requests)
+                .flatMap(this::send, settings.concurrency())
+                .blockLast();
+    }
+
+    private void reset() {
+        histograms.values().forEach(Histogram::reset);
+        unexpectedStatuses.values().forEach(counter -> counter.set(0));
+    }
+
+    private Mono<Void> send(int index) {
+        Scenario scenario = schedule[index % schedule.length];
+        List<String> acceptLanguages = settings.acceptLanguages();
+        String acceptLanguage = acceptLanguages.get(index % acceptLanguages.size());
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return client.post()
+                    .uri(uri -> uri.path("/v1/test").queryParam("throwException", scenario.throwException()).build())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .headers(headers -> {
+                        if (!acceptLanguage.isEmpty()) {
+                            headers.set(HttpHeaders.ACCEPT_LANGUAGE, acceptLanguage);
+                        }
+                    })
+                    .bodyValue(scenario.body())
+                    .exchangeToMono(response -> response.bodyToMono(byte[].class)
+                            .defaultIfEmpty(NO_BODY)
+                            .thenReturn(response.statusCode().value()))
+                    .doOnNext(status -> {
+                        histograms.get(scenario).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                        if (status != scenario.expectedStatus()) {
+                            unexpectedStatuses.get(scenario).incrementAndGet();
+                        }
+                    })
+                    .then();
+        });
+    }
+}
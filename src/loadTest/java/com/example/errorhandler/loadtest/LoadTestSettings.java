@@ -0,0 +1,68 @@
+package com.example.errorhandler.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Load test settings, read from {@code loadTest.*} system properties.
+ *
+ * @param requests        the number of measured requests
+ * @param warmupRequests  the number of requests sent before measuring
+ * @param concurrency     the maximum number of in-flight requests
+ * @param mix             the relative weight of each scenario
+ * @param acceptLanguages the "Accept-Language" values to rotate through; an empty value sends no header
+ * @param reportDirectory the directory the reports are written to
+ */
+record LoadTestSettings(int requests, int warmupRequests, int concurrency, Map<Scenario, Integer> mix,
+                        List<String> acceptLanguages, Path reportDirectory) {
+
+    private static final long SCHEDULE_SEED = 9457L;
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadTest.requests", 100_000),
+                Integer.getInteger("loadTest.warmupRequests", 20_000),
+                Integer.getInteger("loadTest.concurrency", 64),
+                parseMix(System.getProperty("loadTest.mix", "valid:40,business:30,validation:30")),
+                List.of(System.getProperty("loadTest.acceptLanguages",
+                        "en|fr-FR,fr;q=0.9,en;q=0.8|ar-SA,ar;q=0.9|ru|de-DE,de;q=0.9|").split("\\|", -1)),
+                Path.of(System.getProperty("loadTest.reportDir", "build/reports/load-test")));
+    }
+
+    /**
+     * Expands the mix into a shuffled schedule of scenarios that is cycled through. The shuffle
+     * uses a fixed seed, so each run sends the same sequence of requests.
+     *
+     * @return the scenario schedule
+     */
+    Scenario[] schedule() {
+        List<Scenario> schedule = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(scenario);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("loadTest.mix must give at least one scenario a positive weight");
+        }
+        Collections.shuffle(schedule, new Random(SCHEDULE_SEED));
+        return schedule.toArray(Scenario[]::new);
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadTest.mix entry: " + entry);
+            }
+            weights.put(Scenario.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.errorhandler.loadtest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The request kinds the load test mixes, each with the status the service must answer with.
+ */
+enum Scenario {
+
+    VALID(false, 200, """
+            {"fieldNotBlank":"example","fieldNotEmpty":["item1","item2"],"fieldEmail":"user@example.com",
+            "fieldPositive":10,"fieldPositiveOrZero":0,"fieldNegative":-5,"fieldNegativeOrZero":0,"fieldRange":50,
+            "fieldSize":"test123","fieldLength":"exampleString","fieldRangeValue":50,"fieldMinLength":"example",
+            "fieldPattern":"abc123","fieldPast":"2000-01-01","fieldFuture":"2100-01-01","fieldFutureOrPresent":"2100-01-01",
+            "fieldPastOrPresent":"2020-01-01","fieldDigits":12345.67,"fieldPhoneNumber":"+1234567890",
+            "fieldCreditCard":"4111111111111111"}
+            """),
+    BUSINESS(true, 428, VALID.body),
+    VALIDATION(false, 400, """
+            {"fieldNotBlank":" ","fieldNotEmpty":[],"fieldEmail":"not-an-email",
+            "fieldPositive":-1,"fieldPositiveOrZero":-1,"fieldNegative":5,"fieldNegativeOrZero":1,"fieldRange":5,
+            "fieldSize":"ab","fieldLength":"abc","fieldRangeValue":0,"fieldMinLength":"abc",
+            "fieldPattern":"abc-123","fieldPast":"2100-01-01","fieldFuture":"2000-01-01","fieldFutureOrPresent":"2000-01-01",
+            "fieldPastOrPresent":"2100-01-01","fieldDigits":123456.789,"fieldPhoneNumber":"12",
+            "fieldCreditCard":"4111111111111112"}
+            """);
+
+    private final boolean throwException;
+    private final int expectedStatus;
+    private final byte[] body;
+
+    Scenario(boolean throwException, int expectedStatus, String body) {
+        this(throwException, expectedStatus, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    Scenario(boolean throwException, int expectedStatus, byte[] body) {
+        this.throwException = throwException;
+        this.expectedStatus = expectedStatus;
+        this.body = body;
+    }
+
+    boolean throwException() {
+        return throwException;
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+
+    byte[] body() {
+        return body;
+    }
+}
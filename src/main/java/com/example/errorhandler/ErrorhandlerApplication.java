@@ -1,9 +1,12 @@
 package com.example.errorhandler;
 
+import com.example.errorhandler.infrastructure.aot.ErrorHandlerRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(ErrorHandlerRuntimeHints.class)
 public class ErrorhandlerApplication {
 
 	public static void main(String[] args) {
@@ -5,4 +5,7 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class ContextConstants {
     public static final String ACCEPT_LANGUAGE_CONTEXT_KEY = "locale";
+    public static final String LOCALE_EXCHANGE_ATTRIBUTE = "com.example.errorhandler.locale";
+    public static final String TENANT_CONTEXT_KEY = "tenant";
+    public static final String TENANT_EXCHANGE_ATTRIBUTE = "com.example.errorhandler.tenant";
 }
@@ -8,10 +8,23 @@ import org.springframework.http.HttpStatus;
 @Getter
 public enum LocalizedExceptionTypes {
 
-    DEFAULT_BUSINESS_ERROR("business.exception.default.message", "business.exception.default.title", HttpStatus.PRECONDITION_REQUIRED);
+    DEFAULT_BUSINESS_ERROR("business.exception.default.message", "business.exception.default.title", HttpStatus.PRECONDITION_REQUIRED, false),
+    REQUEST_ERROR("web.exception.request_error.message", "web.exception.request_error.title", HttpStatus.BAD_REQUEST, false),
+    MALFORMED_REQUEST("web.exception.malformed_request.message", "web.exception.malformed_request.title", HttpStatus.BAD_REQUEST, false),
+    MISSING_REQUEST_VALUE("web.exception.missing_request_value.message", "web.exception.missing_request_value.title", HttpStatus.BAD_REQUEST, false),
+    RESOURCE_NOT_FOUND("web.exception.resource_not_found.message", "web.exception.resource_not_found.title", HttpStatus.NOT_FOUND, false),
+    METHOD_NOT_ALLOWED("web.exception.method_not_allowed.message", "web.exception.method_not_allowed.title", HttpStatus.METHOD_NOT_ALLOWED, false),
+    NOT_ACCEPTABLE("web.exception.not_acceptable.message", "web.exception.not_acceptable.title", HttpStatus.NOT_ACCEPTABLE, false),
+    PAYLOAD_TOO_LARGE("web.exception.payload_too_large.message", "web.exception.payload_too_large.title", HttpStatus.PAYLOAD_TOO_LARGE, false),
+    UNSUPPORTED_MEDIA_TYPE("web.exception.unsupported_media_type.message", "web.exception.unsupported_media_type.title", HttpStatus.UNSUPPORTED_MEDIA_TYPE, false),
+    UNEXPECTED_ERROR("web.exception.unexpected_error.message", "web.exception.unexpected_error.title", HttpStatus.INTERNAL_SERVER_ERROR, false);
 
     private final String errorMessageKey;
     private final String errorTitleKey;
     private final HttpStatus status;
+    /**
+     * Diagnostic types always capture a stack trace, even when stackless exceptions are enabled.
+     */
+    private final boolean diagnostic;
 
 }
@@ -0,0 +1,37 @@
+package com.example.errorhandler.infrastructure.aot;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.exception.ApiErrorDetails;
+import com.example.errorhandler.infrastructure.exception.ProblemTimestampProvider;
+import com.example.errorhandler.web.model.TestRequest;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+
+/**
+ * Registers what a GraalVM native image needs beyond Spring's own AOT processing: the error
+ * message bundles and their compiled catalog, which are loaded as plain resources, the enums
+ * bound from configuration and read reflectively, and the Jackson serialization of the error model.
+ */
+public class ErrorHandlerRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String ERROR_MESSAGES_PATTERN = "messages/error_messages/error_messages*.properties";
+    static final String ERROR_MESSAGES_CATALOG = "messages/error_messages/error_messages.bin";
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern(ERROR_MESSAGES_PATTERN);
+        hints.resources().registerPattern(ERROR_MESSAGES_CATALOG);
+        hints.reflection().registerType(LocalizedExceptionTypes.class,
+                MemberCategory.PUBLIC_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(ProblemTimestampProvider.Format.class,
+                MemberCategory.PUBLIC_FIELDS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(ProblemDetailJacksonMixin.class, MemberCategory.INVOKE_DECLARED_METHODS);
+        bindingRegistrar.registerReflectionHints(hints.reflection(), ProblemDetail.class, ApiErrorDetails.class, TestRequest.class);
+    }
+}
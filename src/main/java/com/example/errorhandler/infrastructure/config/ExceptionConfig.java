@@ -0,0 +1,36 @@
+package com.example.errorhandler.infrastructure.config;
+
+import com.example.errorhandler.infrastructure.exception.ProblemTimestampProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ExceptionConfig {
+
+    /**
+     * Exposes the clock of timestamps and temporal constraints. Tests replace it with a fixed clock
+     * declared as {@code @Primary} bean of a {@code @TestConfiguration}.
+     *
+     * @return the system clock in the default time zone
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    /**
+     * Exposes the timestamp source shared by all error renderers.
+     *
+     * @param clock  the clock to read the time from
+     * @param format the timestamp format, see {@link ProblemTimestampProvider.Format}
+     * @return the shared {@link ProblemTimestampProvider}
+     */
+    @Bean
+    public ProblemTimestampProvider problemTimestampProvider(Clock clock,
+                                                             @Value("${problem-detail.timestamp.format:local-seconds}") ProblemTimestampProvider.Format format) {
+        return new ProblemTimestampProvider(clock, format);
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.errorhandler.infrastructure.config;
 
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Configuration
@@ -14,9 +16,32 @@ public class LocaleConfig {
     @Value("${supported-locales}")
     private String[] supportedLocales;
 
-    public List<Locale> getSupportedLocales() {
-        return Stream.of(supportedLocales)
+    private List<Locale> supportedLocaleList;
+
+    @PostConstruct
+    void parseSupportedLocales() {
+        supportedLocaleList = Stream.of(supportedLocales)
+            .map(String::trim)
             .map(Locale::forLanguageTag)
-            .collect(Collectors.toList());
+            .toList();
+    }
+
+    /**
+     * Returns the configured supported locales, parsed once at startup.
+     *
+     * @return an immutable list of supported locales
+     */
+    public List<Locale> getSupportedLocales() {
+        return supportedLocaleList;
+    }
+
+    /**
+     * Precomputes the message fallback chains of the supported locales, all ending with English.
+     *
+     * @return the {@link LocaleFallbackChains} messages are resolved along
+     */
+    @Bean
+    public LocaleFallbackChains localeFallbackChains() {
+        return new LocaleFallbackChains(supportedLocaleList, Locale.ENGLISH);
     }
 }
@@ -1,24 +1,139 @@
 package com.example.errorhandler.infrastructure.config;
 
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.i18n.BinaryMessageCatalog;
+import com.example.errorhandler.infrastructure.i18n.CatalogMessageSource;
+import com.example.errorhandler.infrastructure.i18n.ErrorMessageRegistry;
+import com.example.errorhandler.infrastructure.i18n.ExternalMessageBundleWatcher;
+import com.example.errorhandler.infrastructure.i18n.MessageCatalog;
+import com.example.errorhandler.infrastructure.i18n.MessageCatalogValidator;
+import com.example.errorhandler.infrastructure.i18n.TenantMessageOverlays;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 @Configuration
 public class MessageSourceConfig {
 
+    private static final String ERROR_MESSAGES_BASENAME = "messages/error_messages/error_messages";
+    private static final String ERROR_MESSAGES_CATALOG = ERROR_MESSAGES_BASENAME + ".bin";
+
+    /**
+     * Exposes the error message bundles as a precompiled, lock-free {@link MessageSource}.
+     * All bundles are parsed once at startup, so no bundle I/O or {@code MessageFormat}
+     * synchronization happens while rendering errors. If {@code messages.external.directory}
+     * is set, the bundles of that directory are used instead of the classpath bundles. The titles and
+     * messages of the exception types in the classpath bundles come from the table generated at build time.
+     * Unless {@code messages.binary-catalog.enabled} is {@code false}, the classpath bundles are read from
+     * the binary catalog compiled at build time, which keeps unused messages off the heap.
+     *
+     * @param externalDirectory the directory holding external bundles, empty to use the classpath
+     * @param binaryCatalog     whether to prefer the compiled binary catalog over the classpath bundles
+     * @param validator         the validator external bundles must pass
+     * @param localeConfig      the supported locales, whose bundles are loaded even if the classpath cannot be scanned
+     * @return the catalog-backed {@link MessageSource}
+     * @throws IOException if a bundle cannot be read
+     */
+    @Bean
+    public CatalogMessageSource messageSource(@Value("${messages.external.directory:}") String externalDirectory,
+                                              @Value("${messages.binary-catalog.enabled:true}") boolean binaryCatalog,
+                                              MessageCatalogValidator validator, LocaleConfig localeConfig) throws IOException {
+        if (!StringUtils.hasText(externalDirectory)) {
+            Resource compiled = new ClassPathResource(ERROR_MESSAGES_CATALOG);
+            if (binaryCatalog && compiled.exists()) {
+                MessageCatalog catalog = MessageCatalog.of(openBinaryCatalog(compiled), Locale.ENGLISH);
+                return new CatalogMessageSource(catalog, ErrorMessageRegistry.generated(Locale.ENGLISH), "classpath:" + ERROR_MESSAGES_CATALOG);
+            }
+            MessageCatalog catalog = MessageCatalog.load(new PathMatchingResourcePatternResolver(), ERROR_MESSAGES_BASENAME,
+                    localeConfig.getSupportedLocales(), Locale.ENGLISH);
+            return new CatalogMessageSource(catalog, ErrorMessageRegistry.generated(Locale.ENGLISH), "classpath:" + ERROR_MESSAGES_BASENAME);
+        }
+        Path directory = Path.of(externalDirectory);
+        MessageCatalog catalog = MessageCatalog.load(directory, StringUtils.getFilename(ERROR_MESSAGES_BASENAME), Locale.ENGLISH);
+        List<String> errors = validator.validate(catalog);
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Invalid message bundles in " + directory + ": " + String.join("; ", errors));
+        }
+        return new CatalogMessageSource(catalog, directory.toUri().toString());
+    }
+
+    private static BinaryMessageCatalog openBinaryCatalog(Resource resource) throws IOException {
+        if (resource.isFile()) {
+            return BinaryMessageCatalog.open(resource.getFile().toPath());
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return BinaryMessageCatalog.read(in);
+        }
+    }
+
+    /**
+     * Validates reloaded catalogs against the English bundle, which must define the keys of every
+     * {@link LocalizedExceptionTypes}.
+     *
+     * @return the {@link MessageCatalogValidator}
+     */
+    @Bean
+    public MessageCatalogValidator messageCatalogValidator() {
+        return new MessageCatalogValidator(Locale.ENGLISH, Arrays.stream(LocalizedExceptionTypes.values())
+                .flatMap(type -> Stream.of(type.getErrorMessageKey(), type.getErrorTitleKey()))
+                .toList());
+    }
+
+    /**
+     * Exposes the tenant message overlays. If {@code messages.tenants.directory} is set, the overlay of
+     * every tenant subdirectory is loaded at startup; otherwise overlays can only be published at runtime.
+     *
+     * @param messageSource  the shared message source the overlays are layered on
+     * @param eventPublisher the publisher of {@code TenantOverlayPublishedEvent}s
+     * @param directory      the directory holding one subdirectory of bundles per tenant, empty for none
+     * @param maxCacheSize   the maximum number of resolved entries cached per tenant
+     * @return the loaded {@link TenantMessageOverlays}
+     * @throws IOException if an overlay cannot be read
+     */
+    @Bean
+    public TenantMessageOverlays tenantMessageOverlays(CatalogMessageSource messageSource, ApplicationEventPublisher eventPublisher,
+                                                       @Value("${messages.tenants.directory:}") String directory,
+                                                       @Value("${messages.tenants.cache.max-size:1024}") int maxCacheSize) throws IOException {
+        TenantMessageOverlays overlays = new TenantMessageOverlays(messageSource, eventPublisher,
+                StringUtils.hasText(directory) ? Path.of(directory) : null, StringUtils.getFilename(ERROR_MESSAGES_BASENAME), maxCacheSize);
+        overlays.loadAll();
+        return overlays;
+    }
+
+    /**
+     * Reloads the bundles of {@code messages.external.directory} whenever that directory changes.
+     *
+     * @param messageSource  the message source to publish reloaded catalogs to
+     * @param validator      the validator a reloaded catalog must pass
+     * @param eventPublisher the publisher of {@code MessageCatalogPublishedEvent}s
+     * @param directory      the directory holding the external bundles
+     * @param debounce       the quiet period after the last file change before reloading
+     * @return the started {@link ExternalMessageBundleWatcher}
+     */
     @Bean
-    public MessageSource messageSource() {
-        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
-        messageSource.setBasenames(
-            "messages/error_messages/error_messages"
-        );
-        messageSource.setDefaultEncoding("UTF-8");
-        messageSource.setFallbackToSystemLocale(false);
-        messageSource.setDefaultLocale(Locale.ENGLISH);
-        return messageSource;
+    @ConditionalOnProperty("messages.external.directory")
+    public ExternalMessageBundleWatcher externalMessageBundleWatcher(CatalogMessageSource messageSource,
+                                                                     MessageCatalogValidator validator,
+                                                                     ApplicationEventPublisher eventPublisher,
+                                                                     @Value("${messages.external.directory}") Path directory,
+                                                                     @Value("${messages.external.debounce:500ms}") Duration debounce) {
+        return new ExternalMessageBundleWatcher(messageSource, validator, eventPublisher, directory,
+                StringUtils.getFilename(ERROR_MESSAGES_BASENAME), Locale.ENGLISH, debounce);
     }
 }
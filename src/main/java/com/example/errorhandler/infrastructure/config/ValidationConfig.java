@@ -0,0 +1,108 @@
+package com.example.errorhandler.infrastructure.config;
+
+import com.example.errorhandler.infrastructure.exception.ValidationBudget;
+import com.example.errorhandler.infrastructure.i18n.DeferredCatalogMessageInterpolator;
+import com.example.errorhandler.infrastructure.validation.GeneratedValidatorAdapter;
+import jakarta.validation.Validator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.validation.ValidationConfigurationCustomizer;
+import org.springframework.boot.validation.MessageInterpolatorFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+import java.time.Clock;
+import java.util.Locale;
+
+@Configuration
+public class ValidationConfig {
+
+    /**
+     * Defers the interpolation of constraint messages that refer to the error message catalog to
+     * the rendering of the validation error, where they are localized for the request locale.
+     * Other messages are interpolated as Spring Boot would by default.
+     *
+     * @param applicationContext the context used to resolve messages
+     * @return the customizer installing the {@link DeferredCatalogMessageInterpolator}
+     */
+    @Bean
+    public ValidationConfigurationCustomizer deferredCatalogMessageInterpolation(ApplicationContext applicationContext) {
+        return configuration -> configuration.messageInterpolator(new DeferredCatalogMessageInterpolator(
+                new MessageInterpolatorFactory(applicationContext).getObject(), applicationContext, Locale.ENGLISH));
+    }
+
+    /**
+     * Makes {@code @Past}, {@code @Future} and similar constraints compare with the application clock,
+     * which the {@link GeneratedValidatorAdapter} uses as well.
+     *
+     * @param clock the application clock
+     * @return the customizer installing the clock provider
+     */
+    @Bean
+    public ValidationConfigurationCustomizer applicationClockProvider(Clock clock) {
+        return configuration -> configuration.clockProvider(() -> clock);
+    }
+
+    /**
+     * Stops validating an object at its first constraint violation, so an invalid payload costs at
+     * most one violation, at the price of reporting only that one.
+     *
+     * @return the customizer enabling Hibernate Validator's fail-fast mode
+     */
+    @Bean
+    @ConditionalOnProperty(name = "validation.budget.fail-fast", havingValue = "true")
+    public ValidationConfigurationCustomizer failFastValidation() {
+        return configuration -> configuration.addProperty(HibernateValidatorConfiguration.FAIL_FAST, "true");
+    }
+
+    /**
+     * Exposes the limits of rendered validation errors.
+     *
+     * @param maxViolations  the maximum number of field errors rendered
+     * @param maxErrorsBytes the approximate maximum size of the rendered {@code errors} member in bytes
+     * @return the {@link ValidationBudget}
+     */
+    @Bean
+    public ValidationBudget validationBudget(@Value("${validation.budget.max-violations:100}") int maxViolations,
+                                             @Value("${validation.budget.max-errors-bytes:16384}") int maxErrorsBytes) {
+        return new ValidationBudget(maxViolations, maxErrorsBytes);
+    }
+
+    /**
+     * Validates request models annotated with
+     * {@link com.example.errorhandler.infrastructure.validation.GeneratedValidation @GeneratedValidation}
+     * with their generated validators, and everything else with Hibernate Validator.
+     *
+     * @param validator          the Hibernate Validator instance configured by Spring Boot
+     * @param applicationContext the context whose class loader loads the generated validators
+     * @param clock              the application clock
+     * @param failFast           whether to stop at the first violation, as Hibernate Validator does in fail-fast mode
+     * @return the {@link GeneratedValidatorAdapter}
+     */
+    @Bean
+    public GeneratedValidatorAdapter requestValidator(Validator validator, ApplicationContext applicationContext, Clock clock,
+                                                      @Value("${validation.budget.fail-fast:false}") boolean failFast) {
+        return new GeneratedValidatorAdapter(new SpringValidatorAdapter(validator),
+                GeneratedValidatorAdapter.load(applicationContext.getClassLoader()), clock, failFast);
+    }
+
+    /**
+     * Uses the {@link GeneratedValidatorAdapter} for {@code @Valid} arguments of WebFlux handler methods.
+     *
+     * @param requestValidator the validator of request models
+     * @return the {@link WebFluxConfigurer} exposing it
+     */
+    @Bean
+    public WebFluxConfigurer requestValidatorConfigurer(GeneratedValidatorAdapter requestValidator) {
+        return new WebFluxConfigurer() {
+            @Override
+            public org.springframework.validation.Validator getValidator() {
+                return requestValidator;
+            }
+        };
+    }
+}
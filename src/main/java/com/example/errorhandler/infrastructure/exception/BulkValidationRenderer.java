@@ -0,0 +1,227 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.domain.constants.ContextConstants;
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import com.example.errorhandler.infrastructure.i18n.TenantMessageOverlays;
+import com.example.errorhandler.infrastructure.logging.ErrorEventLogger;
+import com.example.errorhandler.infrastructure.metrics.ErrorMetrics;
+import com.example.errorhandler.infrastructure.validation.GeneratedValidatorAdapter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Validates a stream of items one by one and renders one result per item, either an RFC 9457
+ * problem detail or a success marker, as newline-delimited JSON or as RFC 7464 JSON text sequence.
+ * The framing follows the {@code Content-Type} negotiated for the response, so a wildcard
+ * {@code Accept} gets the NDJSON framing its {@code Content-Type} announces.
+ * Items are validated and processed with bounded concurrency, on the bounded elastic scheduler only
+ * if the processor is declared blocking, and results are emitted in input order; since at most
+ * {@code bulk-validation.concurrency} items are requested from the request body at a time,
+ * backpressure propagates from the client reading the response to the client writing the request,
+ * and memory stays flat regardless of the number of items.
+ * An item that cannot be decoded is rendered as a {@link LocalizedExceptionTypes#MALFORMED_REQUEST}
+ * at its index and ends the stream, since the request body cannot be read any further.
+ * Every result carries the zero-based {@code index} of its item. Items are validated like {@code @Valid}
+ * request bodies, i.e. with their generated validator if they have one. An exception of the
+ * processor is rendered as the problem detail of its item, a {@link LocalizedException} as its own
+ * and any other exception as an {@link LocalizedExceptionTypes#UNEXPECTED_ERROR}.
+ */
+@Component
+public class BulkValidationRenderer {
+
+    public static final String APPLICATION_JSON_SEQ_VALUE = "application/json-seq";
+    public static final MediaType APPLICATION_JSON_SEQ = MediaType.parseMediaType(APPLICATION_JSON_SEQ_VALUE);
+
+    private static final byte RECORD_SEPARATOR = 0x1E;
+    private static final byte LINE_FEED = '\n';
+
+    private final GeneratedValidatorAdapter validator;
+    private final ValidationErrorLocalizer validationErrorLocalizer;
+    private final ValidationBudget validationBudget;
+    private final TenantMessageOverlays tenantMessageOverlays;
+    private final ObjectMapper objectMapper;
+    private final ProblemTimestampProvider timestampProvider;
+    private final ErrorMetrics errorMetrics;
+    private final ErrorEventLogger errorEventLogger;
+    private final LocaleFallbackChains localeFallbackChains;
+    private final LocalizationFallbackListener fallbackListener;
+    private final int concurrency;
+
+    public BulkValidationRenderer(GeneratedValidatorAdapter validator, ValidationErrorLocalizer validationErrorLocalizer,
+                                  ValidationBudget validationBudget, TenantMessageOverlays tenantMessageOverlays, ObjectMapper objectMapper,
+                                  ProblemTimestampProvider timestampProvider, ErrorMetrics errorMetrics,
+                                  ErrorEventLogger errorEventLogger, LocaleFallbackChains localeFallbackChains,
+                                  @Value("${bulk-validation.concurrency:4}") int concurrency) {
+        this.validator = validator;
+        this.validationErrorLocalizer = validationErrorLocalizer;
+        this.validationBudget = validationBudget;
+        this.tenantMessageOverlays = tenantMessageOverlays;
+        this.objectMapper = objectMapper;
+        this.timestampProvider = timestampProvider;
+        this.errorMetrics = errorMetrics;
+        this.errorEventLogger = errorEventLogger;
+        this.localeFallbackChains = localeFallbackChains;
+        this.fallbackListener = errorMetrics.andThen(errorEventLogger);
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Validates and processes each item on the thread that emits it and renders its result.
+     *
+     * @param items     the items, usually decoded from an NDJSON request body
+     * @param processor invoked for every valid item, must not block; a thrown exception is rendered as the
+     *                  problem detail of the item
+     * @param exchange  the current server exchange, whose response {@code Content-Type} selects the framing
+     * @param <T>       the item type
+     * @return the rendered results, one framed JSON record per item
+     * @see #render(Flux, Consumer, boolean, ServerWebExchange)
+     */
+    public <T> Flux<DataBuffer> render(Flux<T> items, Consumer<T> processor, ServerWebExchange exchange) {
+        return render(items, processor, false, exchange);
+    }
+
+    /**
+     * Validates and processes each item and renders its result.
+     *
+     * @param items     the items, usually decoded from an NDJSON request body
+     * @param processor invoked for every valid item; a thrown exception is rendered as the problem detail of the item
+     * @param blocking  whether the processor may block, in which case the items are processed on the bounded
+     *                  elastic scheduler
+     * @param exchange  the current server exchange, whose response {@code Content-Type} selects the framing
+     * @param <T>       the item type
+     * @return the rendered results, one framed JSON record per item
+     */
+    public <T> Flux<DataBuffer> render(Flux<T> items, Consumer<T> processor, boolean blocking, ServerWebExchange exchange) {
+        String path = exchange.getRequest().getPath().value();
+        DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+        return Flux.deferContextual(contextView -> {
+            // the body is subscribed to after the Content-Type has been negotiated and set
+            boolean jsonSeq = jsonSeq(exchange);
+            Locale locale = contextView.getOrDefault(ContextConstants.ACCEPT_LANGUAGE_CONTEXT_KEY,
+                    exchange.getAttributeOrDefault(ContextConstants.LOCALE_EXCHANGE_ATTRIBUTE, Locale.ENGLISH));
+            String tenant = contextView.getOrDefault(ContextConstants.TENANT_CONTEXT_KEY,
+                    exchange.getAttribute(ContextConstants.TENANT_EXCHANGE_ATTRIBUTE));
+            AtomicLong nextIndex = new AtomicLong();
+            return items.<Callable<byte[]>>map(item -> {
+                        long index = nextIndex.getAndIncrement();
+                        return () -> renderItem(index, item, processor, locale, tenant, path);
+                    })
+                    .onErrorResume(BulkValidationRenderer::isMalformed,
+                            ex -> Mono.just(() -> renderMalformed(nextIndex.get(), locale, tenant, path)))
+                    .flatMapSequential(task -> blocking
+                            ? Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic())
+                            : Mono.fromCallable(task), concurrency, concurrency)
+                    .map(json -> frame(bufferFactory, json, jsonSeq));
+        });
+    }
+
+    /**
+     * Returns whether the response is framed as JSON text sequence, i.e. whether its negotiated
+     * {@code Content-Type} is exactly {@code application/json-seq}. Without one, e.g. outside of an
+     * annotated controller, the response is declared and framed as NDJSON.
+     */
+    private static boolean jsonSeq(ServerWebExchange exchange) {
+        MediaType contentType = exchange.getResponse().getHeaders().getContentType();
+        if (contentType == null) {
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+            return false;
+        }
+        return APPLICATION_JSON_SEQ.equalsTypeAndSubtype(contentType);
+    }
+
+    /**
+     * Returns whether the item stream failed because an item could not be decoded; annotated controllers
+     * wrap the {@link DecodingException} of a {@code @RequestBody} in a {@link ServerWebInputException}.
+     */
+    private static boolean isMalformed(Throwable ex) {
+        return ex instanceof DecodingException || ex instanceof ServerWebInputException;
+    }
+
+    private <T> byte[] renderItem(long index, T item, Consumer<T> processor, Locale locale, String tenant, String path) throws JsonProcessingException {
+        long start = System.nanoTime();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        validator.validate(item, bindingResult);
+        if (bindingResult.hasFieldErrors()) {
+            List<FieldError> fieldErrors = bindingResult.getFieldErrors();
+            byte[] json = write(validationErrorLocalizer.toProblemDetail(fieldErrors, locale, tenant, validationBudget, timestampProvider.now()), index, path);
+            errorMetrics.recordValidationError(locale, fieldErrors.size(), System.nanoTime() - start);
+            return json;
+        }
+        try {
+            processor.accept(item);
+        } catch (LocalizedException ex) {
+            LocalizedMessage localizedMessage = ex.localize(tenantMessageOverlays.messageSourceFor(tenant), locale, localeFallbackChains, fallbackListener);
+            return writeProblem(ex.getType(), ex.getStatus(), localizedMessage, index, locale, path, start);
+        } catch (RuntimeException ex) {
+            LocalizedExceptionTypes type = LocalizedExceptionTypes.UNEXPECTED_ERROR;
+            errorEventLogger.record(ErrorEventLogger.Category.UNHANDLED_EXCEPTION, ex.getClass().getName(), locale, type.name(),
+                    String.valueOf(ex.getMessage()), ex);
+            LocalizedMessage localizedMessage = LocalizedException.resolve(type, null, tenantMessageOverlays.messageSourceFor(tenant),
+                    localeFallbackChains.forLocale(locale), locale, fallbackListener);
+            return writeProblem(type, type.getStatus(), localizedMessage, index, locale, path, start);
+        }
+        Map<String, Object> success = new LinkedHashMap<>();
+        success.put("index", index);
+        success.put("status", HttpStatus.OK.value());
+        return objectMapper.writeValueAsBytes(success);
+    }
+
+    private byte[] renderMalformed(long index, Locale locale, String tenant, String path) throws JsonProcessingException {
+        long start = System.nanoTime();
+        LocalizedExceptionTypes type = LocalizedExceptionTypes.MALFORMED_REQUEST;
+        LocalizedMessage localizedMessage = LocalizedException.resolve(type, null, tenantMessageOverlays.messageSourceFor(tenant),
+                localeFallbackChains.forLocale(locale), locale, fallbackListener);
+        return writeProblem(type, type.getStatus(), localizedMessage, index, locale, path, start);
+    }
+
+    private byte[] writeProblem(LocalizedExceptionTypes type, HttpStatus status, LocalizedMessage localizedMessage, long index,
+                                Locale locale, String path, long start) throws JsonProcessingException {
+        ProblemDetail problemDetail = new ProblemDetailBuilder(status, localizedMessage.message())
+                .title(localizedMessage.title())
+                .timestamp(timestampProvider.now())
+                .describing(type.name(), locale)
+                .build();
+        byte[] json = write(problemDetail, index, path);
+        errorMetrics.recordBusinessError(type, locale, System.nanoTime() - start);
+        return json;
+    }
+
+    private byte[] write(ProblemDetail problemDetail, long index, String path) throws JsonProcessingException {
+        problemDetail.setInstance(URI.create(path));
+        problemDetail.setProperty("index", index);
+        return objectMapper.writeValueAsBytes(problemDetail);
+    }
+
+    private static DataBuffer frame(DataBufferFactory bufferFactory, byte[] json, boolean jsonSeq) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(json.length + (jsonSeq ? 2 : 1));
+        if (jsonSeq) {
+            buffer.write(RECORD_SEPARATOR);
+        }
+        return buffer.write(json).write(LINE_FEED);
+    }
+}
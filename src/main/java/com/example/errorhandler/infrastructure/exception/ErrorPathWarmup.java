@@ -0,0 +1,100 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.config.LocaleConfig;
+import com.example.errorhandler.infrastructure.filter.AcceptLanguageResolver;
+import com.example.errorhandler.infrastructure.i18n.CatalogMessageSource;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import com.example.errorhandler.infrastructure.i18n.MessageCatalog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Exercises the error path for every supported locale once all singletons are created, i.e. before
+ * the web server accepts requests. Every code of the catalog is resolved, the localized messages of
+ * every {@link LocalizedExceptionTypes} and every constraint message are cached, the supported
+ * {@code Accept-Language} values are negotiated, and a problem detail is encoded in every format.
+ * This way the first error of each locale neither loads locale data nor initializes Jackson
+ * serializers on a Netty event-loop thread. A {@link MessageCatalog#isLazy() lazy} catalog, i.e.
+ * the compiled binary catalog, is not resolved code by code, since that would decode every message
+ * it exists to leave untouched; only the exception types and constraint messages are warmed up then.
+ * It can be disabled with {@code error-path.warmup.enabled=false}.
+ */
+@Slf4j
+@Component
+public class ErrorPathWarmup implements SmartInitializingSingleton {
+
+    private static final String VALIDATION_CODE_PREFIX = "validation.exception.";
+
+    private final CatalogMessageSource messageSource;
+    private final List<Locale> supportedLocales;
+    private final LocaleFallbackChains localeFallbackChains;
+    private final AcceptLanguageResolver acceptLanguageResolver;
+    private final ValidationErrorLocalizer validationErrorLocalizer;
+    private final ProblemDetailWriter problemDetailWriter;
+    private final boolean enabled;
+
+    public ErrorPathWarmup(CatalogMessageSource messageSource, LocaleConfig localeConfig, LocaleFallbackChains localeFallbackChains,
+                           AcceptLanguageResolver acceptLanguageResolver, ValidationErrorLocalizer validationErrorLocalizer,
+                           ProblemDetailWriter problemDetailWriter, @Value("${error-path.warmup.enabled:true}") boolean enabled) {
+        this.messageSource = messageSource;
+        this.supportedLocales = localeConfig.getSupportedLocales();
+        this.localeFallbackChains = localeFallbackChains;
+        this.acceptLanguageResolver = acceptLanguageResolver;
+        this.validationErrorLocalizer = validationErrorLocalizer;
+        this.problemDetailWriter = problemDetailWriter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Runs the warm-up for the current catalog.
+     */
+    public void warmUp() {
+        long start = System.nanoTime();
+        Set<Locale> locales = new LinkedHashSet<>(supportedLocales);
+        locales.add(Locale.ENGLISH);
+        MessageCatalog catalog = messageSource.getCatalog();
+        Set<String> codes = catalog.getCodes(Locale.ENGLISH);
+        List<String> validationCodes = codes.stream().filter(code -> code.startsWith(VALIDATION_CODE_PREFIX)).toList();
+        for (Locale locale : locales) {
+            acceptLanguageResolver.resolve(locale.toLanguageTag());
+            if (!catalog.isLazy()) {
+                codes.forEach(code -> messageSource.getMessage(code, null, null, locale));
+            }
+            for (LocalizedExceptionTypes type : LocalizedExceptionTypes.values()) {
+                new LocalizedException(type).localize(messageSource, locale, localeFallbackChains, LocalizationFallbackListener.NONE);
+            }
+            validationErrorLocalizer.preload(validationCodes, locale);
+        }
+        ProblemDetail problemDetail = new ProblemDetailBuilder(HttpStatus.BAD_REQUEST, "warm-up")
+                .title("warm-up")
+                .errors(List.of(new ApiErrorDetails("/warm-up", "warm-up")))
+                .timestamp("warm-up")
+                .build();
+        for (ProblemDetailWriter.Format format : ProblemDetailWriter.Format.values()) {
+            try {
+                problemDetailWriter.encode(problemDetail, format);
+            } catch (JsonProcessingException ex) {
+                log.warn("Cannot warm up the {} encoding of problem details", format, ex);
+            }
+        }
+        log.info("Warmed up the error path for locales {} in {} ms", locales, (System.nanoTime() - start) / 1_000_000);
+    }
+}
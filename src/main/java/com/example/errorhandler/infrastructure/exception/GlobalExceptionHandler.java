@@ -1,19 +1,21 @@
 package com.example.errorhandler.infrastructure.exception;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
-import org.springframework.http.HttpStatus;
+import com.example.errorhandler.domain.constants.ContextConstants;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import com.example.errorhandler.infrastructure.i18n.TenantMessageOverlays;
+import com.example.errorhandler.infrastructure.logging.ErrorEventLogger;
+import com.example.errorhandler.infrastructure.metrics.ErrorMetrics;
 import org.springframework.http.ProblemDetail;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.stream.Collectors;
-
-import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import java.util.Locale;
 
 /**
  * Global exception handler for the application.
@@ -23,53 +25,131 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
  * It specifically handles:
  * - {@link LocalizedException}: Custom business exceptions with localized messages.
  * - {@link WebExchangeBindException}: Exceptions thrown during validation failures.
+ * All other exceptions are rendered by the {@link ProblemDetailWebExceptionHandler}.
  */
-@Slf4j
 @ControllerAdvice
-@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
-    private final MessageSource messageSource;
+    private final TenantMessageOverlays tenantMessageOverlays;
+    private final ProblemDetailTemplates problemDetailTemplates;
+    private final ProblemDetailWriter problemDetailWriter;
+    private final ProblemTimestampProvider timestampProvider;
+    private final ErrorMetrics errorMetrics;
+    private final ValidationErrorLocalizer validationErrorLocalizer;
+    private final ValidationBudget validationBudget;
+    private final ErrorEventLogger errorEventLogger;
+    private final LocaleFallbackChains localeFallbackChains;
+    private final LocalizationFallbackListener fallbackListener;
+
+    public GlobalExceptionHandler(TenantMessageOverlays tenantMessageOverlays, ProblemDetailTemplates problemDetailTemplates,
+                                  ProblemDetailWriter problemDetailWriter, ProblemTimestampProvider timestampProvider,
+                                  ErrorMetrics errorMetrics, ValidationErrorLocalizer validationErrorLocalizer,
+                                  ValidationBudget validationBudget, ErrorEventLogger errorEventLogger,
+                                  LocaleFallbackChains localeFallbackChains) {
+        this.tenantMessageOverlays = tenantMessageOverlays;
+        this.problemDetailTemplates = problemDetailTemplates;
+        this.problemDetailWriter = problemDetailWriter;
+        this.timestampProvider = timestampProvider;
+        this.errorMetrics = errorMetrics;
+        this.validationErrorLocalizer = validationErrorLocalizer;
+        this.validationBudget = validationBudget;
+        this.errorEventLogger = errorEventLogger;
+        this.localeFallbackChains = localeFallbackChains;
+        this.fallbackListener = errorMetrics.andThen(errorEventLogger);
+    }
 
     /**
      * Handles custom business exceptions of type {@link LocalizedException}.
-     * Retrieves localized error messages and constructs a {@link ProblemDetail}
-     * response accordingly.
+     * Exceptions negotiated as JSON whose message does not depend on arguments are written from a pre-serialized
+     * {@link ProblemDetailTemplate} of their type and the request locale, unless the tenant of the request has a
+     * message overlay; see {@link #canWriteFromTemplate}. All others
+     * retrieve localized error messages, with the tenant's overrides, and construct a {@link ProblemDetail}
+     * response accordingly. Both paths run synchronously on the calling thread with the locale and tenant
+     * the filters stored in the exchange; the only {@link Mono} is the one writing the response.
      *
-     * @param ex the thrown {@link LocalizedException}
-     * @return a {@link Mono} emitting the {@link ProblemDetail} response
+     * @param ex       the thrown {@link LocalizedException}
+     * @param exchange the current server exchange
+     * @return a {@link Mono} that completes when the {@link ProblemDetail} response has been written
      */
     @ExceptionHandler(LocalizedException.class)
-    public Mono<ProblemDetail> handleBusinessException(LocalizedException ex) {
-        return ex.getLocalizedMessage(messageSource)
-                .flatMap(localizedMessageAndTitle -> {
-                    HttpStatus status = ex.getStatus();
-                    ProblemDetail problemDetail = new ProblemDetailBuilder(status, localizedMessageAndTitle.get("message"))
-                            .title(localizedMessageAndTitle.get("title"))
-                            .build();
-                    return Mono.just(problemDetail);
-                });
+    public Mono<Void> handleBusinessException(LocalizedException ex, ServerWebExchange exchange) {
+        long start = System.nanoTime();
+        Locale locale = exchange.getAttributeOrDefault(ContextConstants.LOCALE_EXCHANGE_ATTRIBUTE, Locale.ENGLISH);
+        String tenant = exchange.getAttribute(ContextConstants.TENANT_EXCHANGE_ATTRIBUTE);
+        Mono<Void> response;
+        if (canWriteFromTemplate(ex, tenant, exchange)) {
+            ProblemDetailTemplate template = problemDetailTemplates.get(ex.getType(), locale);
+            if (template.getFallback() != null) {
+                fallbackListener.onFallback(ex.getType(), locale, template.getFallback());
+            }
+            response = problemDetailWriter.write(exchange, ex.getStatus(), template, timestampProvider.nowAsBytes(), ex.getType().name());
+        } else {
+            response = problemDetailWriter.write(exchange, toProblemDetail(ex, locale, tenant), ex.getType().name());
+        }
+        errorMetrics.recordBusinessError(ex.getType(), locale, System.nanoTime() - start);
+        return response;
+    }
+
+    /**
+     * Decides whether a business exception is written from its pre-serialized template, which renders
+     * the same bytes as {@link #toProblemDetail} would: the response is JSON, the tenant has no overlay,
+     * and the exception has no arguments or its type's messages do not use them.
+     *
+     * @param ex       the thrown {@link LocalizedException}
+     * @param tenant   the tenant of the request, may be {@code null}
+     * @param exchange the current server exchange
+     * @return {@code true} if the template of the exception type can be written
+     */
+    boolean canWriteFromTemplate(LocalizedException ex, @Nullable String tenant, ServerWebExchange exchange) {
+        return (!ex.hasArguments() || problemDetailTemplates.isArgumentIndependent(ex.getType()))
+                && !tenantMessageOverlays.hasOverlay(tenant)
+                && problemDetailWriter.negotiate(exchange) == ProblemDetailWriter.Format.JSON;
+    }
+
+    /**
+     * Builds the localized problem detail of a business exception.
+     *
+     * @param ex     the thrown {@link LocalizedException}
+     * @param locale the request locale
+     * @param tenant the tenant of the request, may be {@code null}
+     * @return the {@link ProblemDetail} with the status of the exception type
+     */
+    public ProblemDetail toProblemDetail(LocalizedException ex, Locale locale, @Nullable String tenant) {
+        LocalizedMessage localizedMessage = ex.localize(tenantMessageOverlays.messageSourceFor(tenant), locale, localeFallbackChains, fallbackListener);
+        return new ProblemDetailBuilder(ex.getStatus(), localizedMessage.message())
+                .title(localizedMessage.title())
+                .timestamp(timestampProvider.now())
+                .describing(ex.getType().name(), locale)
+                .build();
     }
 
     /**
      * Handles validation exceptions of type {@link WebExchangeBindException}.
-     * Extracts field errors and constructs a {@link ProblemDetail} response with
-     * detailed validation errors.
+     * Extracts field errors, localizes them for the locale and tenant of the reactor context and constructs
+     * a {@link ProblemDetail} response with detailed validation errors. At most as many errors as
+     * the {@link ValidationBudget} allows are rendered; if some are left out, the problem detail
+     * is marked as truncated. The response is encoded as negotiated by the {@link ProblemDetailWriter}.
      *
-     * @param ex the thrown {@link WebExchangeBindException}
-     * @return a {@link Mono} emitting the {@link ProblemDetail} response
+     * @param ex       the thrown {@link WebExchangeBindException}
+     * @param exchange the current server exchange
+     * @return a {@link Mono} that completes when the {@link ProblemDetail} response has been written
      */
     @ExceptionHandler(WebExchangeBindException.class)
-    public Mono<ProblemDetail> handleValidationException(WebExchangeBindException ex) {
-        log.info("Handling WebExchangeBindException: {}", ex.getMessage());
-        List<ApiErrorDetails> errors = ex.getFieldErrors().stream()
-                .map(fieldError -> new ApiErrorDetails(fieldError.getField(), fieldError.getDefaultMessage()))
-                .collect(Collectors.toList());
-        ProblemDetail problemDetail = new ProblemDetailBuilder(BAD_REQUEST, "Validation failed.")
-                .title("Validation Error")
-                .errors(errors)
-                .build();
-        return Mono.just(problemDetail);
+    public Mono<Void> handleValidationException(WebExchangeBindException ex, ServerWebExchange exchange) {
+        return Mono.deferContextual(contextView -> {
+            long start = System.nanoTime();
+            Locale locale = contextView.getOrDefault(ContextConstants.ACCEPT_LANGUAGE_CONTEXT_KEY,
+                    exchange.getAttributeOrDefault(ContextConstants.LOCALE_EXCHANGE_ATTRIBUTE, Locale.ENGLISH));
+            String tenant = contextView.getOrDefault(ContextConstants.TENANT_CONTEXT_KEY,
+                    exchange.getAttribute(ContextConstants.TENANT_EXCHANGE_ATTRIBUTE));
+            errorEventLogger.record(ErrorEventLogger.Category.VALIDATION, ex.getObjectName(), locale, "VALIDATION",
+                    "Request body failed validation");
+            List<FieldError> fieldErrors = ex.getFieldErrors();
+            ProblemDetail problemDetail = validationErrorLocalizer.toProblemDetail(fieldErrors, locale, tenant, validationBudget, timestampProvider.now());
+            Mono<Void> response = problemDetailWriter.write(exchange, problemDetail, ValidationErrorLocalizer.VALIDATION_EXCEPTION_TYPE);
+            errorMetrics.recordValidationError(locale, fieldErrors.size(), System.nanoTime() - start);
+            return response;
+        });
     }
 
 }
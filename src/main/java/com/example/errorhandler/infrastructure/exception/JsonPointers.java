@@ -0,0 +1,58 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Converts Spring property paths, e.g. {@code items[3].name} or {@code attributes[color]},
+ * into RFC 6901 JSON pointers, e.g. {@code /items/3/name} or {@code /attributes/color}.
+ */
+@UtilityClass
+public class JsonPointers {
+
+    /**
+     * Converts the given property path into a JSON pointer.
+     *
+     * @param propertyPath the property path of a field error
+     * @return the JSON pointer, {@code ""} for an empty path
+     */
+    public String fromPropertyPath(String propertyPath) {
+        StringBuilder pointer = new StringBuilder(propertyPath.length() + 4);
+        int i = 0;
+        while (i < propertyPath.length()) {
+            char c = propertyPath.charAt(i);
+            if (c == '.') {
+                i++;
+                continue;
+            }
+            int end;
+            if (c == '[') {
+                int close = propertyPath.indexOf(']', i);
+                end = close < 0 ? propertyPath.length() : close;
+                appendSegment(pointer, propertyPath, i + 1, end);
+                i = end + 1;
+            } else {
+                end = i;
+                while (end < propertyPath.length() && propertyPath.charAt(end) != '.' && propertyPath.charAt(end) != '[') {
+                    end++;
+                }
+                appendSegment(pointer, propertyPath, i, end);
+                i = end;
+            }
+        }
+        return pointer.toString();
+    }
+
+    private void appendSegment(StringBuilder pointer, String propertyPath, int start, int end) {
+        pointer.append('/');
+        for (int i = start; i < end; i++) {
+            char c = propertyPath.charAt(i);
+            if (c == '~') {
+                pointer.append("~0");
+            } else if (c == '/') {
+                pointer.append("~1");
+            } else {
+                pointer.append(c);
+            }
+        }
+    }
+}
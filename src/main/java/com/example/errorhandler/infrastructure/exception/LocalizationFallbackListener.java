@@ -0,0 +1,46 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+
+import java.util.Locale;
+
+/**
+ * Callback notified when {@link LocalizedException} cannot resolve its messages for the
+ * requested locale and falls back to English or to the hard-coded default messages.
+ */
+@FunctionalInterface
+public interface LocalizationFallbackListener {
+
+    LocalizationFallbackListener NONE = (type, requestedLocale, fallback) -> {
+    };
+
+    /**
+     * The fallback that was applied.
+     */
+    enum Fallback {
+        ENGLISH,
+        DEFAULT
+    }
+
+    /**
+     * Invoked once per resolution that needed a fallback.
+     *
+     * @param type            the type of the exception being localized
+     * @param requestedLocale the locale the messages were requested for
+     * @param fallback        the fallback that produced the messages
+     */
+    void onFallback(LocalizedExceptionTypes type, Locale requestedLocale, Fallback fallback);
+
+    /**
+     * Returns a listener that notifies this listener and then the given one.
+     *
+     * @param next the listener to notify after this one
+     * @return the composed listener
+     */
+    default LocalizationFallbackListener andThen(LocalizationFallbackListener next) {
+        return (type, requestedLocale, fallback) -> {
+            onFallback(type, requestedLocale, fallback);
+            next.onFallback(type, requestedLocale, fallback);
+        };
+    }
+}
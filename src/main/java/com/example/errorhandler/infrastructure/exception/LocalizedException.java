@@ -3,13 +3,19 @@ package com.example.errorhandler.infrastructure.exception;
 
 import com.example.errorhandler.domain.constants.ContextConstants;
 import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.i18n.CatalogMessageSource;
+import com.example.errorhandler.infrastructure.i18n.ErrorMessageSource;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChain;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import com.example.errorhandler.infrastructure.jfr.LocalizedExceptionCreationEvent;
+import com.example.errorhandler.infrastructure.jfr.MessageLookupEvent;
 import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
-import org.springframework.context.NoSuchMessageException;
 import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -20,22 +26,73 @@ import java.util.Map;
  * context to propagate locale information throughout the reactive chain.
  * When thrown, this exception can generate localized error messages using a
  * {@link MessageSource}, and it supports fallback mechanisms in case a localized
- * message is not found for the specified locale.
+ * message is not found for the specified locale: messages are looked up along the precomputed
+ * {@link LocaleFallbackChain} of the locale, taken from the application's {@link LocaleFallbackChains}
+ * on the error path, without using exceptions for control flow.
+ * Depending on the {@link StackTracePolicy}, instances may be created without a stack trace.
+ * Applied fallbacks are not logged here but reported to a {@link LocalizationFallbackListener},
+ * so they can be logged off the request thread.
+ * Creation and message lookups are reported as Java Flight Recorder events when those are enabled.
  */
-@Slf4j
 public class LocalizedException extends RuntimeException {
 
-    private final String errorMessageKey;
-    private final String errorTitleKey;
+    /**
+     * The chains used without the application's {@link LocaleFallbackChains}, falling back to English.
+     */
+    private static final LocaleFallbackChains ENGLISH_FALLBACK_CHAINS = new LocaleFallbackChains(List.of(), Locale.ENGLISH);
+
     private final Object[] args;
     @Getter
+    private final LocalizedExceptionTypes type;
+    @Getter
     private final HttpStatus status;
 
+    /**
+     * Creates a new exception of the given type. Whether a stack trace is captured and suppressed
+     * exceptions are recorded is decided by the {@linkplain StackTracePolicy#current() current}
+     * {@link StackTracePolicy}.
+     *
+     * @param localizedExceptionTypes the type of the exception
+     * @param args                    the arguments for the localized message
+     */
     public LocalizedException(LocalizedExceptionTypes localizedExceptionTypes, Object... args) {
-        this.errorMessageKey = localizedExceptionTypes.getErrorMessageKey();
-        this.errorTitleKey = localizedExceptionTypes.getErrorTitleKey();
+        this(StackTracePolicy.current(), localizedExceptionTypes, args);
+    }
+
+    /**
+     * Creates a new exception of the given type following the given {@link StackTracePolicy}.
+     *
+     * @param stackTracePolicy        decides whether a stack trace is captured and suppressed exceptions are recorded
+     * @param localizedExceptionTypes the type of the exception
+     * @param args                    the arguments for the localized message
+     */
+    public LocalizedException(StackTracePolicy stackTracePolicy, LocalizedExceptionTypes localizedExceptionTypes, Object... args) {
+        this(stackTracePolicy, localizedExceptionTypes, args, beginCreationEvent());
+    }
+
+    private LocalizedException(StackTracePolicy stackTracePolicy, LocalizedExceptionTypes localizedExceptionTypes, Object[] args,
+                               LocalizedExceptionCreationEvent event) {
+        super(null, null,
+                stackTracePolicy.isSuppressionEnabled(localizedExceptionTypes),
+                stackTracePolicy.isWritableStackTrace(localizedExceptionTypes));
+        this.type = localizedExceptionTypes;
         this.status = localizedExceptionTypes.getStatus();
         this.args = args;
+        event.end();
+        if (event.shouldCommit()) {
+            event.exceptionType = localizedExceptionTypes.name();
+            event.stackTraceCaptured = stackTracePolicy.isWritableStackTrace(localizedExceptionTypes);
+            event.commit();
+        }
+    }
+
+    /**
+     * Begins the creation event before the superclass constructor captures the stack trace.
+     */
+    private static LocalizedExceptionCreationEvent beginCreationEvent() {
+        LocalizedExceptionCreationEvent event = new LocalizedExceptionCreationEvent();
+        event.begin();
+        return event;
     }
 
     /**
@@ -52,28 +109,108 @@ public class LocalizedException extends RuntimeException {
     public Mono<Map<String, String>> getLocalizedMessage(MessageSource messageSource) {
         return Mono.deferContextual(contextView -> {
             Locale locale = contextView.getOrDefault(ContextConstants.ACCEPT_LANGUAGE_CONTEXT_KEY, Locale.ENGLISH);
+            return Mono.just(localize(messageSource, locale, LocalizationFallbackListener.NONE).toMap());
+        });
+    }
+
+    /**
+     * Resolves the localized error message and title for the given locale synchronously, applying
+     * the same English and default fallbacks as {@link #getLocalizedMessage(MessageSource)} and
+     * notifying the given listener when a fallback is applied.
+     * @param messageSource The {@link MessageSource} used to retrieve localized messages.
+     * @param locale The locale to resolve the messages for.
+     * @param fallbackListener The listener notified about English or default fallbacks.
+     * @return The {@link LocalizedMessage}.
+     */
+    public LocalizedMessage localize(MessageSource messageSource, Locale locale, LocalizationFallbackListener fallbackListener) {
+        return localize(messageSource, locale, ENGLISH_FALLBACK_CHAINS, fallbackListener);
+    }
+
+    /**
+     * Same as {@link #localize(MessageSource, Locale, LocalizationFallbackListener)}, looking the
+     * messages up along the given chains. This is what the error handlers use.
+     * @param messageSource The {@link MessageSource} used to retrieve localized messages.
+     * @param locale The locale to resolve the messages for.
+     * @param chains The precomputed fallback chains of the application.
+     * @param fallbackListener The listener notified about English or default fallbacks.
+     * @return The {@link LocalizedMessage}.
+     */
+    LocalizedMessage localize(MessageSource messageSource, Locale locale, LocaleFallbackChains chains,
+                              LocalizationFallbackListener fallbackListener) {
+        LocaleFallbackChain chain = chains.forLocale(locale);
+        MessageLookupEvent event = new MessageLookupEvent();
+        if (!event.isEnabled()) {
+            return resolve(type, args, messageSource, chain, locale, fallbackListener);
+        }
+        event.begin();
+        LocalizationFallbackListener.Fallback[] appliedFallback = new LocalizationFallbackListener.Fallback[1];
+        LocalizedMessage localizedMessage = resolve(type, args, messageSource, chain, locale, (fallbackType, requestedLocale, fallback) -> {
+            appliedFallback[0] = fallback;
+            fallbackListener.onFallback(fallbackType, requestedLocale, fallback);
+        });
+        event.end();
+        if (event.shouldCommit()) {
+            event.exceptionType = type.name();
+            event.locale = locale.toLanguageTag();
+            event.fallback = appliedFallback[0] != null;
+            event.fallbackTarget = appliedFallback[0] != null ? appliedFallback[0].name() : null;
+            event.commit();
+        }
+        return localizedMessage;
+    }
+
+    /**
+     * Resolves the localized error message and title of the given type along the given
+     * {@link LocaleFallbackChain} of the locale, e.g. {@code fr-CA -> fr -> en}, and falls back to
+     * default messages at its end. Misses are answered with {@code null} by the message source, so no
+     * {@link org.springframework.context.NoSuchMessageException} is created. An {@link ErrorMessageSource},
+     * such as the {@link CatalogMessageSource}, is probed by type and applies the {@link java.text.MessageFormat}
+     * rules with and without arguments; any other {@link MessageSource} is asked for the keys of the type.
+     * @param type The exception type.
+     * @param args The arguments for the localized message, may be {@code null}.
+     * @param messageSource The {@link MessageSource} used to retrieve localized messages.
+     * @param chain The fallback chain of the locale.
+     * @param locale The locale to resolve the messages for.
+     * @param fallbackListener The listener notified about English or default fallbacks.
+     * @return The {@link LocalizedMessage}.
+     */
+    static LocalizedMessage resolve(LocalizedExceptionTypes type, @Nullable Object[] args, MessageSource messageSource,
+                                    LocaleFallbackChain chain, Locale locale, LocalizationFallbackListener fallbackListener) {
+        ErrorMessageSource errorMessageSource = messageSource instanceof ErrorMessageSource source ? source : null;
+        for (int i = 0; i < chain.size(); i++) {
+            Locale candidate = chain.get(i);
             String localizedMessage;
-            String localizedTitle;
-            try {
-                localizedMessage = messageSource.getMessage(errorMessageKey, args, locale);
-                localizedTitle = messageSource.getMessage(errorTitleKey, args, locale);
-            } catch (NoSuchMessageException exception) {
-                log.error("Can't find the localized message for errorMessageKey: {} and for the locale: {}. Falling back to English locale.", errorMessageKey, locale);
-                try {
-                    localizedMessage = messageSource.getMessage(errorMessageKey, args, Locale.ENGLISH);
-                    localizedTitle = messageSource.getMessage(errorTitleKey, args, Locale.ENGLISH);
-                } catch (NoSuchMessageException englishFallbackException) {
-                    log.error("Can't find the English fallback message for errorMessageKey: {}. Returning default message.", errorMessageKey);
-                    localizedMessage = "An unexpected error occurred.";
-                    localizedTitle = "Error";
+            String localizedTitle = null;
+            if (errorMessageSource != null) {
+                localizedMessage = errorMessageSource.getErrorMessage(type, args, candidate);
+                if (localizedMessage != null) {
+                    localizedTitle = errorMessageSource.getErrorTitle(type, args, candidate);
+                }
+            } else {
+                localizedMessage = messageSource.getMessage(type.getErrorMessageKey(), args, null, candidate);
+                if (localizedMessage != null) {
+                    localizedTitle = messageSource.getMessage(type.getErrorTitleKey(), args, null, candidate);
                 }
             }
-            Map<String, String> localizedMessages = Map.of(
-                "message", localizedMessage,
-                "title", localizedTitle
-            );
-            return Mono.just(localizedMessages);
-        });
+            if (localizedTitle != null) {
+                if (chain.isFallback(i)) {
+                    fallbackListener.onFallback(type, locale, LocalizationFallbackListener.Fallback.ENGLISH);
+                }
+                return new LocalizedMessage(localizedMessage, localizedTitle);
+            }
+        }
+        fallbackListener.onFallback(type, locale, LocalizationFallbackListener.Fallback.DEFAULT);
+        return LocalizedMessage.DEFAULT;
+    }
+
+    /**
+     * Indicates whether this exception carries message arguments. Exceptions without arguments,
+     * like those whose type's messages have no argument placeholders, always render the same
+     * message for a given type and locale.
+     * @return {@code true} if message arguments were supplied
+     */
+    public boolean hasArguments() {
+        return args != null && args.length > 0;
     }
 
 }
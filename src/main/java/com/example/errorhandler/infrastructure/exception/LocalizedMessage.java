@@ -0,0 +1,27 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import java.util.Map;
+
+/**
+ * The localized message and title of a {@link LocalizedException}, i.e. the {@code detail} and
+ * {@code title} of its problem detail.
+ *
+ * @param message the localized message
+ * @param title   the localized title
+ */
+public record LocalizedMessage(String message, String title) {
+
+    /**
+     * The message and title used when neither the requested locale nor English defines them.
+     */
+    public static final LocalizedMessage DEFAULT = new LocalizedMessage("An unexpected error occurred.", "Error");
+
+    /**
+     * Returns the message and title in the form of the map-based API of {@link LocalizedException}.
+     *
+     * @return an immutable map with the entries {@code message} and {@code title}
+     */
+    public Map<String, String> toMap() {
+        return Map.of("message", message, "title", title);
+    }
+}
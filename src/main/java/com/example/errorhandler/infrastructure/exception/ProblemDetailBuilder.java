@@ -1,19 +1,28 @@
 package com.example.errorhandler.infrastructure.exception;
 
 import com.example.errorhandler.domain.constants.ExceptionConstants;
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.jfr.ProblemDetailBuildEvent;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 
 import java.net.URI;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Clock;
 import java.util.List;
+import java.util.Locale;
 
 public class ProblemDetailBuilder {
+    private static final ProblemTimestampProvider DEFAULT_TIMESTAMP_PROVIDER =
+            new ProblemTimestampProvider(Clock.systemDefaultZone(), ProblemTimestampProvider.Format.LOCAL_SECONDS);
+
     private final HttpStatus status;
     private final String detail;
     private String title;
     private List<ApiErrorDetails> errors;
+    private String timestamp;
+    private Integer totalErrors;
+    private String exceptionType;
+    private Locale locale;
 
     public ProblemDetailBuilder(HttpStatus status, String detail) {
         this.status = status;
@@ -30,7 +39,47 @@ public class ProblemDetailBuilder {
         return this;
     }
 
+    /**
+     * Marks the {@code errors} as truncated, adding {@code truncated} and {@code totalErrors}
+     * properties to the problem detail.
+     *
+     * @param totalErrors the number of errors before truncation
+     * @return this builder
+     */
+    public ProblemDetailBuilder truncated(int totalErrors) {
+        this.totalErrors = totalErrors;
+        return this;
+    }
+
+    /**
+     * Sets the timestamp, usually taken from the shared {@link ProblemTimestampProvider}.
+     * If not set, the current local time with second resolution is used.
+     *
+     * @param timestamp the formatted timestamp
+     * @return this builder
+     */
+    public ProblemDetailBuilder timestamp(String timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    /**
+     * Names the exception type and locale the problem detail is built for. They are not rendered,
+     * only reported with the {@link ProblemDetailBuildEvent}.
+     *
+     * @param exceptionType the exception type, e.g. a {@link LocalizedExceptionTypes} name
+     * @param locale        the request locale
+     * @return this builder
+     */
+    public ProblemDetailBuilder describing(String exceptionType, Locale locale) {
+        this.exceptionType = exceptionType;
+        this.locale = locale;
+        return this;
+    }
+
     public ProblemDetail build() {
+        ProblemDetailBuildEvent event = new ProblemDetailBuildEvent();
+        event.begin();
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
 
         if (title != null) {
@@ -41,13 +90,25 @@ public class ProblemDetailBuilder {
 
         problemDetail.setType(URI.create(ExceptionConstants.MOZILLA_DEVELOPER_BASE_URI.toString() + status.value()));
 
-        String timestamp = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss").format(LocalDateTime.now());
-        problemDetail.setProperty("timestamp", timestamp);
+        problemDetail.setProperty("timestamp", timestamp != null ? timestamp : DEFAULT_TIMESTAMP_PROVIDER.now());
 
         if (errors != null && !errors.isEmpty()) {
             problemDetail.setProperty("errors", errors);
         }
 
+        if (totalErrors != null) {
+            problemDetail.setProperty("truncated", true);
+            problemDetail.setProperty("totalErrors", totalErrors);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.exceptionType = exceptionType;
+            event.locale = locale != null ? locale.toLanguageTag() : null;
+            event.status = status.value();
+            event.errors = errors != null ? errors.size() : 0;
+            event.commit();
+        }
         return problemDetail;
     }
 }
@@ -0,0 +1,127 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.ProblemDetail;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A pre-serialized RFC 9457 JSON body with two splice points, one for the {@code instance}
+ * member and one for the {@code timestamp} property. The template is produced by serializing a
+ * {@link ProblemDetail} with placeholder values through the application's {@link ObjectMapper},
+ * so the spliced output is byte-for-byte identical to what Jackson would write for the same values.
+ */
+public final class ProblemDetailTemplate {
+
+    static final String INSTANCE_PLACEHOLDER = "__problem_instance__";
+    static final String TIMESTAMP_PLACEHOLDER = "__problem_timestamp__";
+
+    private final byte[] head;
+    private final byte[] middle;
+    private final byte[] tail;
+    private final LocalizationFallbackListener.Fallback fallback;
+
+    private ProblemDetailTemplate(byte[] head, byte[] middle, byte[] tail, LocalizationFallbackListener.Fallback fallback) {
+        this.head = head;
+        this.middle = middle;
+        this.tail = tail;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Renders the given problem detail into a template. The {@code instance} and {@code timestamp}
+     * values of the problem detail are replaced by placeholders.
+     *
+     * @param objectMapper  the mapper that would otherwise serialize the response
+     * @param problemDetail the problem detail to render
+     * @return the rendered {@link ProblemDetailTemplate}
+     * @throws JsonProcessingException if the problem detail cannot be serialized
+     */
+    public static ProblemDetailTemplate render(ObjectMapper objectMapper, ProblemDetail problemDetail) throws JsonProcessingException {
+        return render(objectMapper, problemDetail, null);
+    }
+
+    /**
+     * Renders the given problem detail into a template, remembering the localization fallback
+     * its messages were resolved with, so it can still be reported for every response.
+     *
+     * @param objectMapper  the mapper that would otherwise serialize the response
+     * @param problemDetail the problem detail to render
+     * @param fallback      the fallback applied while resolving the messages, or {@code null}
+     * @return the rendered {@link ProblemDetailTemplate}
+     * @throws JsonProcessingException if the problem detail cannot be serialized
+     */
+    public static ProblemDetailTemplate render(ObjectMapper objectMapper, ProblemDetail problemDetail,
+                                               LocalizationFallbackListener.Fallback fallback) throws JsonProcessingException {
+        problemDetail.setInstance(URI.create(INSTANCE_PLACEHOLDER));
+        problemDetail.setProperty("timestamp", TIMESTAMP_PLACEHOLDER);
+        byte[] json = objectMapper.writeValueAsBytes(problemDetail);
+        byte[] instancePlaceholder = INSTANCE_PLACEHOLDER.getBytes(StandardCharsets.US_ASCII);
+        byte[] timestampPlaceholder = TIMESTAMP_PLACEHOLDER.getBytes(StandardCharsets.US_ASCII);
+        int instance = indexOf(json, instancePlaceholder, 0);
+        int timestamp = indexOf(json, timestampPlaceholder, instance + instancePlaceholder.length);
+        if (instance < 0 || timestamp < 0) {
+            throw new IllegalStateException("Unexpected problem detail layout: " + new String(json, StandardCharsets.UTF_8));
+        }
+        return new ProblemDetailTemplate(
+                Arrays.copyOfRange(json, 0, instance),
+                Arrays.copyOfRange(json, instance + instancePlaceholder.length, timestamp),
+                Arrays.copyOfRange(json, timestamp + timestampPlaceholder.length, json.length),
+                fallback);
+    }
+
+    /**
+     * Returns the localization fallback the messages of this template were resolved with.
+     *
+     * @return the applied fallback, or {@code null} if the messages were found for the locale
+     */
+    public LocalizationFallbackListener.Fallback getFallback() {
+        return fallback;
+    }
+
+    /**
+     * Computes the size of the body for the given splice values.
+     *
+     * @param instance  the JSON-escaped UTF-8 bytes of the {@code instance} value
+     * @param timestamp the JSON-escaped UTF-8 bytes of the {@code timestamp} value
+     * @return the body size in bytes
+     */
+    public int length(byte[] instance, byte[] timestamp) {
+        return head.length + instance.length + middle.length + timestamp.length + tail.length;
+    }
+
+    /**
+     * Writes the body into a single, exactly sized buffer.
+     *
+     * @param bufferFactory the factory of the response
+     * @param instance      the JSON-escaped UTF-8 bytes of the {@code instance} value
+     * @param timestamp     the JSON-escaped UTF-8 bytes of the {@code timestamp} value
+     * @return the buffer holding the complete body
+     */
+    public DataBuffer write(DataBufferFactory bufferFactory, byte[] instance, byte[] timestamp) {
+        return bufferFactory.allocateBuffer(length(instance, timestamp))
+                .write(head)
+                .write(instance)
+                .write(middle)
+                .write(timestamp)
+                .write(tail);
+    }
+
+    private static int indexOf(byte[] source, byte[] target, int from) {
+        outer:
+        for (int i = Math.max(0, from); i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.config.LocaleConfig;
+import com.example.errorhandler.infrastructure.i18n.CatalogMessageSource;
+import com.example.errorhandler.infrastructure.i18n.CatalogSnapshotExtension;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.MessageSource;
+import org.springframework.http.ProblemDetail;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the pre-serialized {@link ProblemDetailTemplate} of every {@link LocalizedExceptionTypes}
+ * per locale. Since the title, detail, type and status of an arg-less {@link LocalizedException}
+ * only depend on its type and the request locale, each combination is rendered once. The same holds
+ * for exceptions with arguments if the messages of their type have no placeholders. Templates for
+ * the supported locales are rendered eagerly at startup, others on first use.
+ * With a {@link CatalogMessageSource}, the templates are a {@link CatalogSnapshotExtension}: the
+ * templates of a new catalog are rendered before it is published and swapped in with it, so the
+ * templates never serve other text than the messages of the active catalog.
+ */
+@Component
+public class ProblemDetailTemplates {
+
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final List<Locale> supportedLocales;
+    private final LocaleFallbackChains localeFallbackChains;
+    private final CatalogSnapshotExtension<RenderedTemplates> extension = this::renderAll;
+    @Nullable
+    private final RenderedTemplates fixedTemplates;
+
+    @Autowired
+    public ProblemDetailTemplates(MessageSource messageSource, ObjectMapper objectMapper, LocaleConfig localeConfig,
+                                  LocaleFallbackChains localeFallbackChains) {
+        this(messageSource, objectMapper, localeConfig.getSupportedLocales(), localeFallbackChains);
+    }
+
+    ProblemDetailTemplates(MessageSource messageSource, ObjectMapper objectMapper, List<Locale> supportedLocales,
+                           LocaleFallbackChains localeFallbackChains) {
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+        this.supportedLocales = supportedLocales;
+        this.localeFallbackChains = localeFallbackChains;
+        if (messageSource instanceof CatalogMessageSource catalogMessageSource) {
+            catalogMessageSource.register(extension);
+            this.fixedTemplates = null;
+        } else {
+            this.fixedTemplates = renderAll(messageSource);
+        }
+    }
+
+    /**
+     * Returns the template for the given type and locale.
+     *
+     * @param type   the exception type
+     * @param locale the resolved request locale
+     * @return the {@link ProblemDetailTemplate} for an arg-less exception of that type
+     */
+    public ProblemDetailTemplate get(LocalizedExceptionTypes type, Locale locale) {
+        RenderedTemplates rendered = fixedTemplates != null
+                ? fixedTemplates
+                : ((CatalogMessageSource) messageSource).getSnapshot().extension(extension);
+        ConcurrentMap<Locale, ProblemDetailTemplate> byLocale = rendered.templates().get(type);
+        ProblemDetailTemplate template = byLocale.get(locale);
+        return template != null ? template : byLocale.computeIfAbsent(locale, l -> render(rendered.messageSource(), type, l));
+    }
+
+    /**
+     * Indicates whether the template of the given type also serves exceptions with arguments, which is
+     * the case when none of the type's titles and messages has an argument placeholder.
+     *
+     * @param type the exception type
+     * @return {@code true} if exceptions of the type render the same text whatever their arguments
+     */
+    public boolean isArgumentIndependent(LocalizedExceptionTypes type) {
+        return messageSource instanceof CatalogMessageSource catalogMessageSource && !catalogMessageSource.errorMessagesUseArguments(type);
+    }
+
+    private RenderedTemplates renderAll(MessageSource source) {
+        Map<LocalizedExceptionTypes, ConcurrentMap<Locale, ProblemDetailTemplate>> rendered = new EnumMap<>(LocalizedExceptionTypes.class);
+        for (LocalizedExceptionTypes type : LocalizedExceptionTypes.values()) {
+            ConcurrentMap<Locale, ProblemDetailTemplate> byLocale = new ConcurrentHashMap<>();
+            byLocale.put(Locale.ENGLISH, render(source, type, Locale.ENGLISH));
+            supportedLocales.forEach(locale -> byLocale.computeIfAbsent(locale, l -> render(source, type, l)));
+            rendered.put(type, byLocale);
+        }
+        return new RenderedTemplates(source, rendered);
+    }
+
+    private ProblemDetailTemplate render(MessageSource source, LocalizedExceptionTypes type, Locale locale) {
+        LocalizationFallbackListener.Fallback[] appliedFallback = new LocalizationFallbackListener.Fallback[1];
+        LocalizedMessage localizedMessage = new LocalizedException(type)
+                .localize(source, locale, localeFallbackChains, (ignoredType, ignoredLocale, fallback) -> appliedFallback[0] = fallback);
+        ProblemDetail problemDetail = new ProblemDetailBuilder(type.getStatus(), localizedMessage.message())
+                .title(localizedMessage.title())
+                .build();
+        try {
+            return ProblemDetailTemplate.render(objectMapper, problemDetail, appliedFallback[0]);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot render problem detail template for " + type + " and locale " + locale, ex);
+        }
+    }
+
+    /**
+     * The templates of one catalog, with the message source that renders the missing ones.
+     *
+     * @param messageSource the message source of that catalog
+     * @param templates     the templates per type and locale
+     */
+    private record RenderedTemplates(MessageSource messageSource,
+                                     Map<LocalizedExceptionTypes, ConcurrentMap<Locale, ProblemDetailTemplate>> templates) {
+    }
+}
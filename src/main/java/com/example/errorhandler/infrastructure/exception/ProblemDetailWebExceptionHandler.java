@@ -0,0 +1,176 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.domain.constants.ContextConstants;
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import com.example.errorhandler.infrastructure.i18n.TenantMessageOverlays;
+import com.example.errorhandler.infrastructure.logging.ErrorEventLogger;
+import com.example.errorhandler.infrastructure.metrics.ErrorMetrics;
+import org.springframework.context.MessageSource;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.NotAcceptableStatusException;
+import org.springframework.web.server.PayloadTooLargeException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders every exception the {@link GlobalExceptionHandler} does not handle, e.g. unreadable bodies,
+ * missing parameters, unknown paths, unsupported methods or unexpected runtime exceptions, as a
+ * localized RFC 9457 problem detail. It is ordered before Spring Boot's {@code DefaultErrorWebExceptionHandler},
+ * so these responses skip the error attributes and view resolution, and neither stack traces nor
+ * exception messages ever reach the client. The stack trace of a {@code 5xx} is logged instead, through
+ * the {@link ErrorEventLogger}, which samples these events and logs each exception class once per window.
+ * The {@link LocalizedExceptionTypes} of an exception class is looked up once per class and cached
+ * in a {@link ClassValue}. As for business errors, responses negotiated as JSON are written from the
+ * pre-serialized {@link ProblemDetailTemplate} of their type and locale.
+ */
+@Component
+@Order(-2)
+public class ProblemDetailWebExceptionHandler implements WebExceptionHandler {
+
+    private static final Map<Class<?>, LocalizedExceptionTypes> EXCEPTION_TYPES = Map.of(
+            ResponseStatusException.class, LocalizedExceptionTypes.REQUEST_ERROR,
+            ServerWebInputException.class, LocalizedExceptionTypes.MALFORMED_REQUEST,
+            DecodingException.class, LocalizedExceptionTypes.MALFORMED_REQUEST,
+            MissingRequestValueException.class, LocalizedExceptionTypes.MISSING_REQUEST_VALUE,
+            MethodNotAllowedException.class, LocalizedExceptionTypes.METHOD_NOT_ALLOWED,
+            NotAcceptableStatusException.class, LocalizedExceptionTypes.NOT_ACCEPTABLE,
+            PayloadTooLargeException.class, LocalizedExceptionTypes.PAYLOAD_TOO_LARGE,
+            DataBufferLimitException.class, LocalizedExceptionTypes.PAYLOAD_TOO_LARGE,
+            UnsupportedMediaTypeStatusException.class, LocalizedExceptionTypes.UNSUPPORTED_MEDIA_TYPE);
+
+    /**
+     * The types of {@link ResponseStatusException}s whose class has no type of its own, e.g. the
+     * {@code 404} of an unknown path, by status.
+     */
+    private static final Map<HttpStatus, LocalizedExceptionTypes> STATUS_TYPES = Map.of(
+            HttpStatus.NOT_FOUND, LocalizedExceptionTypes.RESOURCE_NOT_FOUND,
+            HttpStatus.METHOD_NOT_ALLOWED, LocalizedExceptionTypes.METHOD_NOT_ALLOWED,
+            HttpStatus.NOT_ACCEPTABLE, LocalizedExceptionTypes.NOT_ACCEPTABLE,
+            HttpStatus.PAYLOAD_TOO_LARGE, LocalizedExceptionTypes.PAYLOAD_TOO_LARGE,
+            HttpStatus.UNSUPPORTED_MEDIA_TYPE, LocalizedExceptionTypes.UNSUPPORTED_MEDIA_TYPE);
+
+    private static final ClassValue<LocalizedExceptionTypes> TYPES = new ClassValue<>() {
+        @Override
+        protected LocalizedExceptionTypes computeValue(Class<?> exceptionClass) {
+            for (Class<?> candidate = exceptionClass; candidate != null; candidate = candidate.getSuperclass()) {
+                LocalizedExceptionTypes type = EXCEPTION_TYPES.get(candidate);
+                if (type != null) {
+                    return type;
+                }
+            }
+            return LocalizedExceptionTypes.UNEXPECTED_ERROR;
+        }
+    };
+
+    private final TenantMessageOverlays tenantMessageOverlays;
+    private final ProblemDetailTemplates problemDetailTemplates;
+    private final ProblemDetailWriter problemDetailWriter;
+    private final ProblemTimestampProvider timestampProvider;
+    private final ErrorMetrics errorMetrics;
+    private final ErrorEventLogger errorEventLogger;
+    private final LocaleFallbackChains localeFallbackChains;
+    private final LocalizationFallbackListener fallbackListener;
+
+    public ProblemDetailWebExceptionHandler(TenantMessageOverlays tenantMessageOverlays, ProblemDetailTemplates problemDetailTemplates,
+                                            ProblemDetailWriter problemDetailWriter, ProblemTimestampProvider timestampProvider,
+                                            ErrorMetrics errorMetrics, ErrorEventLogger errorEventLogger,
+                                            LocaleFallbackChains localeFallbackChains) {
+        this.tenantMessageOverlays = tenantMessageOverlays;
+        this.problemDetailTemplates = problemDetailTemplates;
+        this.problemDetailWriter = problemDetailWriter;
+        this.timestampProvider = timestampProvider;
+        this.errorMetrics = errorMetrics;
+        this.errorEventLogger = errorEventLogger;
+        this.localeFallbackChains = localeFallbackChains;
+        this.fallbackListener = errorMetrics.andThen(errorEventLogger);
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.error(ex);
+        }
+        long start = System.nanoTime();
+        HttpStatus status = statusOf(ex);
+        LocalizedExceptionTypes type = typeOf(ex, status);
+        Locale locale = exchange.getAttributeOrDefault(ContextConstants.LOCALE_EXCHANGE_ATTRIBUTE, Locale.ENGLISH);
+        String tenant = exchange.getAttribute(ContextConstants.TENANT_EXCHANGE_ATTRIBUTE);
+        if (status.is5xxServerError()) {
+            errorEventLogger.record(ErrorEventLogger.Category.UNHANDLED_EXCEPTION, ex.getClass().getName(), locale, type.name(),
+                    String.valueOf(ex.getMessage()), ex);
+        }
+        if (ex instanceof ErrorResponse errorResponse && !errorResponse.getHeaders().isEmpty()) {
+            // e.g. Allow of a 405 or Accept of a 415
+            exchange.getResponse().getHeaders().addAll(errorResponse.getHeaders());
+        }
+
+        Mono<Void> response;
+        boolean hasArguments = ex instanceof LocalizedException localizedException && localizedException.hasArguments();
+        if (status == type.getStatus() && !hasArguments && !tenantMessageOverlays.hasOverlay(tenant)
+                && problemDetailWriter.negotiate(exchange) == ProblemDetailWriter.Format.JSON) {
+            ProblemDetailTemplate template = problemDetailTemplates.get(type, locale);
+            if (template.getFallback() != null) {
+                fallbackListener.onFallback(type, locale, template.getFallback());
+            }
+            response = problemDetailWriter.write(exchange, status, template, timestampProvider.nowAsBytes(), type.name());
+        } else {
+            MessageSource messageSource = tenantMessageOverlays.messageSourceFor(tenant);
+            LocalizedMessage localizedMessage = ex instanceof LocalizedException localizedException
+                    ? localizedException.localize(messageSource, locale, localeFallbackChains, fallbackListener)
+                    : LocalizedException.resolve(type, null, messageSource, localeFallbackChains.forLocale(locale), locale, fallbackListener);
+            ProblemDetail problemDetail = new ProblemDetailBuilder(status, localizedMessage.message())
+                    .title(localizedMessage.title())
+                    .timestamp(timestampProvider.now())
+                    .describing(type.name(), locale)
+                    .build();
+            response = problemDetailWriter.write(exchange, problemDetail, type.name());
+        }
+        if (ex instanceof LocalizedException) {
+            errorMetrics.recordBusinessError(type, locale, System.nanoTime() - start);
+        } else {
+            errorMetrics.recordWebError(status, locale, System.nanoTime() - start);
+        }
+        return response;
+    }
+
+    private static HttpStatus statusOf(Throwable ex) {
+        HttpStatus status = null;
+        if (ex instanceof LocalizedException localizedException) {
+            status = localizedException.getStatus();
+        } else if (ex instanceof ErrorResponse errorResponse) {
+            status = HttpStatus.resolve(errorResponse.getStatusCode().value());
+        }
+        return status != null ? status : TYPES.get(ex.getClass()).getStatus();
+    }
+
+    private static LocalizedExceptionTypes typeOf(Throwable ex, HttpStatus status) {
+        if (ex instanceof LocalizedException localizedException) {
+            return localizedException.getType();
+        }
+        LocalizedExceptionTypes type = TYPES.get(ex.getClass());
+        if (type.getStatus() == status) {
+            return type;
+        }
+        LocalizedExceptionTypes statusType = STATUS_TYPES.get(status);
+        if (statusType != null) {
+            return statusType;
+        }
+        return status.is5xxServerError() ? LocalizedExceptionTypes.UNEXPECTED_ERROR : LocalizedExceptionTypes.REQUEST_ERROR;
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.domain.constants.ContextConstants;
+import com.example.errorhandler.infrastructure.jfr.ProblemSerializationEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes RFC 9457 problem responses directly to the response
+ * {@link org.springframework.core.io.buffer.DataBuffer}, bypassing the result handler and
+ * message writer lookup. Like Spring's {@code ResponseEntityResultHandler}, it fills in the
+ * request path as {@code instance} when the problem detail does not carry one.
+ * The encoding is negotiated from the {@code Accept} header: {@code application/problem+cbor}
+ * and {@code application/problem+smile} get a binary encoding of the same structure for
+ * service-to-service callers, everything else gets {@code application/problem+json}. Since the
+ * encoding depends on the {@code Accept} header, every response carries {@code Vary: Accept}.
+ */
+@Component
+public class ProblemDetailWriter {
+
+    public static final MediaType APPLICATION_PROBLEM_CBOR = MediaType.parseMediaType("application/problem+cbor");
+    public static final MediaType APPLICATION_PROBLEM_SMILE = MediaType.parseMediaType("application/problem+smile");
+
+    /**
+     * The encodings a problem detail can be written in.
+     */
+    public enum Format {
+        JSON(MediaType.APPLICATION_PROBLEM_JSON),
+        CBOR(APPLICATION_PROBLEM_CBOR),
+        SMILE(APPLICATION_PROBLEM_SMILE);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    private final Map<Format, ObjectMapper> objectMappers = new EnumMap<>(Format.class);
+
+    /**
+     * @param objectMapper        the application's JSON mapper
+     * @param objectMapperBuilder a builder carrying the application's Jackson configuration, used
+     *                            once per binary format so the encoders are created a single time
+     */
+    public ProblemDetailWriter(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        objectMappers.put(Format.JSON, objectMapper);
+        objectMapperBuilder.mixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class);
+        objectMappers.put(Format.CBOR, objectMapperBuilder.factory(new CBORFactory()).build());
+        objectMappers.put(Format.SMILE, objectMapperBuilder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Selects the encoding for the current request from its {@code Accept} header.
+     * The accepted media types are tried in order of quality, skipping those with a quality of
+     * {@code 0}; JSON is the default, also for wildcards and for a malformed header, so an invalid
+     * {@code Accept} value never turns a problem response into a second error.
+     *
+     * @param exchange the current server exchange
+     * @return the negotiated {@link Format}
+     */
+    public Format negotiate(ServerWebExchange exchange) {
+        List<MediaType> accepted;
+        try {
+            accepted = exchange.getRequest().getHeaders().getAccept();
+        } catch (InvalidMediaTypeException ex) {
+            return Format.JSON;
+        }
+        if (accepted.isEmpty()) {
+            return Format.JSON;
+        }
+        if (accepted.size() > 1) {
+            accepted = new ArrayList<>(accepted);
+            accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        }
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+                return Format.JSON;
+            }
+            for (Format format : Format.values()) {
+                if (format.getMediaType().isCompatibleWith(mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return Format.JSON;
+    }
+
+    /**
+     * Encodes the given problem detail.
+     *
+     * @param problemDetail the problem detail to encode
+     * @param format        the encoding
+     * @return the encoded body
+     * @throws JsonProcessingException if the problem detail cannot be serialized
+     */
+    public byte[] encode(ProblemDetail problemDetail, Format format) throws JsonProcessingException {
+        return objectMappers.get(format).writeValueAsBytes(problemDetail);
+    }
+
+    /**
+     * Serializes the given problem detail in the negotiated encoding and writes it to the response.
+     *
+     * @param exchange      the current server exchange
+     * @param problemDetail the problem detail to write
+     * @param exceptionType the exception type reported with the {@link ProblemSerializationEvent}
+     * @return a {@link Mono} that completes when the body has been written
+     */
+    public Mono<Void> write(ServerWebExchange exchange, ProblemDetail problemDetail, String exceptionType) {
+        if (problemDetail.getInstance() == null) {
+            problemDetail.setInstance(URI.create(exchange.getRequest().getPath().value()));
+        }
+        Format format = negotiate(exchange);
+        ProblemSerializationEvent event = new ProblemSerializationEvent();
+        event.begin();
+        byte[] body;
+        try {
+            body = encode(problemDetail, format);
+        } catch (JsonProcessingException ex) {
+            return Mono.error(ex);
+        }
+        commit(event, exchange, exceptionType, format, false, body.length);
+        ServerHttpResponse response = prepareResponse(exchange, HttpStatusCode.valueOf(problemDetail.getStatus()), format, body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * Writes a pre-serialized JSON problem detail, splicing in the request path and the timestamp.
+     * Callers are expected to use this only if {@link #negotiate} selected {@link Format#JSON}.
+     *
+     * @param exchange      the current server exchange
+     * @param status        the response status
+     * @param template      the pre-serialized body
+     * @param timestamp     the ASCII bytes of the timestamp to splice in
+     * @param exceptionType the exception type reported with the {@link ProblemSerializationEvent}
+     * @return a {@link Mono} that completes when the body has been written
+     */
+    public Mono<Void> write(ServerWebExchange exchange, HttpStatusCode status, ProblemDetailTemplate template, byte[] timestamp,
+                            String exceptionType) {
+        ProblemSerializationEvent event = new ProblemSerializationEvent();
+        event.begin();
+        byte[] instance = JsonStringEncoder.getInstance().quoteAsUTF8(exchange.getRequest().getPath().value());
+        int length = template.length(instance, timestamp);
+        ServerHttpResponse response = prepareResponse(exchange, status, Format.JSON, length);
+        DataBuffer body = template.write(response.bufferFactory(), instance, timestamp);
+        commit(event, exchange, exceptionType, Format.JSON, true, length);
+        return response.writeWith(Mono.just(body));
+    }
+
+    private static void commit(ProblemSerializationEvent event, ServerWebExchange exchange, String exceptionType, Format format,
+                               boolean template, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            Locale locale = exchange.getAttribute(ContextConstants.LOCALE_EXCHANGE_ATTRIBUTE);
+            event.exceptionType = exceptionType;
+            event.locale = locale != null ? locale.toLanguageTag() : null;
+            event.format = format.name();
+            event.template = template;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    private ServerHttpResponse prepareResponse(ServerWebExchange exchange, HttpStatusCode status, Format format, int contentLength) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(format.getMediaType());
+        response.getHeaders().setContentLength(contentLength);
+        if (!response.getHeaders().getVary().contains(HttpHeaders.ACCEPT)) {
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return response;
+    }
+}
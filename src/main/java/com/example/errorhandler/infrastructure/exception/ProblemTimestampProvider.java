@@ -0,0 +1,93 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Supplies the {@code timestamp} property of problem details from a {@link Clock}.
+ * The formatted value is cached and only re-formatted once per tick of the chosen format's
+ * resolution (one second or one millisecond), so concurrent error renderers share a single
+ * string instead of formatting the clock on every response. A fixed {@link Clock} makes the
+ * output deterministic.
+ */
+public class ProblemTimestampProvider {
+
+    /**
+     * The supported timestamp formats.
+     */
+    public enum Format {
+        /**
+         * Zone-less local date-time with second resolution, e.g. {@code 2024-11-05T10:15:30}.
+         */
+        LOCAL_SECONDS(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"), 1000),
+        /**
+         * RFC 3339 date-time with offset and millisecond resolution, e.g. {@code 2024-11-05T10:15:30.123+01:00}.
+         */
+        RFC3339_MILLIS(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX"), 1);
+
+        private final DateTimeFormatter formatter;
+        private final long tickMillis;
+
+        Format(DateTimeFormatter formatter, long tickMillis) {
+            this.formatter = formatter;
+            this.tickMillis = tickMillis;
+        }
+    }
+
+    private final Clock clock;
+    private final Format format;
+    private volatile Tick tick = new Tick(Long.MIN_VALUE, null, null);
+
+    public ProblemTimestampProvider(Clock clock, Format format) {
+        this.clock = clock;
+        this.format = format;
+    }
+
+    /**
+     * Returns the formatted timestamp of the current tick.
+     *
+     * @return the cached, formatted timestamp
+     */
+    public String now() {
+        return currentTick().formatted();
+    }
+
+    /**
+     * Returns the formatted timestamp of the current tick as ASCII bytes, ready to be spliced
+     * into a pre-serialized JSON body. The returned array must not be modified.
+     *
+     * @return the cached, formatted timestamp bytes
+     */
+    public byte[] nowAsBytes() {
+        return currentTick().bytes();
+    }
+
+    private Tick currentTick() {
+        long millis = clock.millis();
+        long epochTick = Math.floorDiv(millis, format.tickMillis);
+        Tick cached = tick;
+        if (cached.epochTick() == epochTick) {
+            return cached;
+        }
+        String formatted = format(Instant.ofEpochMilli(epochTick * format.tickMillis));
+        Tick fresh = new Tick(epochTick, formatted, formatted.getBytes(StandardCharsets.US_ASCII));
+        if (epochTick > cached.epochTick()) {
+            tick = fresh;
+        }
+        return fresh;
+    }
+
+    private String format(Instant instant) {
+        return switch (format) {
+            case LOCAL_SECONDS -> format.formatter.format(LocalDateTime.ofInstant(instant, clock.getZone()));
+            case RFC3339_MILLIS -> format.formatter.format(OffsetDateTime.ofInstant(instant, clock.getZone()));
+        };
+    }
+
+    private record Tick(long epochTick, String formatted, byte[] bytes) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+
+/**
+ * Decides whether a {@link LocalizedException} captures a stack trace and records suppressed
+ * exceptions. Business rejections are rendered from their type alone, so filling in the stack
+ * trace is pure overhead for them; only types marked as {@link LocalizedExceptionTypes#isDiagnostic()
+ * diagnostic} keep their traces when stackless mode is enabled.
+ * The policy in effect is bound once from the {@code localized-exception.*} properties by
+ * {@link StackTracePolicyEnvironmentPostProcessor}, before any bean is created, so exceptions thrown
+ * while the context starts already follow it. Outside a Spring application, {@link #DEFAULT} applies.
+ *
+ * @param stackless   whether non-diagnostic exceptions skip stack trace capture
+ * @param suppression whether non-diagnostic exceptions record suppressed exceptions
+ */
+public record StackTracePolicy(boolean stackless, boolean suppression) {
+
+    /**
+     * The policy of plain exceptions: stack traces are captured and suppressed exceptions recorded.
+     */
+    public static final StackTracePolicy DEFAULT = new StackTracePolicy(false, true);
+
+    private static volatile StackTracePolicy current = DEFAULT;
+
+    /**
+     * Returns the policy in effect for exceptions created without an explicit policy.
+     *
+     * @return the current policy
+     */
+    public static StackTracePolicy current() {
+        return current;
+    }
+
+    static void install(StackTracePolicy policy) {
+        current = policy;
+    }
+
+    /**
+     * Indicates whether exceptions of the given type capture a stack trace.
+     *
+     * @param type the exception type
+     * @return {@code true} if the stack trace is filled in
+     */
+    public boolean isWritableStackTrace(LocalizedExceptionTypes type) {
+        return type.isDiagnostic() || !stackless;
+    }
+
+    /**
+     * Indicates whether exceptions of the given type record suppressed exceptions.
+     *
+     * @param type the exception type
+     * @return {@code true} if suppressed exceptions are recorded
+     */
+    public boolean isSuppressionEnabled(LocalizedExceptionTypes type) {
+        return type.isDiagnostic() || suppression;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * Installs the {@link StackTracePolicy} from the {@code localized-exception.stackless} and
+ * {@code localized-exception.suppression} properties as soon as the configuration files are loaded,
+ * i.e. before the application context creates its first bean.
+ */
+public class StackTracePolicyEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        StackTracePolicy.install(new StackTracePolicy(
+                environment.getProperty("localized-exception.stackless", Boolean.class, StackTracePolicy.DEFAULT.stackless()),
+                environment.getProperty("localized-exception.suppression", Boolean.class, StackTracePolicy.DEFAULT.suppression())));
+    }
+
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.errorhandler.infrastructure.exception;
+
+/**
+ * Limits how much of a failed validation is rendered into the problem detail, so a payload with
+ * a huge number of invalid values cannot make the error response arbitrarily expensive.
+ *
+ * @param maxViolations  the maximum number of field errors rendered
+ * @param maxErrorsBytes the approximate maximum size of the rendered {@code errors} member in bytes
+ */
+public record ValidationBudget(int maxViolations, int maxErrorsBytes) {
+
+    public static final ValidationBudget UNLIMITED = new ValidationBudget(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    public ValidationBudget {
+        if (maxViolations < 1 || maxErrorsBytes < 1) {
+            throw new IllegalArgumentException("Validation budget limits must be positive");
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.infrastructure.i18n.ConstraintMessageTemplate;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChain;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import com.example.errorhandler.infrastructure.i18n.MessageCatalogPublishedEvent;
+import com.example.errorhandler.infrastructure.i18n.TenantMessageOverlays;
+import com.example.errorhandler.infrastructure.i18n.TenantOverlayPublishedEvent;
+import com.example.errorhandler.infrastructure.validation.GeneratedConstraintViolation;
+import jakarta.validation.ConstraintViolation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.FieldError;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Localizes Bean Validation {@link FieldError}s, from Hibernate Validator or from generated validators,
+ * against the application's {@link MessageSource}.
+ * Constraint messages of the form {@code {validation.exception.*}} are looked up along the
+ * {@link LocaleFallbackChain} of the request locale, e.g. {@code fr-CA -> fr -> en}, and their named
+ * parameters are filled in from the attributes of the violated constraint. Tenants with a message
+ * overlay get their overriding messages.
+ * Parsed messages are cached per tenant, code and locale, so a payload with many violations of
+ * the same constraints costs a single catalog lookup per distinct code.
+ * Field errors that do not carry such a message keep their default message.
+ */
+@Component
+@RequiredArgsConstructor
+public class ValidationErrorLocalizer {
+
+    public static final String VALIDATION_TITLE_KEY = "validation.exception.default.title";
+    public static final String VALIDATION_MESSAGE_KEY = "validation.exception.default.message";
+    /**
+     * The exception type validation errors are reported as, e.g. in error events.
+     */
+    public static final String VALIDATION_EXCEPTION_TYPE = "VALIDATION";
+
+    /**
+     * The bytes of {@code {"pointer":"","reason":""},} around the values of one error.
+     */
+    private static final int ERROR_ENTRY_OVERHEAD = 27;
+    private static final ConstraintMessageTemplate MISSING = ConstraintMessageTemplate.parse("");
+
+    private final MessageSource messageSource;
+    private final TenantMessageOverlays tenantMessageOverlays;
+    private final LocaleFallbackChains localeFallbackChains;
+    private final ConcurrentMap<TemplateKey, ConstraintMessageTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Localizes the given field errors.
+     *
+     * @param fieldErrors the field errors of a failed validation
+     * @param locale      the request locale
+     * @return the error details, with RFC 6901 pointers, in the order of the field errors
+     */
+    public List<ApiErrorDetails> localize(List<FieldError> fieldErrors, Locale locale) {
+        return localize(fieldErrors, locale, ValidationBudget.UNLIMITED);
+    }
+
+    /**
+     * Localizes the leading field errors that fit into the given budget. Rendering stops at the
+     * first field error that would exceed either limit, so the result is shorter than the given
+     * list if the budget was exhausted. A field error whose pointer alone exceeds the byte budget
+     * is not localized at all.
+     *
+     * @param fieldErrors the field errors of a failed validation
+     * @param locale      the request locale
+     * @param budget      the limits of the rendered errors
+     * @return the error details, with RFC 6901 pointers, in the order of the field errors
+     */
+    public List<ApiErrorDetails> localize(List<FieldError> fieldErrors, Locale locale, ValidationBudget budget) {
+        return localize(fieldErrors, locale, null, budget);
+    }
+
+    /**
+     * Same as {@link #localize(List, Locale, ValidationBudget)}, with the messages of the given tenant.
+     *
+     * @param fieldErrors the field errors of a failed validation
+     * @param locale      the request locale
+     * @param tenant      the tenant of the request, may be {@code null}
+     * @param budget      the limits of the rendered errors
+     * @return the error details, with RFC 6901 pointers, in the order of the field errors
+     */
+    public List<ApiErrorDetails> localize(List<FieldError> fieldErrors, Locale locale, @Nullable String tenant, ValidationBudget budget) {
+        String scope = tenantMessageOverlays.hasOverlay(tenant) ? tenant : null;
+        int count = Math.min(fieldErrors.size(), budget.maxViolations());
+        List<ApiErrorDetails> errors = new ArrayList<>(count);
+        // the brackets of the array, less the comma of the last entry
+        long bytes = 1;
+        for (int i = 0; i < count; i++) {
+            FieldError fieldError = fieldErrors.get(i);
+            String pointer = JsonPointers.fromPropertyPath(fieldError.getField());
+            bytes += ERROR_ENTRY_OVERHEAD + utf8Length(pointer);
+            if (bytes > budget.maxErrorsBytes()) {
+                break;
+            }
+            String reason = localize(fieldError, locale, scope);
+            bytes += utf8Length(reason);
+            if (bytes > budget.maxErrorsBytes()) {
+                break;
+            }
+            errors.add(new ApiErrorDetails(pointer, reason));
+        }
+        return errors;
+    }
+
+    /**
+     * Builds the localized validation problem detail for the given field errors, marking it as
+     * truncated if the budget did not allow rendering all of them.
+     *
+     * @param fieldErrors the field errors of a failed validation
+     * @param locale      the request locale
+     * @param budget      the limits of the rendered errors
+     * @param timestamp   the formatted timestamp of the problem detail
+     * @return the {@link ProblemDetail} with status 400
+     */
+    public ProblemDetail toProblemDetail(List<FieldError> fieldErrors, Locale locale, ValidationBudget budget, String timestamp) {
+        return toProblemDetail(fieldErrors, locale, null, budget, timestamp);
+    }
+
+    /**
+     * Same as {@link #toProblemDetail(List, Locale, ValidationBudget, String)}, with the messages of the given tenant.
+     *
+     * @param fieldErrors the field errors of a failed validation
+     * @param locale      the request locale
+     * @param tenant      the tenant of the request, may be {@code null}
+     * @param budget      the limits of the rendered errors
+     * @param timestamp   the formatted timestamp of the problem detail
+     * @return the {@link ProblemDetail} with status 400
+     */
+    public ProblemDetail toProblemDetail(List<FieldError> fieldErrors, Locale locale, @Nullable String tenant, ValidationBudget budget,
+                                         String timestamp) {
+        List<ApiErrorDetails> errors = localize(fieldErrors, locale, tenant, budget);
+        MessageSource source = tenantMessageOverlays.messageSourceFor(tenant);
+        ProblemDetailBuilder builder = new ProblemDetailBuilder(HttpStatus.BAD_REQUEST, source.getMessage(VALIDATION_MESSAGE_KEY, null, "Validation failed.", locale))
+                .title(source.getMessage(VALIDATION_TITLE_KEY, null, "Validation Error", locale))
+                .errors(errors)
+                .timestamp(timestamp)
+                .describing(VALIDATION_EXCEPTION_TYPE, locale);
+        if (errors.size() < fieldErrors.size()) {
+            builder.truncated(fieldErrors.size());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Localizes the message of a single field error.
+     *
+     * @param fieldError the field error
+     * @param locale     the request locale
+     * @return the localized message, or the default message of the field error if it cannot be localized
+     */
+    public String localize(FieldError fieldError, Locale locale) {
+        return localize(fieldError, locale, null);
+    }
+
+    private String localize(FieldError fieldError, Locale locale, @Nullable String tenant) {
+        String messageTemplate;
+        Map<String, Object> attributes;
+        if (fieldError.contains(GeneratedConstraintViolation.class)) {
+            GeneratedConstraintViolation violation = fieldError.unwrap(GeneratedConstraintViolation.class);
+            messageTemplate = violation.messageTemplate();
+            attributes = violation.attributes();
+        } else if (fieldError.contains(ConstraintViolation.class)) {
+            ConstraintViolation<?> violation = fieldError.unwrap(ConstraintViolation.class);
+            messageTemplate = violation.getMessageTemplate();
+            attributes = violation.getConstraintDescriptor().getAttributes();
+        } else {
+            return fieldError.getDefaultMessage();
+        }
+        String code = ConstraintMessageTemplate.referencedCode(messageTemplate);
+        if (code == null) {
+            return fieldError.getDefaultMessage();
+        }
+        LocaleFallbackChain chain = localeFallbackChains.forLocale(locale);
+        for (int i = 0; i < chain.size(); i++) {
+            ConstraintMessageTemplate template = templateFor(tenant, code, chain.get(i));
+            if (template != MISSING) {
+                return template.render(attributes);
+            }
+        }
+        return fieldError.getDefaultMessage();
+    }
+
+    /**
+     * Resolves a message of the catalog for the given locale, without any parameters.
+     *
+     * @param code           the message code
+     * @param defaultMessage the message to use if the code is unknown
+     * @param locale         the request locale
+     * @return the resolved message
+     */
+    public String getMessage(String code, String defaultMessage, Locale locale) {
+        return messageSource.getMessage(code, null, defaultMessage, locale);
+    }
+
+    /**
+     * Resolves and parses the constraint messages of the given codes for the given locale ahead of
+     * their first use, so the first validation error in that locale is rendered from the cache.
+     *
+     * @param codes  the catalog codes of constraint messages
+     * @param locale the locale to load
+     */
+    public void preload(Collection<String> codes, Locale locale) {
+        codes.forEach(code -> templateFor(null, code, locale));
+    }
+
+    @EventListener
+    void onCatalogPublished(MessageCatalogPublishedEvent event) {
+        templates.clear();
+    }
+
+    @EventListener
+    void onTenantOverlayPublished(TenantOverlayPublishedEvent event) {
+        templates.keySet().removeIf(key -> event.tenant().equals(key.tenant()));
+    }
+
+    private ConstraintMessageTemplate templateFor(@Nullable String tenant, String code, Locale locale) {
+        TemplateKey key = new TemplateKey(tenant, code, locale);
+        ConstraintMessageTemplate template = templates.get(key);
+        if (template == null) {
+            template = templates.computeIfAbsent(key, k -> {
+                String message = tenantMessageOverlays.messageSourceFor(k.tenant()).getMessage(k.code(), null, null, k.locale());
+                return message != null ? ConstraintMessageTemplate.parse(message) : MISSING;
+            });
+        }
+        return template;
+    }
+
+    private static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x800) {
+                length += 2;
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private record TemplateKey(String tenant, String code, Locale locale) {
+    }
+}
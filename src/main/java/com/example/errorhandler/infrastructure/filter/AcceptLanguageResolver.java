@@ -0,0 +1,135 @@
+package com.example.errorhandler.infrastructure.filter;
+
+import com.example.errorhandler.infrastructure.config.LocaleConfig;
+import com.example.errorhandler.infrastructure.logging.ErrorEventLogger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Negotiates the response locale from a raw "Accept-Language" header value against the
+ * supported locales of {@link LocaleConfig}. Since clients send only a small set of distinct
+ * header values, results are memoized in a bounded, concurrent cache keyed by the raw header,
+ * so the common case is a single map lookup without any range parsing.
+ * Once the cache is full, caching a new header value evicts one that was not hit since the last
+ * eviction, found among a few sampled entries. Hits only set a flag of their entry, so they share
+ * no counter across event loops, and a client sending arbitrary header values neither costs a scan
+ * of the cache per request nor disables the cache for everybody else.
+ */
+@Component
+public class AcceptLanguageResolver {
+
+    static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final List<Locale> supportedLocales;
+    private final ErrorEventLogger errorEventLogger;
+    private final int maxCacheSize;
+    private final ConcurrentMap<String, CacheEntry> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public AcceptLanguageResolver(LocaleConfig localeConfig, ErrorEventLogger errorEventLogger,
+                                  @Value("${locale-resolution.cache.max-size:256}") int maxCacheSize) {
+        this(localeConfig.getSupportedLocales(), errorEventLogger, maxCacheSize);
+    }
+
+    AcceptLanguageResolver(List<Locale> supportedLocales, ErrorEventLogger errorEventLogger, int maxCacheSize) {
+        this.supportedLocales = supportedLocales;
+        this.errorEventLogger = errorEventLogger;
+        this.maxCacheSize = maxCacheSize;
+        this.cache = new ConcurrentHashMap<>(Math.max(16, maxCacheSize));
+    }
+
+    /**
+     * Resolves the locale for the given "Accept-Language" header value.
+     * If the header is missing, empty, invalid, or specifies an unsupported locale,
+     * it defaults to {@link Locale#ENGLISH}.
+     *
+     * @param acceptLanguage the value of the "Accept-Language" header, may be {@code null}
+     * @return the resolved {@link Locale}, never {@code null}
+     */
+    public Locale resolve(String acceptLanguage) {
+        if (acceptLanguage == null || acceptLanguage.isBlank()) {
+            return Locale.ENGLISH;
+        }
+        CacheEntry cached = cache.get(acceptLanguage);
+        if (cached != null) {
+            hits.increment();
+            if (!cached.referenced) {
+                cached.referenced = true;
+            }
+            return cached.locale;
+        }
+        misses.increment();
+        Locale resolved = negotiate(acceptLanguage);
+        if (maxCacheSize > 0) {
+            while (cache.size() >= maxCacheSize) {
+                evictUnreferenced();
+            }
+            cache.putIfAbsent(acceptLanguage, new CacheEntry(resolved));
+        }
+        return resolved;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Removes the first of at most {@link #EVICTION_SAMPLE_SIZE} entries that was not hit since it
+     * was last sampled, giving every sampled entry that was hit a second chance. If all sampled
+     * entries were hit, the last one is removed, so an eviction never costs more than the sample.
+     */
+    private void evictUnreferenced() {
+        Map.Entry<String, CacheEntry> victim = null;
+        int sampled = 0;
+        for (Map.Entry<String, CacheEntry> entry : cache.entrySet()) {
+            victim = entry;
+            if (!entry.getValue().referenced || ++sampled == EVICTION_SAMPLE_SIZE) {
+                break;
+            }
+            entry.getValue().referenced = false;
+        }
+        if (victim != null) {
+            cache.remove(victim.getKey(), victim.getValue());
+        }
+    }
+
+    private Locale negotiate(String acceptLanguage) {
+        try {
+            List<Locale.LanguageRange> languageRanges = Locale.LanguageRange.parse(acceptLanguage);
+            Locale lookupLocale = Locale.lookup(languageRanges, supportedLocales);
+            return lookupLocale != null ? Locale.forLanguageTag(lookupLocale.getLanguage()) : Locale.ENGLISH;
+        } catch (IllegalArgumentException ex) {
+            errorEventLogger.record(ErrorEventLogger.Category.INVALID_ACCEPT_LANGUAGE, acceptLanguage, null,
+                    ex.getClass().getSimpleName(), "Invalid Accept-Language header, falling back to default locale");
+            return Locale.ENGLISH;
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final Locale locale;
+        private volatile boolean referenced;
+
+        private CacheEntry(Locale locale) {
+            this.locale = locale;
+        }
+    }
+}
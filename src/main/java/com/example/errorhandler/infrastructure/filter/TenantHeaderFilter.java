@@ -0,0 +1,44 @@
+package com.example.errorhandler.infrastructure.filter;
+
+import com.example.errorhandler.domain.constants.ContextConstants;
+import com.example.errorhandler.infrastructure.i18n.TenantMessageOverlays;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * A web filter that reads the tenant of a request from the {@code messages.tenants.header} header,
+ * {@code X-Tenant-ID} by default, so error messages can be resolved with the tenant's overlay.
+ * Requests without a valid tenant id pass through unchanged and get the shared messages.
+ */
+@Component
+public class TenantHeaderFilter implements WebFilter {
+
+    private final String tenantHeader;
+
+    public TenantHeaderFilter(@Value("${messages.tenants.header:X-Tenant-ID}") String tenantHeader) {
+        this.tenantHeader = tenantHeader;
+    }
+
+    /**
+     * Stores a valid tenant id in the exchange attributes under {@link ContextConstants#TENANT_EXCHANGE_ATTRIBUTE}
+     * and in the reactor context under {@link ContextConstants#TENANT_CONTEXT_KEY}, next to the locale.
+     *
+     * @param exchange the current server exchange
+     * @param chain    the web filter chain to delegate to
+     * @return a {@link Mono} that indicates filter chain completion
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String tenant = exchange.getRequest().getHeaders().getFirst(tenantHeader);
+        if (!TenantMessageOverlays.isValidTenantId(tenant)) {
+            return chain.filter(exchange);
+        }
+        exchange.getAttributes().put(ContextConstants.TENANT_EXCHANGE_ATTRIBUTE, tenant);
+        return chain.filter(exchange)
+                .contextWrite(ctx -> ctx.put(ContextConstants.TENANT_CONTEXT_KEY, tenant));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * The table of one locale of a {@link BinaryMessageCatalog}, as used by {@link MessageCatalog}.
+ * A message is decoded and parsed into a {@link MessageTemplate} on its first lookup, and only then
+ * kept on the heap; messages that are never requested stay in the catalog buffer.
+ */
+final class BinaryBundleTable extends AbstractMap<String, MessageTemplate> {
+
+    private final BinaryMessageCatalog catalog;
+    private final int localeIndex;
+    private final Locale locale;
+    private final ConcurrentMap<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+    private volatile Set<String> keys;
+
+    BinaryBundleTable(BinaryMessageCatalog catalog, int localeIndex) {
+        this.catalog = catalog;
+        this.localeIndex = localeIndex;
+        this.locale = catalog.getLocales().get(localeIndex);
+    }
+
+    @Override
+    public MessageTemplate get(Object key) {
+        if (!(key instanceof String code)) {
+            return null;
+        }
+        MessageTemplate template = templates.get(code);
+        if (template == null) {
+            String pattern = catalog.getMessage(code, localeIndex);
+            if (pattern == null) {
+                return null;
+            }
+            template = templates.computeIfAbsent(code, c -> MessageTemplate.parse(pattern, locale));
+        }
+        return template;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String code && catalog.contains(code, localeIndex);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        Set<String> result = keys;
+        if (result == null) {
+            result = catalog.getKeys().stream()
+                    .filter(code -> catalog.contains(code, localeIndex))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            keys = result = Collections.unmodifiableSet(result);
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return keySet().size();
+    }
+
+    @Override
+    public Set<Map.Entry<String, MessageTemplate>> entrySet() {
+        return keySet().stream()
+                .map(code -> Map.entry(code, get(code)))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Returns the number of messages parsed so far.
+     *
+     * @return the number of cached templates
+     */
+    int getCachedSize() {
+        return templates.size();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read access to a message catalog compiled by {@link BinaryMessageCatalogWriter}. The file is
+ * memory-mapped, or held in a direct buffer if it is not a plain file, e.g. inside a jar, so the
+ * messages stay off the heap: only the locales and keys are decoded when the catalog is opened,
+ * and a message is decoded from its UTF-8 bytes each time it is requested.
+ * {@link MessageCatalog#of(BinaryMessageCatalog, Locale)} caches the messages that are actually used.
+ * Instances are immutable and safe for concurrent use, as the buffer is only read with absolute gets.
+ */
+public final class BinaryMessageCatalog {
+
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final Locale[] locales;
+    private final Map<String, Integer> keys;
+    private final int indexStart;
+    private final int stringsStart;
+
+    private BinaryMessageCatalog(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != BinaryMessageCatalogWriter.MAGIC) {
+            throw new IOException("Not a binary message catalog");
+        }
+        if (buffer.getInt(Integer.BYTES) != BinaryMessageCatalogWriter.VERSION) {
+            throw new IOException("Unsupported binary message catalog version " + buffer.getInt(Integer.BYTES));
+        }
+        int localeCount = buffer.getInt(2 * Integer.BYTES);
+        int keyCount = buffer.getInt(3 * Integer.BYTES);
+        int keysStart = HEADER_SIZE + localeCount * Integer.BYTES;
+        this.indexStart = keysStart + keyCount * Integer.BYTES;
+        this.stringsStart = indexStart + keyCount * localeCount * Integer.BYTES;
+        this.locales = new Locale[localeCount];
+        for (int i = 0; i < localeCount; i++) {
+            locales[i] = Locale.forLanguageTag(decode(buffer.getInt(HEADER_SIZE + i * Integer.BYTES)));
+        }
+        Map<String, Integer> keyIndexes = new HashMap<>(keyCount * 4 / 3 + 1);
+        for (int i = 0; i < keyCount; i++) {
+            keyIndexes.put(decode(buffer.getInt(keysStart + i * Integer.BYTES)), i);
+        }
+        this.keys = Collections.unmodifiableMap(keyIndexes);
+    }
+
+    /**
+     * Memory-maps the given catalog file.
+     *
+     * @param file the compiled catalog
+     * @return the opened {@link BinaryMessageCatalog}
+     * @throws IOException if the file cannot be mapped or is not a catalog
+     */
+    public static BinaryMessageCatalog open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new BinaryMessageCatalog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a catalog that cannot be mapped, e.g. a classpath resource inside a jar, into a direct buffer.
+     *
+     * @param in the stream of the compiled catalog, left open
+     * @return the read {@link BinaryMessageCatalog}
+     * @throws IOException if the stream cannot be read or is not a catalog
+     */
+    public static BinaryMessageCatalog read(InputStream in) throws IOException {
+        byte[] bytes = in.readAllBytes();
+        return new BinaryMessageCatalog(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip());
+    }
+
+    /**
+     * Returns the locales that have a bundle in this catalog.
+     *
+     * @return an immutable list of locales, indexed like the {@code localeIndex} arguments
+     */
+    public List<Locale> getLocales() {
+        return List.of(locales);
+    }
+
+    /**
+     * Returns every key defined in at least one bundle.
+     *
+     * @return an immutable set of keys
+     */
+    public Set<String> getKeys() {
+        return keys.keySet();
+    }
+
+    /**
+     * Indicates whether the bundle of the given locale defines the given key.
+     *
+     * @param key         the message key
+     * @param localeIndex the index of the bundle locale in {@link #getLocales()}
+     * @return {@code true} if the bundle defines the key
+     */
+    public boolean contains(String key, int localeIndex) {
+        return offsetOf(key, localeIndex) != BinaryMessageCatalogWriter.MISSING;
+    }
+
+    /**
+     * Decodes the message of the given key in the bundle of exactly the given locale, without fallback.
+     *
+     * @param key         the message key
+     * @param localeIndex the index of the bundle locale in {@link #getLocales()}
+     * @return the raw message pattern, or {@code null} if the bundle does not define the key
+     */
+    @Nullable
+    public String getMessage(String key, int localeIndex) {
+        int offset = offsetOf(key, localeIndex);
+        return offset != BinaryMessageCatalogWriter.MISSING ? decode(offset) : null;
+    }
+
+    /**
+     * Returns the size of the catalog, which is held outside the heap.
+     *
+     * @return the number of bytes of the compiled catalog
+     */
+    public int getSize() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryMessageCatalog" + Arrays.toString(locales) + " with " + keys.size() + " keys";
+    }
+
+    private int offsetOf(String key, int localeIndex) {
+        Integer keyIndex = keys.get(key);
+        if (keyIndex == null) {
+            return BinaryMessageCatalogWriter.MISSING;
+        }
+        return buffer.getInt(indexStart + (keyIndex * locales.length + localeIndex) * Integer.BYTES);
+    }
+
+    private String decode(int offset) {
+        int position = stringsStart + offset;
+        byte[] bytes = new byte[buffer.getInt(position)];
+        buffer.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Compiles a bundle family, e.g. every {@code error_messages_*.properties} file, into the binary
+ * format read by {@link BinaryMessageCatalog}. All numbers are big-endian {@code int}s:
+ * <pre>
+ * magic, version, locale count L, key count K
+ * L string offsets of the locale language tags
+ * K string offsets of the keys, sorted
+ * K x L string offsets of the messages, key-major, -1 where a bundle does not define the key
+ * string table: per string its UTF-8 length followed by its UTF-8 bytes
+ * </pre>
+ * String offsets are relative to the start of the string table. Every distinct string is stored once,
+ * however many keys and locales share it.
+ * It only depends on the JDK, so the build runs it right after compiling the main classes.
+ */
+public final class BinaryMessageCatalogWriter {
+
+    static final int MAGIC = 0x454D4331; // "EMC1"
+    static final int VERSION = 1;
+    static final int MISSING = -1;
+
+    private BinaryMessageCatalogWriter() {
+    }
+
+    /**
+     * Compiles the bundles of a directory into a catalog file.
+     *
+     * @param args the bundle directory, the bundle file name prefix, e.g. {@code error_messages}, and the output file
+     * @throws IOException if a bundle cannot be read or the catalog cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: BinaryMessageCatalogWriter <bundle directory> <bundle name> <output file>");
+        }
+        Path output = Path.of(args[2]);
+        Map<Locale, Map<String, String>> bundles = read(Path.of(args[0]), args[1]);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            write(bundles, out);
+        }
+    }
+
+    /**
+     * Reads every {@code <bundleName>_*.properties} file (and the base bundle, if present) of the given
+     * directory as UTF-8.
+     *
+     * @param directory  the directory holding the bundles
+     * @param bundleName the bundle file name prefix, e.g. {@code error_messages}
+     * @return the raw messages per locale; {@link Locale#ROOT} denotes the base bundle
+     * @throws IOException if the directory or a bundle cannot be read
+     */
+    public static Map<Locale, Map<String, String>> read(Path directory, String bundleName) throws IOException {
+        Map<Locale, Map<String, String>> bundles = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, bundleName + "*.properties")) {
+            for (Path file : files) {
+                String suffix = file.getFileName().toString();
+                suffix = suffix.substring(bundleName.length(), suffix.length() - ".properties".length());
+                if (!suffix.isEmpty() && suffix.charAt(0) != '_') {
+                    continue;
+                }
+                Locale locale = suffix.isEmpty() ? Locale.ROOT : Locale.forLanguageTag(suffix.substring(1).replace('_', '-'));
+                Properties properties = new Properties();
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+                Map<String, String> messages = new HashMap<>();
+                properties.forEach((key, value) -> messages.put((String) key, (String) value));
+                bundles.put(locale, messages);
+            }
+        }
+        return bundles;
+    }
+
+    /**
+     * Writes the given bundles in the binary catalog format.
+     *
+     * @param bundles the raw messages per locale; {@link Locale#ROOT} denotes the base bundle
+     * @param out     the stream to write to, left open
+     * @throws IOException if the catalog cannot be written
+     */
+    public static void write(Map<Locale, Map<String, String>> bundles, OutputStream out) throws IOException {
+        Map<String, Map<String, String>> byTag = new TreeMap<>();
+        bundles.forEach((locale, messages) -> byTag.put(locale.toLanguageTag(), messages));
+        List<String> tags = new ArrayList<>(byTag.keySet());
+        List<String> keys = new ArrayList<>(new TreeSet<>(byTag.values().stream().flatMap(messages -> messages.keySet().stream()).toList()));
+
+        StringTable strings = new StringTable();
+        int[] tagOffsets = tags.stream().mapToInt(strings::add).toArray();
+        int[] keyOffsets = keys.stream().mapToInt(strings::add).toArray();
+        int[] messageOffsets = new int[keys.size() * tags.size()];
+        for (int k = 0; k < keys.size(); k++) {
+            for (int l = 0; l < tags.size(); l++) {
+                String message = byTag.get(tags.get(l)).get(keys.get(k));
+                messageOffsets[k * tags.size() + l] = message != null ? strings.add(message) : MISSING;
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(tags.size());
+        data.writeInt(keys.size());
+        for (int offset : tagOffsets) {
+            data.writeInt(offset);
+        }
+        for (int offset : keyOffsets) {
+            data.writeInt(offset);
+        }
+        for (int offset : messageOffsets) {
+            data.writeInt(offset);
+        }
+        strings.writeTo(data);
+        data.flush();
+    }
+
+    private static final class StringTable {
+
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final List<byte[]> entries = new ArrayList<>();
+        private int size;
+
+        int add(String value) {
+            Integer offset = offsets.get(value);
+            if (offset == null) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                offset = size;
+                offsets.put(value, offset);
+                entries.add(bytes);
+                size += Integer.BYTES + bytes.length;
+            }
+            return offset;
+        }
+
+        void writeTo(DataOutputStream data) throws IOException {
+            for (byte[] bytes : entries) {
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+        }
+    }
+}
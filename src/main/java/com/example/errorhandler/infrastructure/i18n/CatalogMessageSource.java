@@ -0,0 +1,224 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lock-free {@link MessageSource} backed by an immutable {@link MessageCatalog}.
+ * It is a drop-in replacement for a {@code ResourceBundleMessageSource} configured with
+ * {@code fallbackToSystemLocale=false} and {@code alwaysUseMessageFormat=true}: every bundle message
+ * follows the {@link java.text.MessageFormat} quoting rules, so {@code ''} is a literal apostrophe
+ * with or without arguments. Lookups format a pre-parsed {@link MessageTemplate} without
+ * synchronization, and arg-less lookups of plain messages return a cached string.
+ * The catalog can be replaced at runtime through {@link #publish}: the new snapshot becomes visible
+ * with a single atomic reference swap, so readers never block and never see a partially loaded catalog.
+ * The titles and messages of {@link LocalizedExceptionTypes} are additionally resolved by ordinal
+ * through the {@link ErrorMessageRegistry} published with the catalog, following the
+ * {@link ErrorMessageSource} formatting rules. State derived from the catalog by a registered
+ * {@link CatalogSnapshotExtension} is computed before a catalog is published and swapped in with it.
+ */
+public class CatalogMessageSource implements ErrorMessageSource {
+
+    private final AtomicReference<CatalogSnapshot> snapshot;
+    private final List<CatalogSnapshotExtension<?>> extensions = new CopyOnWriteArrayList<>();
+
+    public CatalogMessageSource(MessageCatalog catalog) {
+        this(catalog, "classpath");
+    }
+
+    public CatalogMessageSource(MessageCatalog catalog, String source) {
+        this(catalog, ErrorMessageRegistry.of(catalog), source);
+    }
+
+    /**
+     * @param catalog       the catalog loaded at startup
+     * @param errorMessages the registry of the catalog, e.g. the one generated at build time
+     * @param source        a description of where the catalog was loaded from
+     */
+    public CatalogMessageSource(MessageCatalog catalog, ErrorMessageRegistry errorMessages, String source) {
+        this.snapshot = new AtomicReference<>(new CatalogSnapshot(catalog, errorMessages, 0, source, Instant.now(), Map.of()));
+    }
+
+    private CatalogMessageSource(CatalogSnapshot snapshot) {
+        this.snapshot = new AtomicReference<>(snapshot);
+    }
+
+    public MessageCatalog getCatalog() {
+        return snapshot.get().catalog();
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Registers an extension and derives its state from the current catalog, so it is part of
+     * every snapshot from now on.
+     *
+     * @param extension the extension to register
+     */
+    public void register(CatalogSnapshotExtension<?> extension) {
+        extensions.add(extension);
+        snapshot.updateAndGet(this::extend);
+    }
+
+    /**
+     * Atomically replaces the current catalog. The state of every registered
+     * {@link CatalogSnapshotExtension} is derived from the new catalog first and published with it.
+     *
+     * @param catalog the fully built catalog to publish
+     * @param source  a description of where the catalog was loaded from
+     * @return the published {@link CatalogSnapshot}
+     */
+    public CatalogSnapshot publish(MessageCatalog catalog, String source) {
+        ErrorMessageRegistry errorMessages = ErrorMessageRegistry.of(catalog);
+        return snapshot.updateAndGet(current -> extend(
+                new CatalogSnapshot(catalog, errorMessages, current.version() + 1, source, Instant.now(), Map.of())));
+    }
+
+    private CatalogSnapshot extend(CatalogSnapshot candidate) {
+        if (extensions.isEmpty()) {
+            return candidate;
+        }
+        CatalogMessageSource candidateSource = new CatalogMessageSource(candidate);
+        Map<CatalogSnapshotExtension<?>, Object> derived = new HashMap<>();
+        for (CatalogSnapshotExtension<?> extension : extensions) {
+            derived.put(extension, extension.derive(candidateSource));
+        }
+        return new CatalogSnapshot(candidate.catalog(), candidate.errorMessages(), candidate.version(), candidate.source(),
+                candidate.publishedAt(), Map.copyOf(derived));
+    }
+
+    /**
+     * Resolves the title of the given exception type by ordinal, without looking up its key.
+     *
+     * @param type   the exception type
+     * @param args   the message arguments, may be {@code null}
+     * @param locale the requested locale
+     * @return the formatted title, or {@code null} if there is none for the locale
+     */
+    @Override
+    @Nullable
+    public String getErrorTitle(LocalizedExceptionTypes type, @Nullable Object[] args, Locale locale) {
+        return formatAlways(snapshot.get().errorMessages().findTitle(type, locale), args, locale);
+    }
+
+    /**
+     * Resolves the message of the given exception type by ordinal, without looking up its key.
+     *
+     * @param type   the exception type
+     * @param args   the message arguments, may be {@code null}
+     * @param locale the requested locale
+     * @return the formatted message, or {@code null} if there is none for the locale
+     */
+    @Override
+    @Nullable
+    public String getErrorMessage(LocalizedExceptionTypes type, @Nullable Object[] args, Locale locale) {
+        return formatAlways(snapshot.get().errorMessages().findMessage(type, locale), args, locale);
+    }
+
+    /**
+     * Indicates whether the title or message of the given exception type references a message
+     * argument in any bundle. If not, an exception of that type renders the same text whatever
+     * arguments it carries.
+     *
+     * @param type the exception type
+     * @return {@code true} if formatting the type's messages may depend on the arguments
+     */
+    public boolean errorMessagesUseArguments(LocalizedExceptionTypes type) {
+        return snapshot.get().errorMessages().usesArguments(type);
+    }
+
+    @Override
+    @Nullable
+    public String getMessage(String code, @Nullable Object[] args, @Nullable String defaultMessage, @Nullable Locale locale) {
+        Locale localeToUse = locale != null ? locale : Locale.getDefault();
+        String message = resolve(code, args, localeToUse);
+        if (message != null) {
+            return message;
+        }
+        return defaultMessage != null ? renderDefaultMessage(defaultMessage, args, localeToUse) : null;
+    }
+
+    @Override
+    public String getMessage(String code, @Nullable Object[] args, @Nullable Locale locale) throws NoSuchMessageException {
+        Locale localeToUse = locale != null ? locale : Locale.getDefault();
+        String message = resolve(code, args, localeToUse);
+        if (message == null) {
+            throw new NoSuchMessageException(code, localeToUse);
+        }
+        return message;
+    }
+
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, @Nullable Locale locale) throws NoSuchMessageException {
+        Locale localeToUse = locale != null ? locale : Locale.getDefault();
+        String[] codes = resolvable.getCodes();
+        if (codes != null) {
+            for (String code : codes) {
+                String message = resolve(code, resolvable.getArguments(), localeToUse);
+                if (message != null) {
+                    return message;
+                }
+            }
+        }
+        String defaultMessage = resolvable.getDefaultMessage();
+        if (defaultMessage != null) {
+            if (resolvable instanceof DefaultMessageSourceResolvable defaultResolvable && !defaultResolvable.shouldRenderDefaultMessage()) {
+                return defaultMessage;
+            }
+            return renderDefaultMessage(defaultMessage, resolvable.getArguments(), localeToUse);
+        }
+        throw new NoSuchMessageException(!ObjectUtils.isEmpty(codes) ? codes[codes.length - 1] : "", localeToUse);
+    }
+
+    @Nullable
+    private String resolve(String code, @Nullable Object[] args, Locale locale) {
+        return formatAlways(snapshot.get().catalog().find(code, locale), args, locale);
+    }
+
+    @Nullable
+    String formatAlways(@Nullable MessageTemplate template, @Nullable Object[] args, Locale locale) {
+        if (template == null) {
+            return null;
+        }
+        return template.formatAlways(resolveArguments(args, locale), locale);
+    }
+
+    @Nullable
+    private Object[] resolveArguments(@Nullable Object[] args, Locale locale) {
+        if (ObjectUtils.isEmpty(args)) {
+            return args;
+        }
+        Object[] resolved = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof MessageSourceResolvable resolvable) {
+                if (resolved == null) {
+                    resolved = args.clone();
+                }
+                resolved[i] = getMessage(resolvable, locale);
+            }
+        }
+        return resolved != null ? resolved : args;
+    }
+
+    private String renderDefaultMessage(String defaultMessage, @Nullable Object[] args, Locale locale) {
+        if (ObjectUtils.isEmpty(args)) {
+            return defaultMessage;
+        }
+        return MessageTemplate.parse(defaultMessage, locale).format(resolveArguments(args, locale), locale);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A published version of the message catalog.
+ *
+ * @param catalog       the immutable catalog
+ * @param errorMessages the titles and messages of the exception types, indexed by ordinal
+ * @param version       the version, starting at 0 for the catalog loaded at startup
+ * @param source        a description of where the catalog was loaded from
+ * @param publishedAt   the time the catalog was published
+ * @param extensions    the state derived from the catalog by each registered {@link CatalogSnapshotExtension}
+ */
+public record CatalogSnapshot(MessageCatalog catalog, ErrorMessageRegistry errorMessages, long version, String source, Instant publishedAt,
+                              Map<CatalogSnapshotExtension<?>, Object> extensions) {
+
+    /**
+     * Returns the state the given extension derived from this snapshot's catalog.
+     *
+     * @param extension the registered extension
+     * @param <T>       the type of the derived state
+     * @return the derived state, or {@code null} if the extension is not registered
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T extension(CatalogSnapshotExtension<T> extension) {
+        return (T) extensions.get(extension);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+/**
+ * State derived from a message catalog, e.g. pre-rendered responses, that is computed before the
+ * catalog is published and published together with it in the same {@link CatalogSnapshot}. Readers
+ * that take both from one snapshot therefore never combine a new catalog with stale derived state.
+ *
+ * @param <T> the type of the derived state
+ * @see CatalogMessageSource#register
+ */
+@FunctionalInterface
+public interface CatalogSnapshotExtension<T> {
+
+    /**
+     * Derives the state of a catalog that is about to be published.
+     *
+     * @param messageSource a message source resolving from that catalog only
+     * @return the derived state, never {@code null}
+     */
+    T derive(CatalogMessageSource messageSource);
+}
@@ -0,0 +1,104 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pre-parsed Bean Validation message, e.g. {@code The value must be between {min} and {max}.},
+ * whose named parameters are filled in from the attributes of the violated constraint.
+ * Like Hibernate Validator's parameter interpolation, a backslash escapes the next character and
+ * parameters without a matching attribute are left as they are. As everywhere in the catalog, a
+ * doubled apostrophe {@code ''} stands for one. Expression language ({@code ${...}}) is not evaluated.
+ */
+public final class ConstraintMessageTemplate {
+
+    private final String[] literals;
+    private final String[] parameters;
+
+    private ConstraintMessageTemplate(String[] literals, String[] parameters) {
+        this.literals = literals;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Parses the given message.
+     *
+     * @param message the message as defined in the catalog
+     * @return the parsed {@link ConstraintMessageTemplate}
+     */
+    public static ConstraintMessageTemplate parse(String message) {
+        List<String> literals = new ArrayList<>();
+        List<String> parameters = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < message.length()) {
+            char c = message.charAt(i);
+            if (c == '\\' && i + 1 < message.length()) {
+                literal.append(message.charAt(i + 1));
+                i += 2;
+                continue;
+            }
+            if (c == '\'' && i + 1 < message.length() && message.charAt(i + 1) == '\'') {
+                literal.append(c);
+                i += 2;
+                continue;
+            }
+            if (c == '{' && (i == 0 || message.charAt(i - 1) != '$')) {
+                int end = message.indexOf('}', i + 1);
+                int nested = message.indexOf('{', i + 1);
+                if (end > i + 1 && (nested < 0 || nested > end)) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    parameters.add(message.substring(i + 1, end).trim());
+                    i = end + 1;
+                    continue;
+                }
+            }
+            literal.append(c);
+            i++;
+        }
+        literals.add(literal.toString());
+        return new ConstraintMessageTemplate(literals.toArray(String[]::new), parameters.toArray(String[]::new));
+    }
+
+    /**
+     * Extracts the message code of a constraint message that consists of a single
+     * {@code {code}} reference, e.g. {@code {validation.exception.min}}.
+     *
+     * @param messageTemplate the message template of a constraint
+     * @return the referenced code, or {@code null} if the template is not a single reference
+     */
+    public static String referencedCode(String messageTemplate) {
+        int length = messageTemplate.length();
+        if (length < 3 || messageTemplate.charAt(0) != '{' || messageTemplate.indexOf('}') != length - 1
+                || messageTemplate.indexOf('{', 1) >= 0) {
+            return null;
+        }
+        return messageTemplate.substring(1, length - 1);
+    }
+
+    /**
+     * Renders the message with the given constraint attributes.
+     *
+     * @param attributes the attributes of the violated constraint, e.g. {@code min} and {@code max}
+     * @return the rendered message
+     */
+    public String render(Map<String, Object> attributes) {
+        if (parameters.length == 0) {
+            return literals[0];
+        }
+        StringBuilder result = new StringBuilder(literals[0].length() + 16 * parameters.length);
+        for (int i = 0; i < parameters.length; i++) {
+            result.append(literals[i]);
+            if (attributes.containsKey(parameters[i])) {
+                Object value = attributes.get(parameters[i]);
+                result.append(value instanceof Object[] array ? Arrays.toString(array) : String.valueOf(value));
+            } else {
+                result.append('{').append(parameters[i]).append('}');
+            }
+        }
+        return result.append(literals[parameters.length]).toString();
+    }
+}
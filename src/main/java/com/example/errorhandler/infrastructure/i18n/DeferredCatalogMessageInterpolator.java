@@ -0,0 +1,49 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import jakarta.validation.MessageInterpolator;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Locale;
+
+/**
+ * A {@link MessageInterpolator} that leaves constraint messages referring to a single code of the
+ * error message catalog, e.g. {@code {validation.exception.min}}, uninterpolated. Those messages are
+ * localized per request locale when the validation error is rendered, so interpolating them during
+ * validation would only be wasted work. All other messages are passed to the delegate.
+ */
+public class DeferredCatalogMessageInterpolator implements MessageInterpolator {
+
+    private final MessageInterpolator delegate;
+    private final MessageSource messageSource;
+    private final Locale baselineLocale;
+
+    /**
+     * @param delegate       the interpolator for messages that are not deferred
+     * @param messageSource  the message source holding the error message catalog
+     * @param baselineLocale the locale whose bundle defines every catalog code
+     */
+    public DeferredCatalogMessageInterpolator(MessageInterpolator delegate, MessageSource messageSource, Locale baselineLocale) {
+        this.delegate = delegate;
+        this.messageSource = messageSource;
+        this.baselineLocale = baselineLocale;
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context) {
+        return interpolate(messageTemplate, context, LocaleContextHolder.getLocale());
+    }
+
+    @Override
+    public String interpolate(String messageTemplate, Context context, Locale locale) {
+        if (isCatalogReference(messageTemplate)) {
+            return messageTemplate;
+        }
+        return delegate.interpolate(messageTemplate, context, locale);
+    }
+
+    private boolean isCatalogReference(String messageTemplate) {
+        String code = ConstraintMessageTemplate.referencedCode(messageTemplate);
+        return code != null && messageSource.getMessage(code, null, null, baselineLocale) != null;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The title and message templates of every {@link LocalizedExceptionTypes} per bundle locale, held
+ * in arrays indexed by locale and ordinal. Resolving the messages of a type is an array access once
+ * the index of the requested locale is known, which is computed once per locale following the same
+ * {@link ResourceBundle} candidate and default-locale semantics as {@link MessageCatalog}.
+ * The registry of the classpath bundles is generated at build time by the {@code generateErrorMessages}
+ * task, which also fails the build if a bundle lacks a title or message or uses other placeholders
+ * than English. Registries of catalogs loaded at runtime are built with {@link #of(MessageCatalog)}.
+ */
+public final class ErrorMessageRegistry {
+
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+    private static final int NO_BUNDLE = -1;
+
+    private final Locale[] locales;
+    private final MessageTemplate[][] titles;
+    private final MessageTemplate[][] messages;
+    private final int defaultIndex;
+    private final Map<Locale, Integer> indexes = new ConcurrentHashMap<>();
+
+    private ErrorMessageRegistry(Locale[] locales, MessageTemplate[][] titles, MessageTemplate[][] messages, Locale defaultLocale) {
+        this.locales = locales;
+        this.titles = titles;
+        this.messages = messages;
+        // NO_BUNDLE if there is no bundle for the default locale
+        this.defaultIndex = Arrays.asList(locales).indexOf(defaultLocale);
+    }
+
+    /**
+     * Returns the registry generated from the classpath bundles at build time.
+     *
+     * @param defaultLocale the locale to fall back to when no bundle exists for a requested locale
+     * @return the generated {@link ErrorMessageRegistry}
+     * @throws IllegalStateException if the generated table does not match {@link LocalizedExceptionTypes}
+     */
+    public static ErrorMessageRegistry generated(Locale defaultLocale) {
+        LocalizedExceptionTypes[] types = LocalizedExceptionTypes.values();
+        if (types.length != GeneratedErrorMessages.TYPES.length) {
+            throw new IllegalStateException("Generated error messages cover " + GeneratedErrorMessages.TYPES.length
+                    + " types, but LocalizedExceptionTypes has " + types.length + "; rebuild the project");
+        }
+        for (LocalizedExceptionTypes type : types) {
+            if (!type.name().equals(GeneratedErrorMessages.TYPES[type.ordinal()])) {
+                throw new IllegalStateException("Generated error messages expect " + GeneratedErrorMessages.TYPES[type.ordinal()]
+                        + " at ordinal " + type.ordinal() + " but found " + type + "; rebuild the project");
+            }
+        }
+        Locale[] locales = Arrays.stream(GeneratedErrorMessages.LOCALES).map(Locale::forLanguageTag).toArray(Locale[]::new);
+        MessageTemplate[][] titles = new MessageTemplate[locales.length][];
+        MessageTemplate[][] messages = new MessageTemplate[locales.length][];
+        for (int i = 0; i < locales.length; i++) {
+            titles[i] = parse(GeneratedErrorMessages.TITLES[i], locales[i]);
+            messages[i] = parse(GeneratedErrorMessages.MESSAGES[i], locales[i]);
+        }
+        return new ErrorMessageRegistry(locales, titles, messages, defaultLocale);
+    }
+
+    /**
+     * Builds the registry of the given catalog. Unlike the generated registry, it may have gaps
+     * where a bundle does not define a title or message.
+     *
+     * @param catalog the catalog to index
+     * @return the new {@link ErrorMessageRegistry}
+     */
+    public static ErrorMessageRegistry of(MessageCatalog catalog) {
+        Locale[] locales = catalog.getLocales().stream().filter(locale -> !Locale.ROOT.equals(locale)).toArray(Locale[]::new);
+        LocalizedExceptionTypes[] types = LocalizedExceptionTypes.values();
+        MessageTemplate[][] titles = new MessageTemplate[locales.length][types.length];
+        MessageTemplate[][] messages = new MessageTemplate[locales.length][types.length];
+        for (int i = 0; i < locales.length; i++) {
+            for (LocalizedExceptionTypes type : types) {
+                titles[i][type.ordinal()] = catalog.find(type.getErrorTitleKey(), locales[i]);
+                messages[i][type.ordinal()] = catalog.find(type.getErrorMessageKey(), locales[i]);
+            }
+        }
+        return new ErrorMessageRegistry(locales, titles, messages, catalog.getDefaultLocale());
+    }
+
+    /**
+     * Finds the title template of the given type.
+     *
+     * @param type   the exception type
+     * @param locale the requested locale
+     * @return the matching {@link MessageTemplate}, or {@code null} if there is none
+     */
+    @Nullable
+    public MessageTemplate findTitle(LocalizedExceptionTypes type, Locale locale) {
+        int index = indexOf(locale);
+        return index == NO_BUNDLE ? null : titles[index][type.ordinal()];
+    }
+
+    /**
+     * Finds the message template of the given type.
+     *
+     * @param type   the exception type
+     * @param locale the requested locale
+     * @return the matching {@link MessageTemplate}, or {@code null} if there is none
+     */
+    @Nullable
+    public MessageTemplate findMessage(LocalizedExceptionTypes type, Locale locale) {
+        int index = indexOf(locale);
+        return index == NO_BUNDLE ? null : messages[index][type.ordinal()];
+    }
+
+    /**
+     * Indicates whether the title or message of the given type references a message argument in any bundle.
+     *
+     * @param type the exception type
+     * @return {@code true} if a title or message template of the type has argument placeholders
+     */
+    public boolean usesArguments(LocalizedExceptionTypes type) {
+        for (int i = 0; i < locales.length; i++) {
+            if (usesArguments(titles[i][type.ordinal()]) || usesArguments(messages[i][type.ordinal()])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean usesArguments(@Nullable MessageTemplate template) {
+        return template != null && template.hasArguments();
+    }
+
+    private int indexOf(Locale locale) {
+        Integer index = indexes.get(locale);
+        if (index == null) {
+            index = indexes.computeIfAbsent(locale, this::resolveIndex);
+        }
+        return index;
+    }
+
+    private int resolveIndex(Locale locale) {
+        for (Locale candidate : CONTROL.getCandidateLocales("", locale)) {
+            for (int i = 0; i < locales.length; i++) {
+                if (locales[i].equals(candidate)) {
+                    return i;
+                }
+            }
+        }
+        return defaultIndex;
+    }
+
+    private static MessageTemplate[] parse(String[] patterns, Locale locale) {
+        return Arrays.stream(patterns).map(pattern -> MessageTemplate.parse(pattern, locale)).toArray(MessageTemplate[]::new);
+    }
+}
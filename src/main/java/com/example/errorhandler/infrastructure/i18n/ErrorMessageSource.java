@@ -0,0 +1,39 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import org.springframework.context.MessageSource;
+import org.springframework.lang.Nullable;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+
+/**
+ * A {@link MessageSource} that also resolves the titles and messages of {@link LocalizedExceptionTypes}
+ * by type. Unlike {@link #getMessage}, which returns arg-less patterns verbatim like Spring's message
+ * sources do by default, these always apply the {@link MessageFormat} rules, so an error message
+ * renders the same text with and without arguments; a literal apostrophe is written as {@code ''}.
+ */
+public interface ErrorMessageSource extends MessageSource {
+
+    /**
+     * Resolves the title of the given exception type.
+     *
+     * @param type   the exception type
+     * @param args   the message arguments, may be {@code null}
+     * @param locale the requested locale
+     * @return the formatted title, or {@code null} if there is none for the locale
+     */
+    @Nullable
+    String getErrorTitle(LocalizedExceptionTypes type, @Nullable Object[] args, Locale locale);
+
+    /**
+     * Resolves the message of the given exception type.
+     *
+     * @param type   the exception type
+     * @param args   the message arguments, may be {@code null}
+     * @param locale the requested locale
+     * @return the formatted message, or {@code null} if there is none for the locale
+     */
+    @Nullable
+    String getErrorMessage(LocalizedExceptionTypes type, @Nullable Object[] args, Locale locale);
+}
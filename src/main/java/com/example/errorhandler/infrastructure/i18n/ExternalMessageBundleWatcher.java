@@ -0,0 +1,216 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloads the error message bundles of an external directory whenever a file in that directory
+ * changes. Bursts of file events are debounced into a single reload, which builds a complete new
+ * {@link MessageCatalog} on a background thread, validates it and only then publishes it through
+ * {@link CatalogMessageSource#publish}. A catalog that fails to load or validate is discarded and
+ * the previous one stays active.
+ * <p>
+ * Any event of the directory triggers a check, not only events of the bundle files: a Kubernetes
+ * ConfigMap volume updates its files by atomically swapping the {@code ..data} symlink to a new
+ * timestamped directory, so the bundle files themselves, which are symlinks through
+ * {@code ..data}, never report a change. The check compares a digest of the bundle contents with
+ * the last loaded one and only reloads when it differs.
+ */
+@Slf4j
+public class ExternalMessageBundleWatcher {
+
+    private final CatalogMessageSource messageSource;
+    private final MessageCatalogValidator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path directory;
+    private final String bundleName;
+    private final Locale defaultLocale;
+    private final Duration debounce;
+    private final ScheduledExecutorService reloadExecutor;
+
+    private WatchService watchService;
+    private Thread watchThread;
+    private ScheduledFuture<?> pendingReload;
+    private volatile Instant lastAttempt;
+    private volatile String lastError;
+    private volatile String lastDigest;
+
+    public ExternalMessageBundleWatcher(CatalogMessageSource messageSource, MessageCatalogValidator validator,
+                                        ApplicationEventPublisher eventPublisher, Path directory, String bundleName,
+                                        Locale defaultLocale, Duration debounce) {
+        this.messageSource = messageSource;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.directory = directory;
+        this.bundleName = bundleName;
+        this.defaultLocale = defaultLocale;
+        this.debounce = debounce;
+        this.reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-bundle-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts watching the directory.
+     *
+     * @throws IOException if the directory cannot be watched
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        watchThread = new Thread(this::watch, "message-bundle-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        log.info("Watching {} for changes of '{}' bundles", directory, bundleName);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        reloadExecutor.shutdownNow();
+    }
+
+    /**
+     * Loads, validates and publishes the bundles of the watched directory.
+     *
+     * @return {@code true} if a new catalog was published
+     */
+    public boolean reload() {
+        lastAttempt = Instant.now();
+        try {
+            lastDigest = digest();
+            MessageCatalog catalog = MessageCatalog.load(directory, bundleName, defaultLocale);
+            List<String> errors = validator.validate(catalog);
+            if (!errors.isEmpty()) {
+                lastError = String.join("; ", errors);
+                log.error("Rejected message bundles from {}: {}", directory, lastError);
+                return false;
+            }
+            CatalogSnapshot snapshot = messageSource.publish(catalog, directory.toUri().toString());
+            lastError = null;
+            log.info("Published message catalog version {} from {}", snapshot.version(), snapshot.source());
+            eventPublisher.publishEvent(new MessageCatalogPublishedEvent(snapshot));
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            lastError = ex.toString();
+            log.error("Failed to reload message bundles from {}", directory, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Reloads the bundles of the watched directory if their contents differ from the last loaded
+     * ones, e.g. after a ConfigMap swapped its {@code ..data} symlink.
+     *
+     * @return {@code true} if a new catalog was published
+     */
+    public boolean reloadIfChanged() {
+        try {
+            if (digest().equals(lastDigest)) {
+                log.debug("Message bundles in {} are unchanged", directory);
+                return false;
+            }
+        } catch (IOException ex) {
+            log.debug("Failed to check message bundles in {}, reloading them", directory, ex);
+        }
+        return reload();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Instant getLastAttempt() {
+        return lastAttempt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                if (!key.pollEvents().isEmpty()) {
+                    scheduleReload();
+                }
+                if (!key.reset()) {
+                    log.warn("Stopped watching {}, the directory is no longer accessible", directory);
+                    return;
+                }
+            }
+        } catch (ClosedWatchServiceException ex) {
+            log.debug("Message bundle watcher closed");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void scheduleReload() {
+        if (pendingReload != null) {
+            pendingReload.cancel(false);
+        }
+        pendingReload = reloadExecutor.schedule(this::reloadIfChanged, debounce.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Digests the names and contents of the bundle files, following symlinks.
+     */
+    private String digest() throws IOException {
+        TreeMap<String, Path> files = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, bundleName + "*.properties")) {
+            stream.forEach(file -> files.put(file.getFileName().toString(), file));
+        }
+        MessageDigest digest = sha256();
+        for (Map.Entry<String, Path> file : files.entrySet()) {
+            digest.update(file.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            byte[] content = Files.readAllBytes(file.getValue());
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(content.length).array());
+            digest.update(content);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
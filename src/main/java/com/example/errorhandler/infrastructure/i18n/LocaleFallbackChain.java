@@ -0,0 +1,81 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * The locales a message is looked up in, in order, e.g. {@code fr-CA -> fr -> en}: the candidate
+ * locales of the requested locale as defined by {@link ResourceBundle}, followed by the default locale.
+ * Steps from the default locale on count as a fallback. Chains are immutable; see
+ * {@link LocaleFallbackChains} for the precomputed chains of the supported locales.
+ */
+public final class LocaleFallbackChain {
+
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private final Locale[] locales;
+    private final int fallbackIndex;
+
+    private LocaleFallbackChain(Locale[] locales, int fallbackIndex) {
+        this.locales = locales;
+        this.fallbackIndex = fallbackIndex;
+    }
+
+    /**
+     * Computes the chain of the given locale.
+     *
+     * @param locale        the requested locale
+     * @param defaultLocale the locale to fall back to
+     * @return the new {@link LocaleFallbackChain}
+     */
+    public static LocaleFallbackChain of(Locale locale, Locale defaultLocale) {
+        List<Locale> locales = new ArrayList<>();
+        for (Locale candidate : CONTROL.getCandidateLocales("", locale)) {
+            if (!Locale.ROOT.equals(candidate)) {
+                locales.add(candidate);
+            }
+        }
+        int fallbackIndex = locales.size();
+        if (!locales.contains(defaultLocale)) {
+            locales.add(defaultLocale);
+        }
+        return new LocaleFallbackChain(locales.toArray(Locale[]::new), fallbackIndex);
+    }
+
+    /**
+     * Returns the number of steps.
+     *
+     * @return the length of the chain
+     */
+    public int size() {
+        return locales.length;
+    }
+
+    /**
+     * Returns the locale of the given step.
+     *
+     * @param index the step, starting at {@code 0} for the requested locale
+     * @return the locale to look up in that step
+     */
+    public Locale get(int index) {
+        return locales[index];
+    }
+
+    /**
+     * Indicates whether a message found in the given step is a fallback to the default locale.
+     *
+     * @param index the step
+     * @return {@code true} if the step is past the candidates of the requested locale
+     */
+    public boolean isFallback(int index) {
+        return index >= fallbackIndex;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(locales);
+    }
+}
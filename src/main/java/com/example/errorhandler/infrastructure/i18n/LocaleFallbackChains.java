@@ -0,0 +1,58 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the {@link LocaleFallbackChain} of every supported locale, computed once at startup from the
+ * {@code supported-locales} property, so resolving a message never computes candidate locales on the
+ * request path. Chains of other locales are computed on first use and cached up to a bound.
+ * The application's instance is a bean declared by {@code LocaleConfig}.
+ */
+public class LocaleFallbackChains {
+
+    static final int MAX_OTHER_LOCALES = 256;
+
+    private final Locale defaultLocale;
+    private final Map<Locale, LocaleFallbackChain> precomputed;
+    private final ConcurrentMap<Locale, LocaleFallbackChain> others = new ConcurrentHashMap<>();
+
+    /**
+     * Precomputes the chains of the given locales.
+     *
+     * @param supportedLocales the locales requests are resolved to
+     * @param fallbackLocale   the locale every chain ends with
+     */
+    public LocaleFallbackChains(Collection<Locale> supportedLocales, Locale fallbackLocale) {
+        Map<Locale, LocaleFallbackChain> chains = new HashMap<>();
+        chains.put(fallbackLocale, LocaleFallbackChain.of(fallbackLocale, fallbackLocale));
+        supportedLocales.forEach(locale -> chains.put(locale, LocaleFallbackChain.of(locale, fallbackLocale)));
+        this.defaultLocale = fallbackLocale;
+        this.precomputed = Map.copyOf(chains);
+    }
+
+    /**
+     * Returns the chain of the given locale.
+     *
+     * @param locale the requested locale
+     * @return the {@link LocaleFallbackChain} to resolve messages of that locale with
+     */
+    public LocaleFallbackChain forLocale(Locale locale) {
+        LocaleFallbackChain chain = precomputed.get(locale);
+        if (chain != null) {
+            return chain;
+        }
+        chain = others.get(locale);
+        if (chain == null) {
+            chain = LocaleFallbackChain.of(locale, defaultLocale);
+            if (others.size() < MAX_OTHER_LOCALES) {
+                others.putIfAbsent(locale, chain);
+            }
+        }
+        return chain;
+    }
+}
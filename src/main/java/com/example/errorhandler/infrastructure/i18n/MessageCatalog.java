@@ -0,0 +1,313 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable snapshot of all localized messages of a bundle family, e.g. every
+ * {@code error_messages_*.properties} file. Each locale is backed by an immutable table of
+ * pre-parsed {@link MessageTemplate}s, so lookups never touch {@link ResourceBundle} or
+ * any lock once the catalog is built. Catalogs built from a {@link BinaryMessageCatalog} parse
+ * each message on its first lookup instead.
+ * The locale fallback follows {@link ResourceBundle} semantics: the candidate locales of the
+ * requested locale are probed first, and only if none of them has a bundle the default locale
+ * is used instead.
+ */
+@Slf4j
+public final class MessageCatalog {
+
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private final Map<Locale, Map<String, MessageTemplate>> tables;
+    private final Locale defaultLocale;
+    private final boolean lazy;
+    private final Map<Locale, Map<String, MessageTemplate>[]> chains = new ConcurrentHashMap<>();
+
+    private MessageCatalog(Map<Locale, Map<String, MessageTemplate>> tables, Locale defaultLocale, boolean lazy) {
+        this.tables = tables;
+        this.defaultLocale = defaultLocale;
+        this.lazy = lazy;
+    }
+
+    /**
+     * Loads every {@code <basename>_*.properties} file (and the base bundle, if present) found on the
+     * classpath into a new catalog. Files are read as UTF-8.
+     *
+     * @param resolver      the resolver used to scan the classpath
+     * @param basename      the bundle basename, e.g. {@code messages/error_messages/error_messages}
+     * @param defaultLocale the locale to fall back to when no bundle exists for a requested locale
+     * @return the loaded {@link MessageCatalog}
+     * @throws IOException if a bundle cannot be read
+     */
+    public static MessageCatalog load(ResourcePatternResolver resolver, String basename, Locale defaultLocale) throws IOException {
+        return load(resolver, basename, List.of(), defaultLocale);
+    }
+
+    /**
+     * Same as {@link #load(ResourcePatternResolver, String, Locale)}, additionally probing the bundles
+     * of the given locales directly. This finds them even where the classpath cannot be scanned,
+     * e.g. in a GraalVM native image.
+     *
+     * @param resolver      the resolver used to scan the classpath
+     * @param basename      the bundle basename, e.g. {@code messages/error_messages/error_messages}
+     * @param knownLocales  the locales whose bundles are probed if the scan did not find them
+     * @param defaultLocale the locale to fall back to when no bundle exists for a requested locale
+     * @return the loaded {@link MessageCatalog}
+     * @throws IOException if a bundle cannot be read
+     */
+    public static MessageCatalog load(ResourcePatternResolver resolver, String basename, Collection<Locale> knownLocales,
+                                      Locale defaultLocale) throws IOException {
+        String bundleName = StringUtils.getFilename(basename);
+        Map<Locale, Map<String, String>> bundles = new LinkedHashMap<>();
+        for (Resource resource : resolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + basename + "*.properties")) {
+            Locale locale = localeOf(bundleName, resource.getFilename());
+            if (locale != null && !bundles.containsKey(locale)) {
+                bundles.put(locale, read(resource));
+            }
+        }
+        for (Locale locale : knownLocales) {
+            Resource resource = resolver.getResource(ResourcePatternResolver.CLASSPATH_URL_PREFIX + basename + "_" + locale + ".properties");
+            if (!bundles.containsKey(locale) && resource.exists()) {
+                bundles.put(locale, read(resource));
+            }
+        }
+        log.info("Loaded message catalog '{}' for locales {}", basename, bundles.keySet());
+        return of(bundles, defaultLocale);
+    }
+
+    /**
+     * Loads every {@code <bundleName>_*.properties} file (and the base bundle, if present) of the
+     * given directory into a new catalog. Files are read as UTF-8.
+     *
+     * @param directory     the directory holding the bundles
+     * @param bundleName    the bundle file name prefix, e.g. {@code error_messages}
+     * @param defaultLocale the locale to fall back to when no bundle exists for a requested locale
+     * @return the loaded {@link MessageCatalog}
+     * @throws IOException if the directory or a bundle cannot be read
+     */
+    public static MessageCatalog load(Path directory, String bundleName, Locale defaultLocale) throws IOException {
+        Map<Locale, Map<String, String>> bundles = new LinkedHashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, bundleName + "*.properties")) {
+            for (Path file : files) {
+                Locale locale = localeOf(bundleName, file.getFileName().toString());
+                if (locale == null || bundles.containsKey(locale)) {
+                    continue;
+                }
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    bundles.put(locale, read(reader));
+                }
+            }
+        }
+        log.info("Loaded message catalog '{}' from {} for locales {}", bundleName, directory, bundles.keySet());
+        return of(bundles, defaultLocale);
+    }
+
+    /**
+     * Builds a catalog from already loaded raw messages.
+     *
+     * @param bundles       the raw messages per locale; {@link Locale#ROOT} denotes the base bundle
+     * @param defaultLocale the locale to fall back to when no bundle exists for a requested locale
+     * @return the new {@link MessageCatalog}
+     */
+    public static MessageCatalog of(Map<Locale, Map<String, String>> bundles, Locale defaultLocale) {
+        Map<Locale, Map<String, MessageTemplate>> tables = new HashMap<>();
+        bundles.forEach((locale, messages) -> {
+            Map<String, MessageTemplate> table = new HashMap<>();
+            messages.forEach((code, pattern) -> table.put(code, MessageTemplate.parse(pattern, locale)));
+            tables.put(locale, Map.copyOf(table));
+        });
+        return new MessageCatalog(Map.copyOf(tables), defaultLocale, false);
+    }
+
+    /**
+     * Builds a catalog on top of a compiled {@link BinaryMessageCatalog}. Unlike the other factories,
+     * messages are neither decoded nor parsed up front, but on their first lookup.
+     *
+     * @param binaryCatalog the compiled catalog
+     * @param defaultLocale the locale to fall back to when no bundle exists for a requested locale
+     * @return the new {@link MessageCatalog}
+     */
+    public static MessageCatalog of(BinaryMessageCatalog binaryCatalog, Locale defaultLocale) {
+        Map<Locale, Map<String, MessageTemplate>> tables = new HashMap<>();
+        List<Locale> locales = binaryCatalog.getLocales();
+        for (int i = 0; i < locales.size(); i++) {
+            tables.put(locales.get(i), new BinaryBundleTable(binaryCatalog, i));
+        }
+        log.info("Opened {} of {} bytes", binaryCatalog, binaryCatalog.getSize());
+        return new MessageCatalog(Map.copyOf(tables), defaultLocale, true);
+    }
+
+    /**
+     * Finds the template for the given code, walking the locale fallback chain.
+     *
+     * @param code   the message code
+     * @param locale the requested locale
+     * @return the matching {@link MessageTemplate}, or {@code null} if the code is unknown
+     */
+    public MessageTemplate find(String code, Locale locale) {
+        for (Map<String, MessageTemplate> table : chainFor(locale)) {
+            MessageTemplate template = table.get(code);
+            if (template != null) {
+                return template;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the template for the given code in the bundle of exactly the given locale, without fallback.
+     *
+     * @param code   the message code
+     * @param locale the bundle locale
+     * @return the matching {@link MessageTemplate}, or {@code null} if the bundle does not define the code
+     */
+    public MessageTemplate findExact(String code, Locale locale) {
+        return tables.getOrDefault(locale, Collections.emptyMap()).get(code);
+    }
+
+    /**
+     * Finds the template for the given code in the bundles of the candidate locales of the given locale,
+     * e.g. {@code fr_CA} and {@code fr}, without falling back to the default locale or the base bundle.
+     *
+     * @param code   the message code
+     * @param locale the requested locale
+     * @return the matching {@link MessageTemplate}, or {@code null} if none of the candidate bundles defines the code
+     */
+    public MessageTemplate findInCandidates(String code, Locale locale) {
+        for (Locale candidate : CONTROL.getCandidateLocales("", locale)) {
+            Map<String, MessageTemplate> table = tables.get(candidate);
+            MessageTemplate template = table != null && !Locale.ROOT.equals(candidate) ? table.get(code) : null;
+            if (template != null) {
+                return template;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indicates whether a bundle exists for the given locale or one of its candidate locales, i.e.
+     * whether lookups for it are answered without falling back to the default locale.
+     *
+     * @param locale the requested locale
+     * @return {@code true} if a candidate bundle exists
+     */
+    public boolean hasBundleFor(Locale locale) {
+        for (Locale candidate : CONTROL.getCandidateLocales("", locale)) {
+            if (!Locale.ROOT.equals(candidate) && tables.containsKey(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the locales that have a bundle in this catalog.
+     *
+     * @return an immutable set of locales
+     */
+    public Set<Locale> getLocales() {
+        return tables.keySet();
+    }
+
+    /**
+     * Returns the codes defined directly in the bundle of the given locale, without fallback.
+     *
+     * @param locale the bundle locale
+     * @return an immutable set of codes, empty if there is no such bundle
+     */
+    public Set<String> getCodes(Locale locale) {
+        return tables.getOrDefault(locale, Collections.emptyMap()).keySet();
+    }
+
+    public Locale getDefaultLocale() {
+        return defaultLocale;
+    }
+
+    /**
+     * Indicates whether messages are decoded and parsed on their first lookup, as for catalogs built
+     * from a {@link BinaryMessageCatalog}.
+     *
+     * @return {@code true} if messages are not parsed up front
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    private Map<String, MessageTemplate>[] chainFor(Locale locale) {
+        Map<String, MessageTemplate>[] chain = chains.get(locale);
+        if (chain == null) {
+            chain = chains.computeIfAbsent(locale, this::buildChain);
+        }
+        return chain;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, MessageTemplate>[] buildChain(Locale locale) {
+        List<Map<String, MessageTemplate>> chain = new ArrayList<>();
+        addCandidates(chain, locale);
+        if (chain.isEmpty() && !locale.equals(defaultLocale)) {
+            addCandidates(chain, defaultLocale);
+        }
+        Map<String, MessageTemplate> base = tables.get(Locale.ROOT);
+        if (base != null) {
+            chain.add(base);
+        }
+        return chain.toArray(Map[]::new);
+    }
+
+    private void addCandidates(List<Map<String, MessageTemplate>> chain, Locale locale) {
+        for (Locale candidate : CONTROL.getCandidateLocales("", locale)) {
+            Map<String, MessageTemplate> table = tables.get(candidate);
+            if (table != null && !Locale.ROOT.equals(candidate)) {
+                chain.add(table);
+            }
+        }
+    }
+
+    private static Map<String, String> read(Resource resource) throws IOException {
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    private static Map<String, String> read(Reader reader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        Map<String, String> messages = new HashMap<>();
+        properties.forEach((key, value) -> messages.put((String) key, (String) value));
+        return messages;
+    }
+
+    private static Locale localeOf(String bundleName, String filename) {
+        if (filename == null || !filename.startsWith(bundleName)) {
+            return null;
+        }
+        String suffix = StringUtils.stripFilenameExtension(filename.substring(bundleName.length()));
+        if (suffix.isEmpty()) {
+            return Locale.ROOT;
+        }
+        return suffix.charAt(0) == '_' ? StringUtils.parseLocale(suffix.substring(1)) : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reports the currently published message catalog under {@code /actuator/messagecatalog}:
+ * its version, where it was loaded from, when it was published and which locales it covers.
+ * When external bundles are watched, the outcome of the last reload attempt is included as well.
+ */
+@Component
+@Endpoint(id = "messagecatalog")
+@RequiredArgsConstructor
+public class MessageCatalogEndpoint {
+
+    private final CatalogMessageSource messageSource;
+    private final ObjectProvider<ExternalMessageBundleWatcher> watcher;
+
+    @ReadOperation
+    public Map<String, Object> catalog() {
+        CatalogSnapshot snapshot = messageSource.getSnapshot();
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("version", snapshot.version());
+        details.put("source", snapshot.source());
+        details.put("publishedAt", snapshot.publishedAt());
+        details.put("locales", snapshot.catalog().getLocales().stream().map(Locale::toLanguageTag).sorted().toList());
+        watcher.ifAvailable(external -> {
+            Map<String, Object> reload = new LinkedHashMap<>();
+            reload.put("directory", external.getDirectory().toString());
+            reload.put("lastAttempt", external.getLastAttempt());
+            reload.put("lastError", external.getLastError());
+            details.put("reload", reload);
+        });
+        return details;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+/**
+ * Published after a new {@link CatalogSnapshot} replaced the previous one, so caches derived
+ * from the catalog can be rebuilt.
+ *
+ * @param snapshot the newly published snapshot
+ */
+public record MessageCatalogPublishedEvent(CatalogSnapshot snapshot) {
+}
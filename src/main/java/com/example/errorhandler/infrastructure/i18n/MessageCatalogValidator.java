@@ -0,0 +1,84 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks a candidate {@link MessageCatalog} against its English baseline before it is published.
+ * A catalog is rejected if the English bundle is missing, if it lacks a required code, or if a
+ * translation uses other placeholders than its English message. Codes missing from a translation
+ * are only reported as warnings, since the lookup falls back to English for them.
+ */
+@Slf4j
+public class MessageCatalogValidator {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\s*([^{},\\s]+)");
+
+    private final Locale baselineLocale;
+    private final Collection<String> requiredCodes;
+
+    /**
+     * @param baselineLocale the locale every translation is compared against
+     * @param requiredCodes  the codes the baseline bundle must define
+     */
+    public MessageCatalogValidator(Locale baselineLocale, Collection<String> requiredCodes) {
+        this.baselineLocale = baselineLocale;
+        this.requiredCodes = List.copyOf(requiredCodes);
+    }
+
+    /**
+     * Validates the given catalog.
+     *
+     * @param catalog the candidate catalog
+     * @return the problems that prevent publishing the catalog, empty if it is valid
+     */
+    public List<String> validate(MessageCatalog catalog) {
+        List<String> errors = new ArrayList<>();
+        if (!catalog.getLocales().contains(baselineLocale)) {
+            errors.add("Missing baseline bundle for locale '" + baselineLocale + "'");
+            return errors;
+        }
+        Set<String> baselineCodes = catalog.getCodes(baselineLocale);
+        for (String code : requiredCodes) {
+            if (!baselineCodes.contains(code)) {
+                errors.add("Missing required code '" + code + "' in baseline locale '" + baselineLocale + "'");
+            }
+        }
+        for (Locale locale : catalog.getLocales()) {
+            if (locale.equals(baselineLocale) || Locale.ROOT.equals(locale)) {
+                continue;
+            }
+            for (String code : baselineCodes) {
+                MessageTemplate translation = catalog.findExact(code, locale);
+                if (translation == null) {
+                    log.warn("Code '{}' has no translation for locale '{}', English will be used", code, locale);
+                    continue;
+                }
+                Set<String> expected = placeholders(catalog.findExact(code, baselineLocale).getPattern());
+                Set<String> actual = placeholders(translation.getPattern());
+                if (!expected.equals(actual)) {
+                    errors.add("Code '" + code + "' in locale '" + locale + "' uses placeholders " + actual
+                            + " but the baseline uses " + expected);
+                }
+            }
+        }
+        return errors;
+    }
+
+    private static Set<String> placeholders(String pattern) {
+        Set<String> placeholders = new TreeSet<>();
+        Matcher matcher = PLACEHOLDER.matcher(pattern);
+        while (matcher.find()) {
+            placeholders.add(matcher.group(1));
+        }
+        return placeholders;
+    }
+}
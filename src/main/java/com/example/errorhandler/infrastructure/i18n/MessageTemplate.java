@@ -0,0 +1,202 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An immutable, pre-parsed message pattern.
+ * The pattern is split once into literal segments and argument indexes following the
+ * {@link MessageFormat} syntax, so formatting a message only concatenates the segments with
+ * the rendered arguments and never needs a lock or a shared {@link MessageFormat} instance.
+ * Patterns using format types or styles (e.g. {@code {0,number,#.##}}) fall back to a fresh
+ * {@link MessageFormat} per call, and patterns that {@link MessageFormat} cannot parse at all
+ * (e.g. Bean Validation placeholders such as {@code {min}}) are returned verbatim.
+ */
+public final class MessageTemplate {
+
+    private static final int[] NO_ARGUMENTS = new int[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private final String pattern;
+    private final String[] literals;
+    private final int[] argumentIndexes;
+    private final boolean complex;
+    private final boolean invalid;
+
+    private MessageTemplate(String pattern, String[] literals, int[] argumentIndexes, boolean complex, boolean invalid) {
+        this.pattern = pattern;
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+        this.complex = complex;
+        this.invalid = invalid;
+    }
+
+    /**
+     * Parses the given pattern into a reusable template.
+     *
+     * @param pattern the raw message pattern as found in a bundle
+     * @param locale  the locale used to validate patterns with format types
+     * @return the parsed {@link MessageTemplate}
+     */
+    public static MessageTemplate parse(String pattern, Locale locale) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        StringBuilder segment = new StringBuilder(pattern.length());
+        boolean inQuote = false;
+        int length = pattern.length();
+        for (int i = 0; i < length; i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    segment.append(ch);
+                    i++;
+                } else {
+                    inQuote = !inQuote;
+                }
+            } else if (ch == '{' && !inQuote) {
+                int end = pattern.indexOf('}', i + 1);
+                if (end < 0) {
+                    return verbatim(pattern);
+                }
+                String argument = pattern.substring(i + 1, end);
+                if (!isArgumentIndex(argument)) {
+                    return argument.indexOf(',') > 0 && isArgumentIndex(argument.substring(0, argument.indexOf(',')))
+                            ? complex(pattern, locale)
+                            : verbatim(pattern);
+                }
+                literals.add(segment.toString());
+                segment.setLength(0);
+                indexes.add(Integer.parseInt(argument));
+                i = end;
+            } else {
+                segment.append(ch);
+            }
+        }
+        literals.add(segment.toString());
+        int[] argumentIndexes = indexes.isEmpty() ? NO_ARGUMENTS : indexes.stream().mapToInt(Integer::intValue).toArray();
+        return new MessageTemplate(pattern, literals.toArray(String[]::new), argumentIndexes, false, false);
+    }
+
+    /**
+     * Returns the raw pattern, which is what an arg-less lookup yields.
+     *
+     * @return the raw, unformatted pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Indicates whether this template references any positional argument.
+     *
+     * @return {@code true} if formatting the template depends on the supplied arguments
+     */
+    public boolean hasArguments() {
+        return complex || argumentIndexes.length > 0;
+    }
+
+    /**
+     * Formats this template with the given arguments. Without arguments the cached raw pattern
+     * is returned as-is, mirroring Spring's {@code alwaysUseMessageFormat=false} behaviour.
+     *
+     * @param args   the message arguments, may be {@code null}
+     * @param locale the locale used to render numbers and dates
+     * @return the formatted message
+     */
+    public String format(Object[] args, Locale locale) {
+        if (args == null || args.length == 0 || invalid) {
+            return pattern;
+        }
+        if (complex) {
+            return new MessageFormat(pattern, locale).format(args);
+        }
+        if (argumentIndexes.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(pattern.length() + 16 * argumentIndexes.length);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            builder.append(literals[i]);
+            appendArgument(builder, args, argumentIndexes[i], locale);
+        }
+        return builder.append(literals[argumentIndexes.length]).toString();
+    }
+
+    /**
+     * Formats this template following the {@link MessageFormat} rules even without arguments, mirroring
+     * Spring's {@code alwaysUseMessageFormat=true}: quotes are unescaped, e.g. {@code d''erreur} becomes
+     * {@code d'erreur}, and arguments that are not supplied are rendered as their placeholder. A template
+     * without argument placeholders therefore renders the same text whatever arguments are passed.
+     * Patterns {@link MessageFormat} cannot parse are still returned verbatim.
+     *
+     * @param args   the message arguments, may be {@code null}
+     * @param locale the locale used to render numbers and dates
+     * @return the formatted message
+     */
+    public String formatAlways(Object[] args, Locale locale) {
+        if (invalid) {
+            return pattern;
+        }
+        Object[] argsToUse = args != null ? args : NO_VALUES;
+        if (complex) {
+            return new MessageFormat(pattern, locale).format(argsToUse);
+        }
+        if (argumentIndexes.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(pattern.length() + 16 * argumentIndexes.length);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            builder.append(literals[i]);
+            appendArgument(builder, argsToUse, argumentIndexes[i], locale);
+        }
+        return builder.append(literals[argumentIndexes.length]).toString();
+    }
+
+    private static void appendArgument(StringBuilder builder, Object[] args, int index, Locale locale) {
+        if (index >= args.length) {
+            builder.append('{').append(index).append('}');
+            return;
+        }
+        Object arg = args[index];
+        if (arg == null) {
+            builder.append("null");
+        } else if (arg instanceof String string) {
+            builder.append(string);
+        } else if (arg instanceof Number) {
+            builder.append(NumberFormat.getInstance(locale).format(arg));
+        } else if (arg instanceof Date) {
+            builder.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(arg));
+        } else {
+            builder.append(arg);
+        }
+    }
+
+    private static boolean isArgumentIndex(String argument) {
+        if (argument.isEmpty() || argument.length() > 9) {
+            return false;
+        }
+        for (int i = 0; i < argument.length(); i++) {
+            if (!Character.isDigit(argument.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MessageTemplate complex(String pattern, Locale locale) {
+        try {
+            new MessageFormat(pattern, locale);
+            return new MessageTemplate(pattern, new String[]{pattern}, NO_ARGUMENTS, true, false);
+        } catch (IllegalArgumentException ex) {
+            return verbatim(pattern);
+        }
+    }
+
+    private static MessageTemplate verbatim(String pattern) {
+        return new MessageTemplate(pattern, new String[]{pattern}, NO_ARGUMENTS, false, true);
+    }
+}
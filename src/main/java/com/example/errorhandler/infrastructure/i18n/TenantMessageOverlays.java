@@ -0,0 +1,201 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Holds the sparse message overlays of tenants on top of the shared {@link CatalogMessageSource}.
+ * Each overlay is a {@link MessageCatalog} holding only the codes a tenant words differently; every
+ * other code resolves from the shared catalog, so tenants cost memory only for their overrides.
+ * The overlays are kept in an immutable map that is replaced as a whole whenever an overlay is
+ * published or removed, so readers never lock, and updating one tenant neither rebuilds the shared
+ * catalog nor touches the other tenants. Overlays can be loaded from a directory holding one
+ * subdirectory of bundles per tenant, e.g. {@code <directory>/acme/error_messages_fr.properties}.
+ */
+@Slf4j
+public class TenantMessageOverlays {
+
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final CatalogMessageSource base;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path directory;
+    private final String bundleName;
+    private final int maxCacheSize;
+    private final AtomicReference<Map<String, TenantMessageSource>> tenants = new AtomicReference<>(Map.of());
+
+    /**
+     * @param base           the shared message source the overlays are layered on
+     * @param eventPublisher the publisher of {@link TenantOverlayPublishedEvent}s
+     * @param directory      the directory holding one subdirectory per tenant, may be {@code null}
+     * @param bundleName     the bundle file name prefix, e.g. {@code error_messages}
+     * @param maxCacheSize   the maximum number of resolved entries cached per tenant
+     */
+    public TenantMessageOverlays(CatalogMessageSource base, ApplicationEventPublisher eventPublisher, @Nullable Path directory,
+                                 String bundleName, int maxCacheSize) {
+        this.base = base;
+        this.eventPublisher = eventPublisher;
+        this.directory = directory;
+        this.bundleName = bundleName;
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * Checks whether the given value can be a tenant id, which keeps arbitrary header values out of
+     * caches and paths.
+     *
+     * @param tenant the candidate tenant id
+     * @return {@code true} if it is a non-empty word of at most 64 characters
+     */
+    public static boolean isValidTenantId(@Nullable String tenant) {
+        return tenant != null && TENANT_ID.matcher(tenant).matches();
+    }
+
+    /**
+     * Loads the overlays of all tenant subdirectories of the configured directory.
+     *
+     * @throws IOException if the directory or a bundle cannot be read
+     */
+    public void loadAll() throws IOException {
+        if (directory == null) {
+            return;
+        }
+        try (DirectoryStream<Path> subdirectories = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path subdirectory : subdirectories) {
+                String tenant = subdirectory.getFileName().toString();
+                if (isValidTenantId(tenant)) {
+                    reload(tenant);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reloads the overlay of one tenant from its subdirectory of the configured directory.
+     *
+     * @param tenant the tenant id
+     * @return the loaded overlay
+     * @throws IOException if the bundles cannot be read
+     */
+    public MessageCatalog reload(String tenant) throws IOException {
+        if (directory == null) {
+            throw new IllegalStateException("No tenant overlay directory is configured");
+        }
+        if (!isValidTenantId(tenant)) {
+            throw new IllegalArgumentException("Invalid tenant id '" + tenant + "'");
+        }
+        MessageCatalog overlay = MessageCatalog.load(directory.resolve(tenant), bundleName, base.getCatalog().getDefaultLocale());
+        publish(tenant, overlay);
+        return overlay;
+    }
+
+    /**
+     * Atomically replaces the overlay of the given tenant. Its cached entries are discarded with it.
+     *
+     * @param tenant  the tenant id
+     * @param overlay the sparse catalog of the tenant's overrides
+     */
+    public void publish(String tenant, MessageCatalog overlay) {
+        if (!isValidTenantId(tenant)) {
+            throw new IllegalArgumentException("Invalid tenant id '" + tenant + "'");
+        }
+        TenantMessageSource messageSource = new TenantMessageSource(tenant, overlay, base, maxCacheSize);
+        tenants.updateAndGet(current -> {
+            Map<String, TenantMessageSource> updated = new HashMap<>(current);
+            updated.put(tenant, messageSource);
+            return Map.copyOf(updated);
+        });
+        log.info("Published message overlay of tenant '{}' for locales {}", tenant, overlay.getLocales());
+        eventPublisher.publishEvent(new TenantOverlayPublishedEvent(tenant));
+    }
+
+    /**
+     * Removes the overlay of the given tenant, whose messages then resolve from the shared catalog.
+     *
+     * @param tenant the tenant id
+     * @return {@code true} if the tenant had an overlay
+     */
+    public boolean remove(String tenant) {
+        Map<String, TenantMessageSource> previous = tenants.getAndUpdate(current -> {
+            if (!current.containsKey(tenant)) {
+                return current;
+            }
+            Map<String, TenantMessageSource> updated = new HashMap<>(current);
+            updated.remove(tenant);
+            return Map.copyOf(updated);
+        });
+        if (!previous.containsKey(tenant)) {
+            return false;
+        }
+        eventPublisher.publishEvent(new TenantOverlayPublishedEvent(tenant));
+        return true;
+    }
+
+    /**
+     * Indicates whether the given tenant has an overlay.
+     *
+     * @param tenant the tenant id, may be {@code null}
+     * @return {@code true} if messages of the tenant may differ from the shared catalog
+     */
+    public boolean hasOverlay(@Nullable String tenant) {
+        return tenant != null && tenants.get().containsKey(tenant);
+    }
+
+    /**
+     * Returns the message source to resolve messages of the given tenant with.
+     *
+     * @param tenant the tenant id, may be {@code null}
+     * @return the tenant's layered message source, or the shared one if the tenant has no overlay
+     */
+    public MessageSource messageSourceFor(@Nullable String tenant) {
+        if (tenant == null) {
+            return base;
+        }
+        TenantMessageSource messageSource = tenants.get().get(tenant);
+        return messageSource != null ? messageSource : base;
+    }
+
+    /**
+     * Describes the published overlays.
+     *
+     * @return the locales, codes and cached entries per tenant, sorted by tenant id
+     */
+    public Map<String, Map<String, Object>> describe() {
+        Map<String, Map<String, Object>> description = new TreeMap<>();
+        tenants.get().forEach((tenant, messageSource) -> {
+            MessageCatalog overlay = messageSource.getOverlay();
+            Map<String, Object> details = new TreeMap<>();
+            details.put("locales", overlay.getLocales().stream().map(Locale::toLanguageTag).sorted().toList());
+            details.put("codes", overlay.getLocales().stream().mapToInt(locale -> overlay.getCodes(locale).size()).sum());
+            details.put("cachedEntries", messageSource.getCacheSize());
+            description.put(tenant, Collections.unmodifiableMap(details));
+        });
+        return description;
+    }
+
+    @EventListener
+    void onCatalogPublished(MessageCatalogPublishedEvent event) {
+        // which bundle an overlay is consulted in depends on the shared catalog, so start over with empty caches
+        tenants.updateAndGet(current -> {
+            Map<String, TenantMessageSource> updated = new HashMap<>();
+            current.forEach((tenant, messageSource) ->
+                    updated.put(tenant, new TenantMessageSource(tenant, messageSource.getOverlay(), base, maxCacheSize)));
+            return Map.copyOf(updated);
+        });
+    }
+}
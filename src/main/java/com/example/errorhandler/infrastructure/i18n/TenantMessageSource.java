@@ -0,0 +1,114 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.lang.Nullable;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link MessageSource} that resolves codes from the sparse overlay catalog of one tenant first and
+ * from the shared {@link CatalogMessageSource} otherwise. The overlay is consulted in the bundle the
+ * base lookup would use, i.e. an overlay in English does not shadow a French base message for a French
+ * request. Overlay lookups, including misses, are memoized per code and locale in a bounded cache;
+ * once the cache is full, lookups are still answered but no longer cached.
+ * Instances are immutable apart from that cache and are replaced, not updated, when the overlay changes.
+ */
+final class TenantMessageSource implements ErrorMessageSource {
+
+    private static final MessageTemplate MISSING = MessageTemplate.parse("", Locale.ROOT);
+
+    private final String tenant;
+    private final MessageCatalog overlay;
+    private final CatalogMessageSource base;
+    private final int maxCacheSize;
+    private final ConcurrentMap<OverlayKey, MessageTemplate> cache;
+
+    TenantMessageSource(String tenant, MessageCatalog overlay, CatalogMessageSource base, int maxCacheSize) {
+        this.tenant = tenant;
+        this.overlay = overlay;
+        this.base = base;
+        this.maxCacheSize = maxCacheSize;
+        this.cache = new ConcurrentHashMap<>(Math.max(16, Math.min(maxCacheSize, 1024)));
+    }
+
+    String getTenant() {
+        return tenant;
+    }
+
+    MessageCatalog getOverlay() {
+        return overlay;
+    }
+
+    int getCacheSize() {
+        return cache.size();
+    }
+
+    @Override
+    @Nullable
+    public String getErrorTitle(LocalizedExceptionTypes type, @Nullable Object[] args, Locale locale) {
+        MessageTemplate template = find(type.getErrorTitleKey(), locale);
+        return template != null ? base.formatAlways(template, args, locale) : base.getErrorTitle(type, args, locale);
+    }
+
+    @Override
+    @Nullable
+    public String getErrorMessage(LocalizedExceptionTypes type, @Nullable Object[] args, Locale locale) {
+        MessageTemplate template = find(type.getErrorMessageKey(), locale);
+        return template != null ? base.formatAlways(template, args, locale) : base.getErrorMessage(type, args, locale);
+    }
+
+    @Override
+    @Nullable
+    public String getMessage(String code, @Nullable Object[] args, @Nullable String defaultMessage, @Nullable Locale locale) {
+        Locale localeToUse = locale != null ? locale : Locale.getDefault();
+        MessageTemplate template = find(code, localeToUse);
+        return template != null ? base.formatAlways(template, args, localeToUse) : base.getMessage(code, args, defaultMessage, localeToUse);
+    }
+
+    @Override
+    public String getMessage(String code, @Nullable Object[] args, @Nullable Locale locale) throws NoSuchMessageException {
+        Locale localeToUse = locale != null ? locale : Locale.getDefault();
+        MessageTemplate template = find(code, localeToUse);
+        return template != null ? base.formatAlways(template, args, localeToUse) : base.getMessage(code, args, localeToUse);
+    }
+
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, @Nullable Locale locale) throws NoSuchMessageException {
+        Locale localeToUse = locale != null ? locale : Locale.getDefault();
+        String[] codes = resolvable.getCodes();
+        if (codes != null) {
+            for (String code : codes) {
+                String message = getMessage(code, resolvable.getArguments(), null, localeToUse);
+                if (message != null) {
+                    return message;
+                }
+            }
+        }
+        return base.getMessage(resolvable, localeToUse);
+    }
+
+    @Nullable
+    private MessageTemplate find(String code, Locale locale) {
+        OverlayKey key = new OverlayKey(code, locale);
+        MessageTemplate template = cache.get(key);
+        if (template == null) {
+            MessageCatalog catalog = base.getCatalog();
+            template = overlay.findInCandidates(code, catalog.hasBundleFor(locale) ? locale : catalog.getDefaultLocale());
+            if (template == null) {
+                template = MISSING;
+            }
+            if (cache.size() < maxCacheSize) {
+                cache.putIfAbsent(key, template);
+            }
+        }
+        return template != MISSING ? template : null;
+    }
+
+    private record OverlayKey(String code, Locale locale) {
+    }
+}
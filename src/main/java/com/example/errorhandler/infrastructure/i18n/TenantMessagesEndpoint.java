@@ -0,0 +1,42 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Manages the tenant message overlays under {@code /actuator/tenantmessages}: lists the published
+ * overlays, reloads the overlay of one tenant from the overlay directory with a {@code POST} to
+ * {@code /actuator/tenantmessages/{tenant}}, and removes it with a {@code DELETE}.
+ */
+@Component
+@Endpoint(id = "tenantmessages")
+@RequiredArgsConstructor
+public class TenantMessagesEndpoint {
+
+    private final TenantMessageOverlays overlays;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> tenants() {
+        return overlays.describe();
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload(@Selector String tenant) throws IOException {
+        MessageCatalog overlay = overlays.reload(tenant);
+        return Map.of("tenant", tenant, "locales", overlay.getLocales().stream().map(Locale::toLanguageTag).sorted().toList());
+    }
+
+    @DeleteOperation
+    public Map<String, Object> remove(@Selector String tenant) {
+        return Map.of("tenant", tenant, "removed", overlays.remove(tenant));
+    }
+}
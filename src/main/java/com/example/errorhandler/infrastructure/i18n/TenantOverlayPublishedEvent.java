@@ -0,0 +1,10 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+/**
+ * Published after the message overlay of a tenant was replaced or removed, so caches derived
+ * from the tenant's messages can be evicted.
+ *
+ * @param tenant the tenant id
+ */
+public record TenantOverlayPublishedEvent(String tenant) {
+}
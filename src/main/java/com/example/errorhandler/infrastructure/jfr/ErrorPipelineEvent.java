@@ -0,0 +1,24 @@
+package com.example.errorhandler.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the Java Flight Recorder events of the error pipeline. Every event carries the exception
+ * type and the locale it was recorded for, where they are known at that stage, and its duration.
+ * The events are disabled by default; {@code jfr/error-pipeline.jfc} enables them. While disabled,
+ * creating, beginning and committing an event does nothing.
+ */
+@Enabled(false)
+@StackTrace(false)
+@Category({"Error Handler"})
+public abstract class ErrorPipelineEvent extends jdk.jfr.Event {
+
+    @Label("Exception Type")
+    public String exceptionType;
+
+    @Label("Locale")
+    public String locale;
+}
@@ -0,0 +1,18 @@
+package com.example.errorhandler.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The negotiation of the request locale from the {@code Accept-Language} header. No exception
+ * type is known yet at this stage.
+ */
+@Name("com.example.errorhandler.LocaleResolution")
+@Label("Locale Resolution")
+@Description("Resolution of the request locale from the Accept-Language header")
+public class LocaleResolutionEvent extends ErrorPipelineEvent {
+
+    @Label("Accept-Language")
+    public String acceptLanguage;
+}
@@ -0,0 +1,18 @@
+package com.example.errorhandler.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The creation of a {@code LocalizedException}, including the capture of its stack trace.
+ * The locale is not known yet at this stage.
+ */
+@Name("com.example.errorhandler.LocalizedExceptionCreation")
+@Label("Localized Exception Creation")
+@Description("Creation of a LocalizedException, including its stack trace if one is captured")
+public class LocalizedExceptionCreationEvent extends ErrorPipelineEvent {
+
+    @Label("Stack Trace Captured")
+    public boolean stackTraceCaptured;
+}
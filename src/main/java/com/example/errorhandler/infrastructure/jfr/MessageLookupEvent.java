@@ -0,0 +1,21 @@
+package com.example.errorhandler.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The lookup of the localized title and message of an exception type.
+ */
+@Name("com.example.errorhandler.MessageLookup")
+@Label("Message Lookup")
+@Description("Lookup of the localized title and message of a LocalizedException")
+public class MessageLookupEvent extends ErrorPipelineEvent {
+
+    @Label("Fallback")
+    @Description("Whether the English or the default message had to be used")
+    public boolean fallback;
+
+    @Label("Fallback Target")
+    public String fallbackTarget;
+}
@@ -0,0 +1,20 @@
+package com.example.errorhandler.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The assembly of a problem detail by {@code ProblemDetailBuilder.build}.
+ */
+@Name("com.example.errorhandler.ProblemDetailBuild")
+@Label("Problem Detail Build")
+@Description("Assembly of an RFC 9457 problem detail")
+public class ProblemDetailBuildEvent extends ErrorPipelineEvent {
+
+    @Label("Status")
+    public int status;
+
+    @Label("Errors")
+    public int errors;
+}
@@ -0,0 +1,27 @@
+package com.example.errorhandler.infrastructure.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The encoding of a problem detail into the response body, either by Jackson or from a
+ * pre-serialized template.
+ */
+@Name("com.example.errorhandler.ProblemSerialization")
+@Label("Problem Serialization")
+@Description("Encoding of a problem detail into the response body")
+public class ProblemSerializationEvent extends ErrorPipelineEvent {
+
+    @Label("Format")
+    public String format;
+
+    @Label("Template")
+    @Description("Whether the body was spliced from a pre-serialized template")
+    public boolean template;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
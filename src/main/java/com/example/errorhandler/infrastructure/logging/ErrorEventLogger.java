@@ -0,0 +1,213 @@
+package com.example.errorhandler.infrastructure.logging;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.exception.LocalizationFallbackListener;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs error events of the error handling itself, e.g. missing translations, without ever blocking
+ * a request thread. Recording an event only samples it and offers it to a bounded, lock-free queue;
+ * when the queue is full the event is dropped and counted. A single background thread drains the
+ * queue and deduplicates events by category, key, locale and type within a time window: the first
+ * occurrence is logged right away, and repeated occurrences are summarized in one line per window,
+ * e.g. {@code 4711 occurrences in last 10s}. An event may carry the exception it is about, whose
+ * stack trace is logged with the first occurrence only.
+ */
+@Slf4j
+@Component
+public class ErrorEventLogger implements LocalizationFallbackListener {
+
+    /**
+     * The kinds of logged events, each with its own log level and sampling rate.
+     */
+    public enum Category {
+        MESSAGE_FALLBACK,
+        VALIDATION,
+        INVALID_ACCEPT_LANGUAGE,
+        UNHANDLED_EXCEPTION
+    }
+
+    static final int MAX_KEY_LENGTH = 128;
+    static final int MAX_KEYS_PER_WINDOW = 1024;
+
+    private final Map<Category, Double> samplingRates = new EnumMap<>(Category.class);
+    private final Duration window;
+    private final int queueCapacity;
+    private final Queue<ErrorEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<DedupKey, Long> occurrences = new HashMap<>();
+    private final ScheduledExecutorService writer;
+    private long overflow;
+
+    public ErrorEventLogger(@Value("${error-logging.window:10s}") Duration window,
+                            @Value("${error-logging.queue-capacity:4096}") int queueCapacity,
+                            @Value("${error-logging.sampling.message-fallback:1.0}") double messageFallbackRate,
+                            @Value("${error-logging.sampling.validation:1.0}") double validationRate,
+                            @Value("${error-logging.sampling.invalid-accept-language:1.0}") double invalidAcceptLanguageRate,
+                            @Value("${error-logging.sampling.unhandled-exception:1.0}") double unhandledExceptionRate) {
+        this(window, queueCapacity, messageFallbackRate, validationRate, invalidAcceptLanguageRate, unhandledExceptionRate, true);
+    }
+
+    /**
+     * @param scheduled whether a background thread drains the queue and flushes the window; if not,
+     *                  {@link #drain()} and {@link #flushWindow()} must be called by the owner
+     */
+    ErrorEventLogger(Duration window, int queueCapacity, double messageFallbackRate, double validationRate,
+                     double invalidAcceptLanguageRate, double unhandledExceptionRate, boolean scheduled) {
+        this.window = window;
+        this.queueCapacity = queueCapacity;
+        samplingRates.put(Category.MESSAGE_FALLBACK, messageFallbackRate);
+        samplingRates.put(Category.VALIDATION, validationRate);
+        samplingRates.put(Category.INVALID_ACCEPT_LANGUAGE, invalidAcceptLanguageRate);
+        samplingRates.put(Category.UNHANDLED_EXCEPTION, unhandledExceptionRate);
+        if (!scheduled) {
+            this.writer = null;
+            return;
+        }
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "error-event-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::drain, 100, 100, TimeUnit.MILLISECONDS);
+        writer.scheduleAtFixedRate(this::flushWindow, window.toMillis(), window.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records an error event. Never blocks; the event may be sampled out or dropped.
+     *
+     * @param category the event category
+     * @param key      what the event is about, e.g. a message key
+     * @param locale   the request locale, may be {@code null}
+     * @param type     the type of the error, e.g. a {@link LocalizedExceptionTypes} name
+     * @param detail   a message logged with the first occurrence within a window
+     */
+    public void record(Category category, String key, Locale locale, String type, String detail) {
+        record(category, key, locale, type, detail, null);
+    }
+
+    /**
+     * Records an error event about an exception. Never blocks; the event may be sampled out or dropped.
+     *
+     * @param category  the event category
+     * @param key       what the event is about, e.g. an exception class name
+     * @param locale    the request locale, may be {@code null}
+     * @param type      the type of the error, e.g. a {@link LocalizedExceptionTypes} name
+     * @param detail    a message logged with the first occurrence within a window
+     * @param exception the exception whose stack trace is logged with the first occurrence within a window,
+     *                  may be {@code null}
+     */
+    public void record(Category category, String key, Locale locale, String type, String detail, @Nullable Throwable exception) {
+        double rate = samplingRates.get(category);
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            return;
+        }
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.offer(new ErrorEvent(new DedupKey(category, truncate(key), locale, type), detail, exception));
+    }
+
+    @Override
+    public void onFallback(LocalizedExceptionTypes type, Locale requestedLocale, Fallback fallback) {
+        record(Category.MESSAGE_FALLBACK, type.getErrorMessageKey(), requestedLocale, type.name(),
+                fallback == Fallback.ENGLISH
+                        ? "Can't find the localized message, falling back to English"
+                        : "Can't find the English fallback message, returning the default message");
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdown();
+            writer.awaitTermination(1, TimeUnit.SECONDS);
+        }
+        drain();
+        flushWindow();
+    }
+
+    /**
+     * Logs the queued events whose key was not seen yet in the current window and counts the others.
+     */
+    void drain() {
+        ErrorEvent event;
+        while ((event = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            Long count = occurrences.get(event.key());
+            if (count == null) {
+                if (occurrences.size() >= MAX_KEYS_PER_WINDOW) {
+                    overflow++;
+                    continue;
+                }
+                log(event.key(), "{} key={} locale={} type={}: {}",
+                        event.key().category(), event.key().key(), event.key().locale(), event.key().type(), event.detail(),
+                        event.exception());
+            }
+            occurrences.put(event.key(), count == null ? 1 : count + 1);
+        }
+    }
+
+    /**
+     * Summarizes the repeated, overflowing and dropped events of the current window and starts a new one.
+     */
+    void flushWindow() {
+        long seconds = window.toSeconds();
+        occurrences.forEach((key, count) -> {
+            if (count > 1) {
+                log(key, "{} key={} locale={} type={}: {} occurrences in last {}s",
+                        key.category(), key.key(), key.locale(), key.type(), count, seconds);
+            }
+        });
+        occurrences.clear();
+        if (overflow > 0) {
+            log.warn("{} error events of other keys in last {}s", overflow, seconds);
+            overflow = 0;
+        }
+        long droppedEvents = dropped.sumThenReset();
+        if (droppedEvents > 0) {
+            log.warn("Dropped {} error events in last {}s, the queue was full", droppedEvents, seconds);
+        }
+    }
+
+    private static void log(DedupKey key, String format, Object... arguments) {
+        switch (key.category()) {
+            case MESSAGE_FALLBACK, UNHANDLED_EXCEPTION -> log.error(format, arguments);
+            case INVALID_ACCEPT_LANGUAGE -> log.warn(format, arguments);
+            case VALIDATION -> log.info(format, arguments);
+        }
+    }
+
+    private static String truncate(String key) {
+        return key != null && key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private record DedupKey(Category category, String key, Locale locale, String type) {
+    }
+
+    /**
+     * An event; a non-null exception is passed to the logger last, which logs its stack trace.
+     */
+    private record ErrorEvent(DedupKey key, String detail, @Nullable Throwable exception) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.errorhandler.infrastructure.metrics;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.config.LocaleConfig;
+import com.example.errorhandler.infrastructure.exception.LocalizationFallbackListener;
+import com.example.errorhandler.infrastructure.exception.ValidationErrorLocalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer instrumentation of the localized error handling.
+ * All meters are registered up front for every {@link LocalizedExceptionTypes} and supported
+ * locale, and kept in arrays indexed by enum ordinal and locale position, so recording an error
+ * costs neither a registry lookup nor a tag allocation. Locales outside the supported set are
+ * counted under {@code locale=other}, which keeps the cardinality bounded. Errors raised by the
+ * framework outside a controller are counted under {@code type=WEB} with the status actually sent;
+ * their counters are registered on first use of a status.
+ */
+@Component
+public class ErrorMetrics implements LocalizationFallbackListener {
+
+    static final String ERRORS = "errorhandler.errors";
+    static final String FALLBACKS = "errorhandler.message.fallbacks";
+    static final String RENDER = "errorhandler.render";
+    static final String VALIDATION_ERRORS = "errorhandler.validation.errors";
+
+    private static final String WEB_TYPE = "WEB";
+    private static final String OTHER_LOCALE = "other";
+
+    private final Locale[] locales;
+    private final Counter[][] businessErrors;
+    private final Counter[] validationErrors;
+    private final Counter[][] fallbacks;
+    private final Map<Integer, Counter[]> webErrors = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final Timer businessRenderTimer;
+    private final Timer validationRenderTimer;
+    private final Timer webRenderTimer;
+    private final DistributionSummary validationErrorCount;
+
+    @Autowired
+    public ErrorMetrics(MeterRegistry registry, LocaleConfig localeConfig) {
+        this(registry, localeConfig.getSupportedLocales());
+    }
+
+    ErrorMetrics(MeterRegistry registry, List<Locale> supportedLocales) {
+        this.registry = registry;
+        List<Locale> supported = new ArrayList<>(supportedLocales);
+        if (!supported.contains(Locale.ENGLISH)) {
+            supported.add(Locale.ENGLISH);
+        }
+        this.locales = supported.toArray(Locale[]::new);
+
+        LocalizedExceptionTypes[] types = LocalizedExceptionTypes.values();
+        this.businessErrors = new Counter[types.length][];
+        this.fallbacks = new Counter[types.length][];
+        for (LocalizedExceptionTypes type : types) {
+            businessErrors[type.ordinal()] = errorCounters(registry, type.name(), type.getStatus());
+            Fallback[] kinds = Fallback.values();
+            fallbacks[type.ordinal()] = new Counter[kinds.length];
+            for (Fallback kind : kinds) {
+                fallbacks[type.ordinal()][kind.ordinal()] = Counter.builder(FALLBACKS)
+                        .description("Localized messages that fell back to English or to the default message")
+                        .tag("type", type.name())
+                        .tag("fallback", kind.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+        }
+        this.validationErrors = errorCounters(registry, ValidationErrorLocalizer.VALIDATION_EXCEPTION_TYPE, HttpStatus.BAD_REQUEST);
+        this.businessRenderTimer = renderTimer(registry, "business");
+        this.validationRenderTimer = renderTimer(registry, "validation");
+        this.webRenderTimer = renderTimer(registry, "web");
+        this.validationErrorCount = DistributionSummary.builder(VALIDATION_ERRORS)
+                .description("Field errors per validation error response")
+                .baseUnit("errors")
+                .register(registry);
+    }
+
+    /**
+     * Records a rendered business error.
+     *
+     * @param type        the exception type
+     * @param locale      the resolved request locale
+     * @param renderNanos the time spent rendering the response, in nanoseconds
+     */
+    public void recordBusinessError(LocalizedExceptionTypes type, Locale locale, long renderNanos) {
+        businessErrors[type.ordinal()][indexOf(locale)].increment();
+        businessRenderTimer.record(renderNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a rendered validation error.
+     *
+     * @param locale      the resolved request locale
+     * @param errorCount  the number of field errors in the response
+     * @param renderNanos the time spent rendering the response, in nanoseconds
+     */
+    public void recordValidationError(Locale locale, int errorCount, long renderNanos) {
+        validationErrors[indexOf(locale)].increment();
+        validationErrorCount.record(errorCount);
+        validationRenderTimer.record(renderNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records an error raised outside a controller and rendered by the web exception handler.
+     *
+     * @param status      the status sent with the response
+     * @param locale      the resolved request locale
+     * @param renderNanos the time spent rendering the response, in nanoseconds
+     */
+    public void recordWebError(HttpStatusCode status, Locale locale, long renderNanos) {
+        Counter[] counters = webErrors.get(status.value());
+        if (counters == null) {
+            counters = webErrors.computeIfAbsent(status.value(), value -> errorCounters(registry, WEB_TYPE, status));
+        }
+        counters[indexOf(locale)].increment();
+        webRenderTimer.record(renderNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onFallback(LocalizedExceptionTypes type, Locale requestedLocale, Fallback fallback) {
+        fallbacks[type.ordinal()][fallback.ordinal()].increment();
+    }
+
+    private Counter[] errorCounters(MeterRegistry registry, String type, HttpStatusCode status) {
+        Counter[] counters = new Counter[locales.length + 1];
+        for (int i = 0; i <= locales.length; i++) {
+            counters[i] = Counter.builder(ERRORS)
+                    .description("Error responses served")
+                    .tag("type", type)
+                    .tag("status", String.valueOf(status.value()))
+                    .tag("locale", i < locales.length ? locales[i].toLanguageTag() : OTHER_LOCALE)
+                    .register(registry);
+        }
+        return counters;
+    }
+
+    private static Timer renderTimer(MeterRegistry registry, String kind) {
+        return Timer.builder(RENDER)
+                .description("Time spent rendering error responses in the exception handler")
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    private int indexOf(Locale locale) {
+        for (int i = 0; i < locales.length; i++) {
+            if (locales[i].equals(locale)) {
+                return i;
+            }
+        }
+        return locales.length;
+    }
+}
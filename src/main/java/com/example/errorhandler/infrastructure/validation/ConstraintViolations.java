@@ -0,0 +1,52 @@
+package com.example.errorhandler.infrastructure.validation;
+
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the violations found by a {@link GeneratedValidator}. In fail-fast mode, like Hibernate
+ * Validator's, validation stops at the first violation.
+ */
+public final class ConstraintViolations {
+
+    private final boolean failFast;
+    private List<GeneratedConstraintViolation> violations = List.of();
+
+    /**
+     * @param failFast whether to stop at the first violation
+     */
+    public ConstraintViolations(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * Adds a violation.
+     *
+     * @param propertyPath    the name of the invalid property
+     * @param invalidValue    the value of the property
+     * @param constraint      the simple name of the constraint annotation
+     * @param messageTemplate the message of the constraint
+     * @param attributes      the attributes of the constraint annotation
+     * @return {@code true} if validation should go on
+     */
+    public boolean add(String propertyPath, @Nullable Object invalidValue, String constraint, String messageTemplate,
+                       Map<String, Object> attributes) {
+        if (violations.isEmpty()) {
+            violations = new ArrayList<>();
+        }
+        violations.add(new GeneratedConstraintViolation(propertyPath, invalidValue, constraint, messageTemplate, attributes));
+        return !failFast;
+    }
+
+    /**
+     * Returns the collected violations.
+     *
+     * @return the violations in the order they were found
+     */
+    public List<GeneratedConstraintViolation> getViolations() {
+        return violations;
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.errorhandler.infrastructure.validation;
+
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.net.IDN;
+import java.util.regex.Pattern;
+
+/**
+ * The checks of the constraints that generated validators do not inline, with the semantics of
+ * Hibernate Validator's built-in constraint validators. Values are never {@code null}; generated
+ * validators treat {@code null} as valid, as Bean Validation does, before calling them.
+ */
+@UtilityClass
+public class Constraints {
+
+    /*
+     * The @Email grammar below is copied from Hibernate Validator 8.0.1.Final (EmailValidator and
+     * DomainNameUtil), the version managed by Spring Boot 3.3, as its validator is internal API.
+     * GeneratedValidatorConformanceTests compares it with the Hibernate Validator on the classpath,
+     * so it must be updated along with that dependency.
+     */
+
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+    private static final int MAX_DOMAIN_PART_LENGTH = 255;
+
+    private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\\u0080-\\uFFFF-]";
+
+    private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\\u0080-\\uFFFF-]|\\\\\\\\|\\\\\\\")";
+
+    private static final String LOCAL_PART_WORD = "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")";
+
+    /**
+     * The local part grammar of Hibernate Validator's {@code EmailValidator}.
+     */
+    private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
+            LOCAL_PART_WORD + "(?:\\." + LOCAL_PART_WORD + ")*", Pattern.CASE_INSENSITIVE);
+
+    private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\\u0080-\\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+
+    private static final String DOMAIN_LABEL = "(?:" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
+
+    private static final String DOMAIN = DOMAIN_LABEL + "+(?:\\." + DOMAIN_LABEL + "+)*";
+
+    private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+
+    private static final String IP_V4_OCTET = "(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])";
+
+    private static final String IP_V4_ADDRESS = "(?:" + IP_V4_OCTET + "\\.){3,3}" + IP_V4_OCTET;
+
+    private static final String IP_V6_DOMAIN = "(?:(?:[0-9a-fA-F]{1,4}:){7}[0-9a-fA-F]{1,4}"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,7}:"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}"
+            + "|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}"
+            + "|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})"
+            + "|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)"
+            + "|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}"
+            + "|::(?:ffff(?::0{1,4}){0,1}:){0,1}" + IP_V4_ADDRESS
+            + "|(?:[0-9a-fA-F]{1,4}:){1,4}:" + IP_V4_ADDRESS + ")";
+
+    /**
+     * The domain grammar of Hibernate Validator's {@code DomainNameUtil}: a host name, or an IPv4 or
+     * IPv6 address literal.
+     */
+    private static final Pattern DOMAIN_PATTERN = Pattern.compile(
+            DOMAIN + "|\\[" + IP_DOMAIN + "\\]|\\[IPv6:" + IP_V6_DOMAIN + "\\]", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * {@code @NotBlank}: the value contains a character other than whitespace.
+     *
+     * @param value the value
+     * @return {@code true} if valid
+     */
+    public static boolean isNotBlank(CharSequence value) {
+        return !value.toString().trim().isEmpty();
+    }
+
+    /**
+     * {@code @Email} without {@code regexp}: a local part and a domain separated by the last {@code @},
+     * checked with the grammar of Hibernate Validator's {@code EmailValidator}.
+     *
+     * @param value the value
+     * @return {@code true} if valid
+     */
+    public static boolean isEmail(CharSequence value) {
+        if (value.length() == 0) {
+            return true;
+        }
+        String address = value.toString();
+        int at = address.lastIndexOf('@');
+        if (at < 0) {
+            return false;
+        }
+        String localPart = address.substring(0, at);
+        if (localPart.length() > MAX_LOCAL_PART_LENGTH || !LOCAL_PART_PATTERN.matcher(localPart).matches()) {
+            return false;
+        }
+        String domain = address.substring(at + 1);
+        if (domain.endsWith(".") || !DOMAIN_PATTERN.matcher(domain).matches()) {
+            return false;
+        }
+        try {
+            return IDN.toASCII(domain).length() <= MAX_DOMAIN_PART_LENGTH;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * {@code @Digits} of a number: at most {@code integer} digits before and {@code fraction} after
+     * the decimal point, ignoring trailing zeros of the fraction.
+     *
+     * @param value    the value
+     * @param integer  the maximum number of integral digits
+     * @param fraction the maximum number of fractional digits
+     * @return {@code true} if valid
+     */
+    public static boolean hasDigits(Number value, int integer, int fraction) {
+        BigDecimal number = value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+        return hasDigits(number.stripTrailingZeros(), integer, fraction);
+    }
+
+    /**
+     * {@code @Digits} of a character sequence, which is invalid if it is not a number.
+     *
+     * @param value    the value
+     * @param integer  the maximum number of integral digits
+     * @param fraction the maximum number of fractional digits
+     * @return {@code true} if valid
+     */
+    public static boolean hasDigits(CharSequence value, int integer, int fraction) {
+        BigDecimal number;
+        try {
+            number = new BigDecimal(value.toString());
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+        return hasDigits(number.stripTrailingZeros(), integer, fraction);
+    }
+
+    /**
+     * {@code @CreditCardNumber}: the last character is the Luhn check digit of the others. As in
+     * Hibernate Validator, only the characters before the check digit are stripped of non-digits,
+     * so a trailing separator is invalid either way.
+     *
+     * @param value                    the value
+     * @param ignoreNonDigitCharacters whether characters other than digits are skipped rather than invalid
+     * @return {@code true} if valid
+     */
+    public static boolean isLuhnValid(CharSequence value, boolean ignoreNonDigitCharacters) {
+        int length = value.length();
+        if (length == 0 || !Character.isDigit(value.charAt(length - 1))) {
+            return false;
+        }
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = length - 2; i >= 0; i--) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                if (ignoreNonDigitCharacters) {
+                    continue;
+                }
+                if (!Character.isDigit(c)) {
+                    return false;
+                }
+            }
+            int digit = Character.digit(c, 10);
+            if (doubled) {
+                digit <<= 1;
+            }
+            sum += digit > 9 ? digit - 9 : digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10 == Character.digit(value.charAt(length - 1), 10);
+    }
+
+    private static boolean hasDigits(BigDecimal number, int integer, int fraction) {
+        int integerDigits = number.precision() - number.scale();
+        int fractionDigits = Math.max(number.scale(), 0);
+        return Math.max(integerDigits, 0) <= integer && fractionDigits <= fraction;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.errorhandler.infrastructure.validation;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+
+/**
+ * A constraint violation reported by a {@link GeneratedValidator}. It is the source of the resulting
+ * {@link org.springframework.validation.FieldError}, like Hibernate Validator's
+ * {@link jakarta.validation.ConstraintViolation}, so the error can be localized from its message
+ * template and constraint attributes.
+ *
+ * @param propertyPath    the name of the invalid property
+ * @param invalidValue    the value of the property
+ * @param constraint      the simple name of the constraint annotation, e.g. {@code Size}
+ * @param messageTemplate the message of the constraint, e.g. {@code {validation.exception.size}}
+ * @param attributes      the attributes of the constraint annotation, including defaults
+ */
+public record GeneratedConstraintViolation(String propertyPath, @Nullable Object invalidValue, String constraint,
+                                           String messageTemplate, Map<String, Object> attributes) {
+}
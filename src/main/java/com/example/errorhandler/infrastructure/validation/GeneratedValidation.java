@@ -0,0 +1,20 @@
+package com.example.errorhandler.infrastructure.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a request model whose Bean Validation constraints are compiled into a plain
+ * {@link GeneratedValidator} by the {@code validation-processor}. The validator is generated next to
+ * the model as {@code <Model>Validator} and used by {@link GeneratedValidatorAdapter} for the
+ * default group, so validating the model needs neither reflection nor Hibernate Validator's metadata.
+ * Constraints the processor cannot compile fail the build rather than being skipped.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface GeneratedValidation {
+}
@@ -0,0 +1,29 @@
+package com.example.errorhandler.infrastructure.validation;
+
+import java.time.Clock;
+
+/**
+ * A validator generated from the constraint annotations of a type annotated with
+ * {@link GeneratedValidation}. Implementations are stateless and registered as services, so
+ * {@link GeneratedValidatorAdapter} finds them with a {@link java.util.ServiceLoader}.
+ *
+ * @param <T> the validated type
+ */
+public interface GeneratedValidator<T> {
+
+    /**
+     * Returns the type this validator validates.
+     *
+     * @return the exact class of the validated objects
+     */
+    Class<T> getType();
+
+    /**
+     * Checks every constraint of the default group on the given object, in declaration order.
+     *
+     * @param object     the object to validate
+     * @param clock      the clock {@code @Past}, {@code @Future} and similar constraints compare with
+     * @param violations collects the violations and tells whether to go on after one
+     */
+    void validate(T object, Clock clock, ConstraintViolations violations);
+}
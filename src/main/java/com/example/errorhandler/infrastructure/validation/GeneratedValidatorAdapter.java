@@ -0,0 +1,110 @@
+package com.example.errorhandler.infrastructure.validation;
+
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SmartValidator;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * A Spring {@link SmartValidator} that validates the types with a {@link GeneratedValidator} without
+ * Hibernate Validator, and every other type, or any validation with groups, with the delegate.
+ * The field errors of generated validators look like the delegate's: the constraint name is the
+ * error code, the message template the default message, and the {@link GeneratedConstraintViolation}
+ * is the source, so they are localized with the same {@code {validation.exception.*}} messages.
+ */
+public class GeneratedValidatorAdapter implements SmartValidator {
+
+    private final SmartValidator delegate;
+    private final Map<Class<?>, GeneratedValidator<?>> validators = new HashMap<>();
+    private final Clock clock;
+    private final boolean failFast;
+
+    /**
+     * @param delegate   the validator of the types without a generated validator, usually Hibernate Validator
+     * @param validators the generated validators
+     * @param clock      the clock temporal constraints compare with
+     * @param failFast   whether to stop at the first violation
+     */
+    public GeneratedValidatorAdapter(SmartValidator delegate, Iterable<? extends GeneratedValidator<?>> validators, Clock clock,
+                                     boolean failFast) {
+        this.delegate = delegate;
+        validators.forEach(validator -> this.validators.put(validator.getType(), validator));
+        this.clock = clock;
+        this.failFast = failFast;
+    }
+
+    /**
+     * Loads the generated validators registered as services.
+     *
+     * @param classLoader the class loader to load them with
+     * @return the generated validators
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static Iterable<GeneratedValidator<?>> load(@Nullable ClassLoader classLoader) {
+        return (Iterable) ServiceLoader.load(GeneratedValidator.class, classLoader);
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return validators.containsKey(clazz) || delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        GeneratedValidator<Object> validator = validatorFor(target);
+        if (validator == null) {
+            delegate.validate(target, errors);
+            return;
+        }
+        ConstraintViolations violations = new ConstraintViolations(failFast);
+        validator.validate(target, clock, violations);
+        violations.getViolations().forEach(violation -> reject(violation, errors));
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (validationHints.length == 0) {
+            validate(target, errors);
+        } else {
+            delegate.validate(target, errors, validationHints);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, @Nullable Object value, Errors errors, Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    @Nullable
+    public <T> T unwrap(@Nullable Class<T> type) {
+        return delegate.unwrap(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private GeneratedValidator<Object> validatorFor(Object target) {
+        return (GeneratedValidator<Object>) validators.get(target.getClass());
+    }
+
+    private static void reject(GeneratedConstraintViolation violation, Errors errors) {
+        String field = violation.propertyPath();
+        Object[] arguments = {new DefaultMessageSourceResolvable(
+                new String[] {errors.getObjectName() + Errors.NESTED_PATH_SEPARATOR + field, field}, field)};
+        if (errors instanceof BindingResult bindingResult) {
+            FieldError error = new FieldError(errors.getObjectName(), field, violation.invalidValue(), false,
+                    bindingResult.resolveMessageCodes(violation.constraint(), field), arguments, violation.messageTemplate());
+            error.wrap(violation);
+            bindingResult.addError(error);
+        } else {
+            errors.rejectValue(field, violation.constraint(), arguments, violation.messageTemplate());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.errorhandler.web.controller;
 
 import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.exception.BulkValidationRenderer;
 import com.example.errorhandler.infrastructure.exception.LocalizedException;
 import com.example.errorhandler.web.model.TestRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,15 +10,23 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/v1")
+@RequiredArgsConstructor
 public class TestController {
 
+    private final BulkValidationRenderer bulkValidationRenderer;
+
     @Operation(
             summary = "Validate and process TestRequest",
             description = """
@@ -58,4 +67,48 @@ public class TestController {
         }
         return Mono.just(ResponseEntity.ok().build());
     }
+
+    @Operation(
+            summary = "Validate and process a stream of TestRequests",
+            description = """
+                    This endpoint accepts newline-delimited `TestRequest` objects and validates each of them as it arrives.
+                    For every item, in input order, either an RFC 9457 problem detail or a success marker `{"index":0,"status":200}` is streamed back,
+                    as NDJSON or, if requested with `Accept: application/json-seq`, as RFC 7464 JSON text sequence. Every result carries the zero-based `index` of its item.
+                    The `Accept-Language` header determines the localization of error messages.
+                    If the `throwException` parameter is set to `true`, a localized business exception is reported for every valid item.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "The stream of per-item results."),
+            @ApiResponse(responseCode = "500", description = "Internal server error.")
+    })
+    @PostMapping(value = "/test/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, BulkValidationRenderer.APPLICATION_JSON_SEQ_VALUE})
+    public Flux<DataBuffer> testBulk(
+            @Parameter(
+                    name = "Accept-Language",
+                    description = """
+                            Language for localized error messages. Supported locales: 'ar', 'fr', 'en', 'ru'. A null value or invalid locale will fall back to default locale.ENGLISH
+                            """,
+                    schema = @Schema(type = "string", allowableValues = {"ar", "fr", "en", "ru", "invalidLocale"})
+            )
+            @RequestHeader(name = "Accept-Language", required = false) String language,
+            @Parameter(
+                    name = "throwException",
+                    description = """
+                            If `true`, a localized business exception is reported for every valid item.
+                            Otherwise, valid items are reported as successful.
+                            """,
+                    required = true,
+                    example = "false"
+            )
+            @RequestParam(name = "throwException") boolean throwException,
+            @RequestBody Flux<TestRequest> testRequests,
+            ServerWebExchange exchange) {
+        return bulkValidationRenderer.render(testRequests, testRequest -> {
+            if (throwException) {
+                throw new LocalizedException(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR, HttpStatus.CONFLICT);
+            }
+        }, exchange);
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.errorhandler.web.model;
 
+import com.example.errorhandler.infrastructure.validation.GeneratedValidation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 import lombok.Data;
@@ -13,6 +14,7 @@ import java.util.List;
 
 @Data
 @NoArgsConstructor
+@GeneratedValidation
 @Schema(description = "Request object demonstrating various validation constraints for testing purposes. " +
         "Each field has specific constraints, and example values are provided to help users trigger validation errors.")
 public class TestRequest {
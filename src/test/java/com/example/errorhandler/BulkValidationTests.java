@@ -0,0 +1,195 @@
+package com.example.errorhandler;
+
+import com.example.errorhandler.infrastructure.exception.BulkValidationRenderer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the framing, ordering and per-item problem details of the streaming bulk validation.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BulkValidationTests {
+
+	private static final String VALID_ITEM = LocalizedErrorResponsesTests.VALID_REQUEST.replace("\n", "");
+
+	private static final String INVALID_ITEM = VALID_ITEM.replace("\"fieldRange\":50", "\"fieldRange\":5");
+
+	private static final char RECORD_SEPARATOR = 0x1E;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private BulkValidationRenderer bulkValidationRenderer;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void framesAsNdjsonWhenNdjsonIsAccepted() throws IOException {
+		String body = postBulk(MediaType.APPLICATION_NDJSON_VALUE, false, VALID_ITEM, INVALID_ITEM, VALID_ITEM)
+				.expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		assertThat(body).doesNotContain(String.valueOf(RECORD_SEPARATOR)).endsWith("\n");
+		assertThat(records(body, false)).extracting(result -> result.get("index").asInt()).containsExactly(0, 1, 2);
+	}
+
+	@Test
+	void framesAsJsonTextSequenceWhenJsonSeqIsAccepted() throws IOException {
+		String body = postBulk(BulkValidationRenderer.APPLICATION_JSON_SEQ_VALUE, false, VALID_ITEM, INVALID_ITEM)
+				.expectHeader().contentType(BulkValidationRenderer.APPLICATION_JSON_SEQ)
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		assertThat(body.split("\n")).hasSize(2).allSatisfy(record -> assertThat(record).startsWith(String.valueOf(RECORD_SEPARATOR)));
+		assertThat(records(body, true)).extracting(result -> result.get("index").asInt()).containsExactly(0, 1);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"*/*", "application/*", "application/x-ndjson, application/json-seq;q=0.5"})
+	void framesAsNdjsonWhenJsonSeqIsNotPreferred(String accept) {
+		String body = postBulk(accept, false, VALID_ITEM, INVALID_ITEM)
+				.expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		assertThat(body).doesNotContain(String.valueOf(RECORD_SEPARATOR));
+		assertThat(body.split("\n")).hasSize(2);
+	}
+
+	@Test
+	void emitsOneResultPerItemInInputOrder() throws IOException {
+		String[] items = IntStream.range(0, 64).mapToObj(i -> i % 3 == 0 ? INVALID_ITEM : VALID_ITEM).toArray(String[]::new);
+
+		String body = postBulk(MediaType.APPLICATION_NDJSON_VALUE, false, items)
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		List<JsonNode> results = records(body, false);
+		assertThat(results).hasSize(64);
+		for (int i = 0; i < results.size(); i++) {
+			assertThat(results.get(i).get("index").asInt()).isEqualTo(i);
+			assertThat(results.get(i).get("status").asInt()).isEqualTo(i % 3 == 0 ? 400 : 200);
+		}
+	}
+
+	@Test
+	void rendersAValidationProblemPerInvalidItem() throws IOException {
+		String body = postBulk(MediaType.APPLICATION_NDJSON_VALUE, false, VALID_ITEM, INVALID_ITEM)
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		List<JsonNode> results = records(body, false);
+		assertThat(results.get(0)).hasToString("{\"index\":0,\"status\":200}");
+		JsonNode problem = results.get(1);
+		assertThat(problem.get("status").asInt()).isEqualTo(400);
+		assertThat(problem.get("title").asText()).isEqualTo("Erreur de validation");
+		assertThat(problem.get("instance").asText()).isEqualTo("/v1/test/bulk");
+		assertThat(problem.get("index").asInt()).isEqualTo(1);
+		assertThat(problem.get("errors")).hasSize(1);
+		assertThat(problem.get("errors").get(0).get("pointer").asText()).isEqualTo("/fieldRange");
+		assertThat(problem.get("errors").get(0).get("reason").asText()).isEqualTo("La valeur doit être supérieure ou égale à 10.");
+	}
+
+	@Test
+	void rendersABusinessProblemPerValidItem() throws IOException {
+		String body = postBulk(MediaType.APPLICATION_NDJSON_VALUE, true, VALID_ITEM, INVALID_ITEM, VALID_ITEM)
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		List<JsonNode> results = records(body, false);
+		assertThat(results).extracting(result -> result.get("status").asInt()).containsExactly(428, 400, 428);
+		assertThat(results.get(0).get("title").asText()).isEqualTo("Erreur d'entreprise");
+		assertThat(results.get(2).get("index").asInt()).isEqualTo(2);
+		assertThat(results.get(2).get("instance").asText()).isEqualTo("/v1/test/bulk");
+	}
+
+	@Test
+	void rendersAnUnexpectedProblemWhenTheProcessorFails() throws IOException {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/v1/test/bulk"));
+		Flux<String> items = Flux.just("ok", "fail", "ok");
+
+		List<String> records = bulkValidationRenderer.render(items, item -> {
+			if (item.equals("fail")) {
+				throw new IllegalStateException("processor failed");
+			}
+		}, exchange).map(buffer -> {
+			String record = buffer.toString(StandardCharsets.UTF_8);
+			DataBufferUtils.release(buffer);
+			return record;
+		}).collectList().block();
+
+		assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+		List<JsonNode> results = records(String.join("", records), false);
+		assertThat(results).extracting(result -> result.get("status").asInt()).containsExactly(200, 500, 200);
+		JsonNode problem = results.get(1);
+		assertThat(problem.get("index").asInt()).isEqualTo(1);
+		assertThat(problem.get("title").asText()).isEqualTo("Internal Server Error");
+		assertThat(problem.get("detail").asText()).isEqualTo("An unexpected error occurred.");
+		assertThat(problem.toString()).doesNotContain("processor failed", "IllegalStateException");
+	}
+
+	@Test
+	void rendersAMalformedRequestProblemForAnItemThatCannotBeDecoded() throws IOException {
+		String body = postBulk(MediaType.APPLICATION_NDJSON_VALUE, false, VALID_ITEM, INVALID_ITEM, "not json", VALID_ITEM)
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		List<JsonNode> results = records(body, false);
+		assertThat(results).extracting(result -> result.get("status").asInt()).containsExactly(200, 400, 400);
+		JsonNode problem = results.get(2);
+		assertThat(problem.get("index").asInt()).isEqualTo(2);
+		assertThat(problem.get("title").asText()).isEqualTo("Requête mal formée");
+		assertThat(problem.get("detail").asText()).isEqualTo("La requête n'a pas pu être lue.");
+	}
+
+	@Test
+	void processesItemsOnTheBoundedElasticSchedulerOnlyWhenTheProcessorBlocks() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/v1/test/bulk"));
+		List<String> threads = new CopyOnWriteArrayList<>();
+
+		bulkValidationRenderer.render(Flux.just("inline"), item -> threads.add(Thread.currentThread().getName()), exchange)
+				.doOnNext(DataBufferUtils::release).blockLast();
+		bulkValidationRenderer.render(Flux.just("blocking"), item -> threads.add(Thread.currentThread().getName()), true, exchange)
+				.doOnNext(DataBufferUtils::release).blockLast();
+
+		assertThat(threads).hasSize(2);
+		assertThat(threads.get(0)).doesNotStartWith("boundedElastic");
+		assertThat(threads.get(1)).startsWith("boundedElastic");
+	}
+
+	private WebTestClient.ResponseSpec postBulk(String accept, boolean throwException, String... items) {
+		return webTestClient.post().uri("/v1/test/bulk?throwException=" + throwException)
+				.header(HttpHeaders.ACCEPT, accept)
+				.header(HttpHeaders.ACCEPT_LANGUAGE, "fr")
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.bodyValue(String.join("\n", items) + "\n")
+				.exchange()
+				.expectStatus().isOk();
+	}
+
+	private List<JsonNode> records(String body, boolean jsonSeq) throws IOException {
+		List<JsonNode> results = new ArrayList<>();
+		for (String record : body.split("\n")) {
+			assertThat(record.charAt(0) == RECORD_SEPARATOR).isEqualTo(jsonSeq);
+			results.add(objectMapper.readTree(jsonSeq ? record.substring(1) : record));
+		}
+		return results;
+	}
+}
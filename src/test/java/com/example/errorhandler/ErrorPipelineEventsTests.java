@@ -0,0 +1,73 @@
+package com.example.errorhandler;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records a business and a validation error with the shipped {@code jfr/error-pipeline.jfc}
+ * configuration and checks that every stage of the error pipeline emitted its event.
+ */
+@DisabledInNativeImage
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ErrorPipelineEventsTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void errorPipelineEmitsEvents(@TempDir Path directory) throws Exception {
+		Configuration configuration;
+		try (Reader reader = new InputStreamReader(Objects.requireNonNull(
+				getClass().getResourceAsStream("/jfr/error-pipeline.jfc")), StandardCharsets.UTF_8)) {
+			configuration = Configuration.create(reader);
+		}
+		Path file = directory.resolve("error-pipeline.jfr");
+		try (Recording recording = new Recording(configuration)) {
+			recording.start();
+			webTestClient.post().uri("/v1/test?throwException=true")
+					.header(HttpHeaders.ACCEPT_LANGUAGE, "fr")
+					.contentType(MediaType.APPLICATION_JSON)
+					.bodyValue(LocalizedErrorResponsesTests.VALID_REQUEST)
+					.exchange()
+					.expectStatus().isEqualTo(428);
+			webTestClient.post().uri("/v1/test?throwException=false")
+					.header(HttpHeaders.ACCEPT_LANGUAGE, "fr")
+					.contentType(MediaType.APPLICATION_JSON)
+					.bodyValue("{}")
+					.exchange()
+					.expectStatus().isBadRequest();
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertThat(events).extracting(event -> event.getEventType().getName()).contains(
+				"com.example.errorhandler.LocalizedExceptionCreation",
+				"com.example.errorhandler.LocaleResolution",
+				"com.example.errorhandler.MessageLookup",
+				"com.example.errorhandler.ProblemDetailBuild",
+				"com.example.errorhandler.ProblemSerialization");
+		assertThat(events).filteredOn(event -> event.getEventType().getName().equals("com.example.errorhandler.ProblemDetailBuild"))
+				.extracting(event -> event.getString("locale"))
+				.contains("fr");
+	}
+}
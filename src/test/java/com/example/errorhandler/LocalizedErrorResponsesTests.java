@@ -0,0 +1,114 @@
+package com.example.errorhandler;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Checks the localized 4xx responses over HTTP in every supported locale. Since it uses neither
+ * mocks nor reflection, it also runs against the native image with {@code ./gradlew nativeTest}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LocalizedErrorResponsesTests {
+
+	static final String VALID_REQUEST = """
+			{"fieldNotBlank":"example","fieldNotEmpty":["item1","item2"],"fieldEmail":"user@example.com",
+			"fieldPositive":10,"fieldPositiveOrZero":0,"fieldNegative":-5,"fieldNegativeOrZero":0,"fieldRange":50,
+			"fieldSize":"test123","fieldLength":"exampleString","fieldRangeValue":50,"fieldMinLength":"example",
+			"fieldPattern":"abc123","fieldPast":"2000-01-01","fieldFuture":"2100-01-01","fieldFutureOrPresent":"2100-01-01",
+			"fieldPastOrPresent":"2020-01-01","fieldDigits":12345.67,"fieldPhoneNumber":"+1234567890",
+			"fieldCreditCard":"4111111111111111"}
+			""";
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+			"en|Business Error|An unexpected business error occurred.",
+			"fr|Erreur d'entreprise|Une erreur commerciale inattendue s'est produite.",
+			"ar|خطأ تجاري|حدث خطأ غير متوقع في النظام.",
+			"ru|Ошибка бизнеса|Произошла непредвиденная ошибка."
+	})
+	void businessErrorIsLocalized(String language, String title, String detail) {
+		webTestClient.post().uri("/v1/test?throwException=true")
+				.header(HttpHeaders.ACCEPT_LANGUAGE, language)
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(VALID_REQUEST)
+				.exchange()
+				.expectStatus().isEqualTo(428)
+				.expectHeader().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+				.expectBody()
+				.jsonPath("$.status").isEqualTo(428)
+				.jsonPath("$.title").isEqualTo(title)
+				.jsonPath("$.detail").isEqualTo(detail)
+				.jsonPath("$.instance").isEqualTo("/v1/test");
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"true, 428",
+			"false, 400"
+	})
+	void malformedAcceptFallsBackToJson(boolean throwException, int status) {
+		webTestClient.post().uri("/v1/test?throwException=" + throwException)
+				.header(HttpHeaders.ACCEPT, "garbage")
+				.header(HttpHeaders.ACCEPT_LANGUAGE, "en")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(throwException ? VALID_REQUEST : VALID_REQUEST.replace("\"fieldRange\":50", "\"fieldRange\":5"))
+				.exchange()
+				.expectStatus().isEqualTo(status)
+				.expectHeader().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+				.expectBody()
+				.jsonPath("$.status").isEqualTo(status)
+				.jsonPath("$.instance").isEqualTo("/v1/test");
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+			"en|Validation Error|The value must be greater than or equal to 10.",
+			"fr|Erreur de validation|La valeur doit être supérieure ou égale à 10.",
+			"ar|خطأ في التحقق|يجب أن تكون القيمة أكبر من أو تساوي 10.",
+			"ru|Ошибка валидации|Значение должно быть больше или равно 10."
+	})
+	void validationErrorIsLocalized(String language, String title, String reason) {
+		webTestClient.post().uri("/v1/test?throwException=false")
+				.header(HttpHeaders.ACCEPT_LANGUAGE, language)
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(VALID_REQUEST.replace("\"fieldRange\":50", "\"fieldRange\":5"))
+				.exchange()
+				.expectStatus().isBadRequest()
+				.expectBody()
+				.jsonPath("$.title").isEqualTo(title)
+				.jsonPath("$.errors.length()").isEqualTo(1)
+				.jsonPath("$.errors[0].pointer").isEqualTo("/fieldRange")
+				.jsonPath("$.errors[0].reason").isEqualTo(reason);
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+			"POST|/v1/test?throwException=false|`{\"fieldRange\":`|400|Requête mal formée",
+			"POST|/v1/test|`{}`|400|Valeur de requête manquante",
+			"POST|/v1/unknown|`{}`|404|Introuvable",
+			"DELETE|/v1/test?throwException=false||405|Méthode non autorisée"
+	})
+	void unhandledErrorIsLocalized(String method, String uri, String body, int status, String title) {
+		WebTestClient.RequestBodySpec request = webTestClient.method(HttpMethod.valueOf(method)).uri(uri)
+				.header(HttpHeaders.ACCEPT_LANGUAGE, "fr")
+				.contentType(MediaType.APPLICATION_JSON);
+		(body != null ? request.bodyValue(body) : request)
+				.exchange()
+				.expectStatus().isEqualTo(status)
+				.expectHeader().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+				.expectBody()
+				.jsonPath("$.status").isEqualTo(status)
+				.jsonPath("$.title").isEqualTo(title)
+				.jsonPath("$.instance").isEqualTo(uri.replaceFirst("\\?.*", ""))
+				.jsonPath("$.trace").doesNotExist();
+	}
+}
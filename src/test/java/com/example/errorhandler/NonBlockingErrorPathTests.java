@@ -0,0 +1,74 @@
+package com.example.errorhandler;
+
+import com.example.errorhandler.infrastructure.exception.ProblemDetailWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.blockhound.BlockHound;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends business and validation errors in JSON and CBOR through {@code LocaleHeaderFilter},
+ * {@code GlobalExceptionHandler} and the problem detail serialization with BlockHound installed,
+ * and fails if any of them blocked a Netty event-loop thread. Runs with {@code ./gradlew blockHoundTest}.
+ */
+@Tag("blockhound")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class NonBlockingErrorPathTests {
+
+	private static final List<String> blockingCalls = new CopyOnWriteArrayList<>();
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@BeforeAll
+	static void installBlockHound() {
+		BlockHound.builder()
+				.blockingMethodCallback(method -> blockingCalls.add(method + " on " + Thread.currentThread().getName()))
+				.install();
+	}
+
+	@AfterEach
+	void assertNothingBlocked() {
+		assertThat(blockingCalls).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"en", "fr", "ar", "ru", "de", "fr-CA;q=0.8, ar"})
+	void businessErrorDoesNotBlock(String acceptLanguage) {
+		for (MediaType accept : List.of(MediaType.APPLICATION_PROBLEM_JSON, ProblemDetailWriter.APPLICATION_PROBLEM_CBOR)) {
+			webTestClient.post().uri("/v1/test?throwException=true")
+					.header(HttpHeaders.ACCEPT_LANGUAGE, acceptLanguage)
+					.accept(accept)
+					.contentType(MediaType.APPLICATION_JSON)
+					.bodyValue(LocalizedErrorResponsesTests.VALID_REQUEST)
+					.exchange()
+					.expectStatus().isEqualTo(428);
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"en", "fr", "ar", "ru", "de"})
+	void validationErrorDoesNotBlock(String acceptLanguage) {
+		for (MediaType accept : List.of(MediaType.APPLICATION_PROBLEM_JSON, ProblemDetailWriter.APPLICATION_PROBLEM_CBOR)) {
+			webTestClient.post().uri("/v1/test?throwException=false")
+					.header(HttpHeaders.ACCEPT_LANGUAGE, acceptLanguage)
+					.accept(accept)
+					.contentType(MediaType.APPLICATION_JSON)
+					.bodyValue("{}")
+					.exchange()
+					.expectStatus().isBadRequest();
+		}
+	}
+}
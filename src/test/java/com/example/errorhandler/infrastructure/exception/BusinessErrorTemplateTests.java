@@ -0,0 +1,121 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.i18n.MessageCatalog;
+import com.example.errorhandler.infrastructure.i18n.TenantMessageOverlays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks over HTTP that business errors written from a pre-serialized {@link ProblemDetailTemplate}
+ * are byte-for-byte identical to the ones serialized from a {@link org.springframework.http.ProblemDetail},
+ * including exceptions that carry arguments their messages do not use.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BusinessErrorTemplateTests {
+
+	private static final String TENANT = "overlaid";
+
+	private static final String VALID_REQUEST = """
+			{"fieldNotBlank":"example","fieldNotEmpty":["item1","item2"],"fieldEmail":"user@example.com",
+			"fieldPositive":10,"fieldPositiveOrZero":0,"fieldNegative":-5,"fieldNegativeOrZero":0,"fieldRange":50,
+			"fieldSize":"test123","fieldLength":"exampleString","fieldRangeValue":50,"fieldMinLength":"example",
+			"fieldPattern":"abc123","fieldPast":"2000-01-01","fieldFuture":"2100-01-01","fieldFutureOrPresent":"2100-01-01",
+			"fieldPastOrPresent":"2020-01-01","fieldDigits":12345.67,"fieldPhoneNumber":"+1234567890",
+			"fieldCreditCard":"4111111111111111"}
+			""";
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private GlobalExceptionHandler globalExceptionHandler;
+
+	@Autowired
+	private TenantMessageOverlays tenantMessageOverlays;
+
+	@BeforeEach
+	void publishOverlay() {
+		// an overlay of an unrelated code only moves the tenant's requests to the serializing path
+		tenantMessageOverlays.publish(TENANT, MessageCatalog.of(
+				Map.of(Locale.ENGLISH, Map.of("unrelated.code", "Unrelated")), Locale.ENGLISH));
+	}
+
+	@AfterEach
+	void removeOverlay() {
+		tenantMessageOverlays.remove(TENANT);
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"en|Business Error",
+			"fr|Erreur d'entreprise",
+			"ar|خطأ تجاري",
+			"ru|Ошибка бизнеса"
+	})
+	void templateMatchesTheSerializedProblemDetail(String language, String title) {
+		LocalizedException exception = new LocalizedException(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR, HttpStatus.CONFLICT);
+		assertThat(globalExceptionHandler.canWriteFromTemplate(exception, null, exchange())).isTrue();
+		assertThat(globalExceptionHandler.canWriteFromTemplate(exception, TENANT, exchange())).isFalse();
+
+		byte[] fromTemplate = businessError(language, null);
+		byte[] serialized = businessError(language, TENANT);
+
+		assertThat(new String(fromTemplate, StandardCharsets.UTF_8))
+				.contains("\"title\":\"" + title + "\"")
+				.isEqualTo(new String(serialized, StandardCharsets.UTF_8));
+		assertThat(fromTemplate).isEqualTo(serialized);
+	}
+
+	private byte[] businessError(String language, String tenant) {
+		WebTestClient.RequestBodySpec request = webTestClient.post().uri("/v1/test?throwException=true")
+				.header(HttpHeaders.ACCEPT_LANGUAGE, language)
+				.contentType(MediaType.APPLICATION_JSON);
+		if (tenant != null) {
+			request.header("X-Tenant-ID", tenant);
+		}
+		return request.bodyValue(VALID_REQUEST)
+				.exchange()
+				.expectStatus().isEqualTo(428)
+				.expectHeader().contentType(MediaType.APPLICATION_PROBLEM_JSON)
+				.expectBody()
+				.returnResult()
+				.getResponseBody();
+	}
+
+	private static MockServerWebExchange exchange() {
+		return MockServerWebExchange.from(MockServerHttpRequest.post("/v1/test").accept(MediaType.APPLICATION_JSON));
+	}
+
+	@TestConfiguration
+	static class FixedClockConfig {
+
+		@Bean
+		@Primary
+		Clock fixedClock() {
+			return Clock.fixed(Instant.parse("2024-06-15T12:00:00Z"), ZoneOffset.UTC);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonPointersTests {
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"''                             | ''",
+			"name                           | /name",
+			"customer.address.city          | /customer/address/city",
+			"items[3]                       | /items/3",
+			"items[3].name                  | /items/3/name",
+			"orders[0].lines[12].sku        | /orders/0/lines/12/sku",
+			"matrix[1][2]                   | /matrix/1/2",
+			"attributes[color]              | /attributes/color",
+			"attributes[color].value        | /attributes/color/value",
+			"attributes[a.b]                | /attributes/a.b",
+			"attributes[a/b]                | /attributes/a~1b",
+			"attributes[a~b]                | /attributes/a~0b",
+			"attributes[~1/~0]              | /attributes/~01~1~00",
+			"attributes[a/b].lines[0].a~b   | /attributes/a~1b/lines/0/a~0b",
+			"attributes[]                   | /attributes/",
+			"items[3                        | /items/3"
+	})
+	void convertsPropertyPathsToJsonPointers(String propertyPath, String pointer) {
+		assertThat(JsonPointers.fromPropertyPath(propertyPath)).isEqualTo(pointer);
+	}
+}
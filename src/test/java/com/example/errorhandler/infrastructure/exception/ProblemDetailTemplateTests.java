@@ -0,0 +1,46 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProblemDetailTemplateTests {
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+			"Business Error|An unexpected business error occurred.|/v1/test",
+			"Erreur d'entreprise|Une erreur \"commerciale\" inattendue.|/v1/test",
+			"خطأ في العمل|حدث خطأ غير متوقع في العمل.|/v1/%D8%AE",
+			"Ошибка|Tab\there \\ backslash|/v1/test;matrix=1"
+	})
+	void splicedBodyMatchesJackson(String title, String detail, String path) throws Exception {
+		String timestamp = "2024-11-05T10:15:30";
+		ProblemDetail templateSource = new ProblemDetailBuilder(HttpStatus.PRECONDITION_REQUIRED, detail).title(title).build();
+		ProblemDetailTemplate template = ProblemDetailTemplate.render(objectMapper, templateSource);
+
+		ProblemDetail expected = new ProblemDetailBuilder(HttpStatus.PRECONDITION_REQUIRED, detail).title(title).build();
+		expected.setInstance(URI.create(path));
+		expected.setProperty("timestamp", timestamp);
+
+		DataBuffer buffer = template.write(DefaultDataBufferFactory.sharedInstance,
+				JsonStringEncoder.getInstance().quoteAsUTF8(path), timestamp.getBytes(StandardCharsets.US_ASCII));
+		byte[] actual = new byte[buffer.readableByteCount()];
+		buffer.read(actual);
+
+		assertThat(new String(actual, StandardCharsets.UTF_8))
+				.isEqualTo(new String(objectMapper.writeValueAsBytes(expected), StandardCharsets.UTF_8));
+	}
+}
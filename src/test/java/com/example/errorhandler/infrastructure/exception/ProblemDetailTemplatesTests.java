@@ -0,0 +1,61 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.i18n.CatalogMessageSource;
+import com.example.errorhandler.infrastructure.i18n.CatalogSnapshot;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import com.example.errorhandler.infrastructure.i18n.MessageCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProblemDetailTemplatesTests {
+
+	private static final LocalizedExceptionTypes TYPE = LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private CatalogMessageSource messageSource;
+
+	private ProblemDetailTemplates templates;
+
+	@BeforeEach
+	void setUp() {
+		messageSource = new CatalogMessageSource(catalog("Initial"));
+		templates = new ProblemDetailTemplates(messageSource, objectMapper, List.of(Locale.FRENCH),
+				new LocaleFallbackChains(List.of(Locale.FRENCH), Locale.ENGLISH));
+	}
+
+	@Test
+	void rendersTheTemplatesOfANewCatalogBeforePublishingIt() {
+		assertThat(body(Locale.FRENCH)).contains("Initial");
+
+		CatalogSnapshot published = messageSource.publish(catalog("Reloaded"), "test");
+
+		assertThat(published.extensions()).hasSize(1);
+		assertThat(body(Locale.FRENCH)).contains("Reloaded").doesNotContain("Initial");
+		assertThat(body(Locale.GERMAN)).contains("Reloaded");
+	}
+
+	private String body(Locale locale) {
+		DataBuffer buffer = templates.get(TYPE, locale).write(DefaultDataBufferFactory.sharedInstance,
+				"/v1/test".getBytes(StandardCharsets.US_ASCII), "2024-06-15T12:00:00".getBytes(StandardCharsets.US_ASCII));
+		return buffer.toString(StandardCharsets.UTF_8);
+	}
+
+	private static MessageCatalog catalog(String title) {
+		return MessageCatalog.of(Map.of(
+				Locale.ENGLISH, Map.of(TYPE.getErrorTitleKey(), title, TYPE.getErrorMessageKey(), title + " message"),
+				Locale.FRENCH, Map.of(TYPE.getErrorTitleKey(), title, TYPE.getErrorMessageKey(), title + " message")), Locale.ENGLISH);
+	}
+}
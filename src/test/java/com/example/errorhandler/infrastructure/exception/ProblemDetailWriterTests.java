@@ -0,0 +1,145 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProblemDetailWriterTests {
+
+	private static final String TIMESTAMP = "2024-06-15T12:00:00";
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private final ProblemDetailWriter writer = new ProblemDetailWriter(objectMapper, Jackson2ObjectMapperBuilder.json());
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"''                                                           | JSON",
+			"application/problem+json                                     | JSON",
+			"application/json                                             | JSON",
+			"application/problem+cbor                                     | CBOR",
+			"application/problem+smile                                    | SMILE",
+			"*/*                                                          | JSON",
+			"application/*                                                | JSON",
+			"text/html                                                    | JSON",
+			"application/problem+json;q=0.5, application/problem+cbor     | CBOR",
+			"application/problem+cbor;q=0.4, application/problem+smile;q=0.8 | SMILE",
+			"application/problem+smile, application/problem+cbor          | SMILE",
+			"application/problem+smile;q=0.2, */*;q=0.5                   | JSON",
+			"application/problem+cbor, */*;q=0.1                          | CBOR",
+			"application/problem+cbor;q=0                                 | JSON",
+			"application/problem+cbor;q=0, application/problem+smile;q=0.1 | SMILE",
+			"garbage                                                      | JSON",
+			"application/problem+cbor;q=abc                               | JSON"
+	})
+	void negotiatesTheFormatByQuality(String accept, ProblemDetailWriter.Format format) {
+		assertThat(writer.negotiate(exchange(accept))).isEqualTo(format);
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"application/problem+cbor, CBOR",
+			"application/problem+smile, SMILE"
+	})
+	void encodesTheSameStructureInBinaryFormats(String accept, ProblemDetailWriter.Format format) throws Exception {
+		MockServerWebExchange exchange = exchange(accept);
+
+		writer.write(exchange, problemDetail(), "VALIDATION").block();
+
+		assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(format.getMediaType());
+		byte[] body = body(exchange);
+		assertThat(exchange.getResponse().getHeaders().getContentLength()).isEqualTo(body.length);
+		ObjectMapper binaryMapper = new ObjectMapper(format == ProblemDetailWriter.Format.CBOR ? new CBORFactory() : new SmileFactory());
+		JsonNode decoded = binaryMapper.readTree(body);
+		assertThat(decoded).isEqualTo(objectMapper.readTree(writer.encode(problemDetailAt("/v1/test"), ProblemDetailWriter.Format.JSON)));
+		assertThat(decoded.get("status").asInt()).isEqualTo(400);
+		assertThat(decoded.get("instance").asText()).isEqualTo("/v1/test");
+		assertThat(decoded.get("errors").get(0).get("pointer").asText()).isEqualTo("/fieldRange");
+	}
+
+	@Test
+	void writesJsonForWildcards() throws Exception {
+		MockServerWebExchange exchange = exchange("*/*");
+
+		writer.write(exchange, problemDetail(), "VALIDATION").block();
+
+		assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+		assertThat(objectMapper.readTree(body(exchange)).get("title").asText()).isEqualTo("Validation Error");
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"''",
+			"*/*",
+			"application/problem+cbor"
+	})
+	void variesByAccept(String accept) {
+		MockServerWebExchange exchange = exchange(accept);
+
+		writer.write(exchange, problemDetail(), "VALIDATION").block();
+
+		assertThat(exchange.getResponse().getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+	}
+
+	@Test
+	void variesByAcceptWhenWritingATemplate() {
+		MockServerWebExchange exchange = exchange("application/problem+json");
+		exchange.getResponse().getHeaders().setVary(List.of(HttpHeaders.ACCEPT_LANGUAGE));
+		ProblemDetailTemplate template = ProblemDetailTemplate.render(objectMapper,
+				new ProblemDetailBuilder(HttpStatus.PRECONDITION_REQUIRED, "detail").title("title").build());
+
+		writer.write(exchange, HttpStatus.PRECONDITION_REQUIRED, template, TIMESTAMP.getBytes(StandardCharsets.US_ASCII), "DEFAULT_BUSINESS_ERROR")
+				.block();
+
+		assertThat(exchange.getResponse().getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.ACCEPT);
+	}
+
+	private static MockServerWebExchange exchange(String accept) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.post("/v1/test");
+		if (!accept.isEmpty()) {
+			request.header(HttpHeaders.ACCEPT, accept);
+		}
+		return MockServerWebExchange.from(request);
+	}
+
+	private static ProblemDetail problemDetail() {
+		return new ProblemDetailBuilder(HttpStatus.BAD_REQUEST, "Validation failed.")
+				.title("Validation Error")
+				.errors(List.of(ApiErrorDetails.builder().pointer("/fieldRange").reason("Ce champ est trop petit.").build()))
+				.timestamp(TIMESTAMP)
+				.build();
+	}
+
+	private static ProblemDetail problemDetailAt(String path) {
+		ProblemDetail problemDetail = problemDetail();
+		problemDetail.setInstance(URI.create(path));
+		return problemDetail;
+	}
+
+	private static byte[] body(MockServerWebExchange exchange) {
+		DataBuffer buffer = DataBufferUtils.join(exchange.getResponse().getBody()).block();
+		byte[] bytes = new byte[buffer.readableByteCount()];
+		buffer.read(bytes);
+		DataBufferUtils.release(buffer);
+		return bytes;
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProblemTimestampProviderTests {
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"LOCAL_SECONDS|UTC|2024-11-05T10:15:30",
+			"LOCAL_SECONDS|Europe/Paris|2024-11-05T11:15:30",
+			"LOCAL_SECONDS|Asia/Kolkata|2024-11-05T15:45:30",
+			"RFC3339_MILLIS|UTC|2024-11-05T10:15:30.123Z",
+			"RFC3339_MILLIS|Europe/Paris|2024-11-05T11:15:30.123+01:00",
+			"RFC3339_MILLIS|America/New_York|2024-11-05T05:15:30.123-05:00"
+	})
+	void formatsTheTimeOfTheClockInItsZone(ProblemTimestampProvider.Format format, String zone, String expected) {
+		Clock clock = Clock.fixed(Instant.parse("2024-11-05T10:15:30.123456Z"), ZoneId.of(zone));
+		ProblemTimestampProvider provider = new ProblemTimestampProvider(clock, format);
+
+		assertThat(provider.now()).isEqualTo(expected);
+		assertThat(provider.nowAsBytes()).isEqualTo(expected.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	void sharesTheFormattedValueWithinATick() {
+		MutableClock clock = new MutableClock(Instant.parse("2024-11-05T10:15:30.100Z"));
+		ProblemTimestampProvider provider = new ProblemTimestampProvider(clock, ProblemTimestampProvider.Format.LOCAL_SECONDS);
+
+		String first = provider.now();
+		byte[] firstBytes = provider.nowAsBytes();
+		clock.advance(Duration.ofMillis(899));
+		assertThat(provider.now()).isSameAs(first);
+		assertThat(provider.nowAsBytes()).isSameAs(firstBytes);
+
+		clock.advance(Duration.ofMillis(1));
+		assertThat(provider.now()).isEqualTo("2024-11-05T10:15:31");
+	}
+
+	@Test
+	void formatsEveryMillisecondWithMillisecondResolution() {
+		MutableClock clock = new MutableClock(Instant.parse("2024-11-05T10:15:30.100Z"));
+		ProblemTimestampProvider provider = new ProblemTimestampProvider(clock, ProblemTimestampProvider.Format.RFC3339_MILLIS);
+
+		assertThat(provider.now()).isEqualTo("2024-11-05T10:15:30.100Z");
+		clock.advance(Duration.ofMillis(1));
+		assertThat(provider.now()).isEqualTo("2024-11-05T10:15:30.101Z");
+	}
+
+	@Test
+	void keepsTheLatestTickWhenTheClockGoesBack() {
+		MutableClock clock = new MutableClock(Instant.parse("2024-11-05T10:15:30Z"));
+		ProblemTimestampProvider provider = new ProblemTimestampProvider(clock, ProblemTimestampProvider.Format.LOCAL_SECONDS);
+		String latest = provider.now();
+
+		clock.advance(Duration.ofSeconds(-5));
+		assertThat(provider.now()).isEqualTo("2024-11-05T10:15:25");
+
+		clock.advance(Duration.ofSeconds(5));
+		assertThat(provider.now()).isSameAs(latest);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("UTC");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StackTracePolicyTests {
+
+	private static final LocalizedExceptionTypes TYPE = LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR;
+
+	private StackTracePolicy previous;
+
+	@BeforeEach
+	void rememberCurrentPolicy() {
+		previous = StackTracePolicy.current();
+	}
+
+	@AfterEach
+	void restoreCurrentPolicy() {
+		StackTracePolicy.install(previous);
+	}
+
+	@Test
+	void capturesStackTracesAndSuppressedExceptionsByDefault() {
+		LocalizedException exception = new LocalizedException(StackTracePolicy.DEFAULT, TYPE);
+		exception.addSuppressed(new IllegalStateException());
+
+		assertThat(exception.getStackTrace()).isNotEmpty();
+		assertThat(exception.getSuppressed()).hasSize(1);
+	}
+
+	@Test
+	void skipsStackTracesWhenStackless() {
+		LocalizedException exception = new LocalizedException(new StackTracePolicy(true, true), TYPE);
+		exception.addSuppressed(new IllegalStateException());
+
+		assertThat(exception.getStackTrace()).isEmpty();
+		assertThat(exception.getSuppressed()).hasSize(1);
+	}
+
+	@Test
+	void ignoresSuppressedExceptionsWhenSuppressionIsDisabled() {
+		LocalizedException exception = new LocalizedException(new StackTracePolicy(false, false), TYPE);
+		exception.addSuppressed(new IllegalStateException());
+
+		assertThat(exception.getStackTrace()).isNotEmpty();
+		assertThat(exception.getSuppressed()).isEmpty();
+	}
+
+	@Test
+	void installsThePolicyFromTheEnvironment() {
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("localized-exception.stackless", "true")
+				.withProperty("localized-exception.suppression", "false");
+		new StackTracePolicyEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+		assertThat(StackTracePolicy.current()).isEqualTo(new StackTracePolicy(true, false));
+		LocalizedException exception = new LocalizedException(TYPE);
+		exception.addSuppressed(new IllegalStateException());
+		assertThat(exception.getStackTrace()).isEmpty();
+		assertThat(exception.getSuppressed()).isEmpty();
+	}
+
+	@Test
+	void keepsTheDefaultsForMissingProperties() {
+		new StackTracePolicyEnvironmentPostProcessor().postProcessEnvironment(new MockEnvironment(), new SpringApplication());
+
+		assertThat(StackTracePolicy.current()).isEqualTo(StackTracePolicy.DEFAULT);
+	}
+}
@@ -0,0 +1,153 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.infrastructure.config.ValidationConfig;
+import com.example.errorhandler.infrastructure.i18n.CatalogMessageSource;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import com.example.errorhandler.infrastructure.i18n.MessageCatalog;
+import com.example.errorhandler.infrastructure.i18n.TenantMessageOverlays;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.ProblemDetail;
+import org.springframework.validation.FieldError;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ValidationBudgetTests {
+
+	/**
+	 * The bytes of one rendered {@code {"pointer":"/f0","reason":"abc"},} entry.
+	 */
+	private static final int ENTRY_BYTES = 33;
+
+	private static final String TIMESTAMP = "2024-06-15T12:00:00";
+
+	private final AtomicInteger localized = new AtomicInteger();
+
+	private ValidationErrorLocalizer localizer;
+
+	@BeforeEach
+	void setUp() {
+		CatalogMessageSource messageSource = new CatalogMessageSource(MessageCatalog.of(Map.of(Locale.ENGLISH, Map.of()), Locale.ENGLISH));
+		localizer = new ValidationErrorLocalizer(messageSource, new TenantMessageOverlays(messageSource, event -> {
+		}, null, "error_messages", 16), new LocaleFallbackChains(List.of(), Locale.ENGLISH));
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"5, 4, 4",
+			"5, 5, 5",
+			"5, 6, 5",
+			"1, 3, 1"
+	})
+	void rendersAtMostMaxViolations(int maxViolations, int fieldErrorCount, int rendered) {
+		ValidationBudget budget = new ValidationBudget(maxViolations, Integer.MAX_VALUE);
+
+		assertThat(localizer.localize(fieldErrors(fieldErrorCount), Locale.ENGLISH, budget)).hasSize(rendered);
+		assertThat(localized).hasValue(rendered);
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"3, 3",
+			"2, 2",
+			"1, 1"
+	})
+	void rendersEntriesUpToExactlyMaxErrorsBytes(int entries, int rendered) {
+		int errorsBytes = 1 + entries * ENTRY_BYTES;
+
+		assertThat(localizer.localize(fieldErrors(5), Locale.ENGLISH, new ValidationBudget(100, errorsBytes))).hasSize(rendered);
+		assertThat(localizer.localize(fieldErrors(5), Locale.ENGLISH, new ValidationBudget(100, errorsBytes - 1))).hasSize(rendered - 1);
+		assertThat(localizer.localize(fieldErrors(5), Locale.ENGLISH, new ValidationBudget(100, errorsBytes + 1))).hasSize(rendered);
+	}
+
+	@Test
+	void doesNotLocalizeAnEntryWhosePointerExceedsTheByteBudget() {
+		int pointerOnlyBytes = 1 + ENTRY_BYTES + ENTRY_BYTES - "abc".length();
+
+		assertThat(localizer.localize(fieldErrors(3), Locale.ENGLISH, new ValidationBudget(100, pointerOnlyBytes - 1))).hasSize(1);
+		assertThat(localized).hasValue(1);
+
+		localized.set(0);
+		assertThat(localizer.localize(fieldErrors(3), Locale.ENGLISH, new ValidationBudget(100, pointerOnlyBytes))).hasSize(1);
+		assertThat(localized).hasValue(2);
+	}
+
+	@Test
+	void marksTheProblemDetailAsTruncatedOnlyPastALimit() {
+		ProblemDetail atLimit = localizer.toProblemDetail(fieldErrors(3), Locale.ENGLISH, new ValidationBudget(3, 1 + 3 * ENTRY_BYTES), TIMESTAMP);
+		assertThat(errors(atLimit)).hasSize(3);
+		assertThat(atLimit.getProperties()).doesNotContainKeys("truncated", "totalErrors");
+
+		ProblemDetail pastViolations = localizer.toProblemDetail(fieldErrors(4), Locale.ENGLISH, new ValidationBudget(3, Integer.MAX_VALUE), TIMESTAMP);
+		assertThat(errors(pastViolations)).hasSize(3);
+		assertThat(pastViolations.getProperties()).containsEntry("truncated", true).containsEntry("totalErrors", 4);
+
+		ProblemDetail pastBytes = localizer.toProblemDetail(fieldErrors(3), Locale.ENGLISH, new ValidationBudget(3, 3 * ENTRY_BYTES), TIMESTAMP);
+		assertThat(errors(pastBytes)).hasSize(2);
+		assertThat(pastBytes.getProperties()).containsEntry("truncated", true).containsEntry("totalErrors", 3);
+	}
+
+	@Test
+	void rejectsNonPositiveLimits() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ValidationBudget(0, 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> new ValidationBudget(1, 0));
+	}
+
+	@Test
+	void stopsValidatingAtTheFirstViolationWithTheFailFastCustomizer() {
+		assertThat(violations(false)).isEqualTo(3);
+		assertThat(violations(true)).isEqualTo(1);
+	}
+
+	private List<FieldError> fieldErrors(int count) {
+		return IntStream.range(0, count).<FieldError>mapToObj(i -> new FieldError("request", "f" + i, "abc") {
+			@Override
+			public String getDefaultMessage() {
+				localized.incrementAndGet();
+				return super.getDefaultMessage();
+			}
+		}).toList();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<ApiErrorDetails> errors(ProblemDetail problemDetail) {
+		return (List<ApiErrorDetails>) problemDetail.getProperties().getOrDefault("errors", List.of());
+	}
+
+	private static int violations(boolean failFast) {
+		HibernateValidatorConfiguration configuration = Validation.byProvider(HibernateValidator.class).configure();
+		if (failFast) {
+			new ValidationConfig().failFastValidation().customize(configuration);
+		}
+		try (ValidatorFactory factory = configuration.buildValidatorFactory()) {
+			return factory.getValidator().validate(new Invalid()).size();
+		}
+	}
+
+	static class Invalid {
+
+		@NotNull
+		String first;
+
+		@NotNull
+		String second;
+
+		@NotBlank
+		String third = " ";
+	}
+}
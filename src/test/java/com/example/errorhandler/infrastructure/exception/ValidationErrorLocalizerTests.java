@@ -0,0 +1,139 @@
+package com.example.errorhandler.infrastructure.exception;
+
+import com.example.errorhandler.infrastructure.i18n.CatalogMessageSource;
+import com.example.errorhandler.infrastructure.i18n.LocaleFallbackChains;
+import com.example.errorhandler.infrastructure.i18n.MessageCatalog;
+import com.example.errorhandler.infrastructure.i18n.TenantMessageOverlays;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.validation.DirectFieldBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ValidationErrorLocalizerTests {
+
+	private static final String BASENAME = "messages/error_messages/error_messages";
+
+	private static ValidatorFactory validatorFactory;
+
+	private static SpringValidatorAdapter validator;
+
+	private static CatalogMessageSource messageSource;
+
+	private TenantMessageOverlays overlays;
+
+	private ValidationErrorLocalizer localizer;
+
+	@BeforeAll
+	static void setUpValidator() throws Exception {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = new SpringValidatorAdapter(validatorFactory.getValidator());
+		messageSource = new CatalogMessageSource(
+				MessageCatalog.load(new PathMatchingResourcePatternResolver(), BASENAME, Locale.ENGLISH));
+	}
+
+	@AfterAll
+	static void tearDownValidator() {
+		validatorFactory.close();
+	}
+
+	@BeforeEach
+	void setUp() {
+		overlays = new TenantMessageOverlays(messageSource, event -> {
+		}, null, "error_messages", 16);
+		localizer = new ValidationErrorLocalizer(messageSource, overlays, new LocaleFallbackChains(List.of(), Locale.ENGLISH));
+	}
+
+	@Test
+	void pointsAtNestedIndexedAndKeyedFields() {
+		List<ApiErrorDetails> errors = localizer.localize(fieldErrors(invalidOrder()), Locale.ENGLISH);
+
+		assertThat(errors).extracting(ApiErrorDetails::getPointer, ApiErrorDetails::getReason).containsExactlyInAnyOrder(
+				tuple("/customer/name", "This field cannot be blank."),
+				tuple("/lines/1/sku", "This field cannot be blank."),
+				tuple("/lines/2/code", "The field must be between 2 and 5 characters."),
+				tuple("/linesByKey/a~1b~0c/sku", "This field cannot be blank."),
+				tuple("/linesByKey/a~1b~0c/code", "The field must be between 2 and 5 characters."));
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"en    | This field cannot be blank.   | The field must be between 2 and 5 characters.",
+			"fr    | Ce champ ne peut pas être vide. | Le champ doit contenir entre 2 et 5 caractères.",
+			"fr-CA | Ce champ ne peut pas être vide. | Le champ doit contenir entre 2 et 5 caractères.",
+			"ru    | Это поле не может быть пустым.  | Длина поля должна быть от 2 до 5 символов.",
+			"de    | This field cannot be blank.   | The field must be between 2 and 5 characters."
+	})
+	void localizesPerRequestLocaleWithFallback(String languageTag, String notBlank, String size) {
+		Order order = new Order(new Customer("Ada"), List.of(new Line("", "abc"), new Line("sku", "abcdef")), Map.of());
+
+		List<ApiErrorDetails> errors = localizer.localize(fieldErrors(order), Locale.forLanguageTag(languageTag));
+
+		assertThat(errors).extracting(ApiErrorDetails::getPointer, ApiErrorDetails::getReason).containsExactlyInAnyOrder(
+				tuple("/lines/0/sku", notBlank),
+				tuple("/lines/1/code", size));
+	}
+
+	@Test
+	void usesTheOverlayOfTheTenant() {
+		overlays.publish("acme", MessageCatalog.of(Map.of(Locale.ENGLISH,
+				Map.of("validation.exception.size", "Acme wants {min} to {max}.")), Locale.ENGLISH));
+		Order order = new Order(new Customer("Ada"), List.of(new Line("sku", "abcdef")), Map.of());
+
+		assertThat(localizer.localize(fieldErrors(order), Locale.ENGLISH, "acme", ValidationBudget.UNLIMITED))
+				.extracting(ApiErrorDetails::getReason).containsExactly("Acme wants 2 to 5.");
+		assertThat(localizer.localize(fieldErrors(order), Locale.ENGLISH, "globex", ValidationBudget.UNLIMITED))
+				.extracting(ApiErrorDetails::getReason).containsExactly("The field must be between 2 and 5 characters.");
+	}
+
+	@Test
+	void keepsTheDefaultMessageOfOtherFieldErrors() {
+		FieldError bindingError = new FieldError("order", "lines[0].quantity", "abc", true, null, null, "Failed to convert");
+		FieldError plainMessage = new FieldError("order", "customer.name", "Must be set");
+
+		assertThat(localizer.localize(List.of(bindingError, plainMessage), Locale.FRENCH))
+				.extracting(ApiErrorDetails::getPointer, ApiErrorDetails::getReason)
+				.containsExactly(tuple("/lines/0/quantity", "Failed to convert"), tuple("/customer/name", "Must be set"));
+	}
+
+	private static List<FieldError> fieldErrors(Order order) {
+		DirectFieldBindingResult bindingResult = new DirectFieldBindingResult(order, "order");
+		validator.validate(order, bindingResult);
+		return bindingResult.getFieldErrors();
+	}
+
+	private static Order invalidOrder() {
+		Map<String, Line> linesByKey = new LinkedHashMap<>();
+		linesByKey.put("a/b~c", new Line(" ", "x"));
+		linesByKey.put("valid", new Line("sku", "abc"));
+		return new Order(new Customer(""), List.of(new Line("sku", "abc"), new Line("", "abc"), new Line("sku", "abcdef")), linesByKey);
+	}
+
+	record Order(@Valid Customer customer, List<@Valid Line> lines, Map<String, @Valid Line> linesByKey) {
+	}
+
+	record Customer(@NotBlank(message = "{validation.exception.not_blank}") String name) {
+	}
+
+	record Line(@NotBlank(message = "{validation.exception.not_blank}") String sku,
+				@Size(min = 2, max = 5, message = "{validation.exception.size}") String code) {
+	}
+}
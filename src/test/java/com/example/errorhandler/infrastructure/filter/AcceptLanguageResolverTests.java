@@ -0,0 +1,107 @@
+package com.example.errorhandler.infrastructure.filter;
+
+import com.example.errorhandler.infrastructure.logging.ErrorEventLogger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptLanguageResolverTests {
+
+	private static final List<Locale> SUPPORTED_LOCALES = List.of(Locale.ENGLISH, Locale.FRENCH,
+			Locale.forLanguageTag("ar"), Locale.forLanguageTag("ru"));
+
+	private static final ErrorEventLogger ERROR_EVENT_LOGGER = new ErrorEventLogger(Duration.ofSeconds(10), 16, 1.0, 1.0, 1.0, 1.0);
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"fr|fr",
+			"fr-CA|fr",
+			"ar-SA,ar;q=0.9,en;q=0.5|ar",
+			"de-DE,de;q=0.9,en;q=0.5|en",
+			"ru;q=0.5,fr;q=0.9|fr",
+			"fr;q=0,ru|ru",
+			"de|en",
+			"*|en"
+	})
+	void negotiatesTheSupportedLocaleWithTheHighestQuality(String acceptLanguage, String languageTag) {
+		assertThat(resolver(4).resolve(acceptLanguage)).isEqualTo(Locale.forLanguageTag(languageTag));
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = {"   ", "en;q=2", "@@@", "fr;q=abc"})
+	void fallsBackToEnglishForMissingOrInvalidHeaders(String acceptLanguage) {
+		assertThat(resolver(4).resolve(acceptLanguage)).isEqualTo(Locale.ENGLISH);
+	}
+
+	@Test
+	void cachesResolvedHeaderValues() {
+		AcceptLanguageResolver resolver = resolver(4);
+		Locale first = resolver.resolve("fr-FR,fr;q=0.9");
+		assertThat(resolver.resolve("fr-FR,fr;q=0.9")).isSameAs(first);
+		assertThat(resolver.getMissCount()).isEqualTo(1);
+		assertThat(resolver.getHitCount()).isEqualTo(1);
+		assertThat(resolver.getCacheSize()).isEqualTo(1);
+	}
+
+	@Test
+	void evictsAHeaderValueThatWasNotHitWhenFull() {
+		AcceptLanguageResolver resolver = resolver(2);
+		resolver.resolve("fr");
+		resolver.resolve("ru");
+		resolver.resolve("fr");
+		resolver.resolve("ar");
+		assertThat(resolver.getCacheSize()).isEqualTo(2);
+
+		resolver.resolve("fr");
+		resolver.resolve("ar");
+		assertThat(resolver.getHitCount()).isEqualTo(3);
+		resolver.resolve("ru");
+		assertThat(resolver.getMissCount()).isEqualTo(4);
+	}
+
+	@Test
+	void keepsCachingAfterManyDistinctHeaderValues() {
+		AcceptLanguageResolver resolver = resolver(8);
+		for (int i = 0; i < 1000; i++) {
+			resolver.resolve("x-" + i + ",fr");
+		}
+		assertThat(resolver.getCacheSize()).isEqualTo(8);
+
+		resolver.resolve("ru");
+		assertThat(resolver.resolve("ru")).isEqualTo(Locale.forLanguageTag("ru"));
+		assertThat(resolver.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void keepsHotHeaderValuesDuringAFloodOfDistinctOnes() {
+		AcceptLanguageResolver resolver = resolver(AcceptLanguageResolver.EVICTION_SAMPLE_SIZE * 4);
+		for (int i = 0; i < 1000; i++) {
+			resolver.resolve("fr");
+			resolver.resolve("x-" + i + ",ru");
+		}
+		assertThat(resolver.getCacheSize()).isEqualTo(AcceptLanguageResolver.EVICTION_SAMPLE_SIZE * 4);
+		assertThat(resolver.getHitCount()).isEqualTo(999);
+	}
+
+	@Test
+	void doesNotCacheWithZeroSize() {
+		AcceptLanguageResolver resolver = resolver(0);
+		resolver.resolve("fr");
+		resolver.resolve("fr");
+		assertThat(resolver.getCacheSize()).isZero();
+		assertThat(resolver.getHitCount()).isZero();
+	}
+
+	private static AcceptLanguageResolver resolver(int maxCacheSize) {
+		return new AcceptLanguageResolver(SUPPORTED_LOCALES, ERROR_EVENT_LOGGER, maxCacheSize);
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryMessageCatalogTests {
+
+	private static final String BASENAME = "messages/error_messages/error_messages";
+
+	@ParameterizedTest
+	@ValueSource(strings = {"en", "fr", "ar", "ru", "fr-CA", "de"})
+	void resolvesLikeTheBundles(String languageTag) throws IOException {
+		Locale locale = Locale.forLanguageTag(languageTag);
+		MessageCatalog bundles = MessageCatalog.load(new PathMatchingResourcePatternResolver(), BASENAME, Locale.ENGLISH);
+		MessageCatalog compiled = MessageCatalog.of(compile(BinaryMessageCatalogWriter.read(
+				Path.of("src/main/resources/messages/error_messages"), "error_messages")), Locale.ENGLISH);
+		assertThat(compiled.getLocales()).isEqualTo(bundles.getLocales());
+		assertThat(compiled.getCodes(Locale.ENGLISH)).isEqualTo(bundles.getCodes(Locale.ENGLISH));
+		for (String code : bundles.getCodes(Locale.ENGLISH)) {
+			assertThat(compiled.find(code, locale).format(null, locale))
+					.isEqualTo(bundles.find(code, locale).format(null, locale));
+		}
+	}
+
+	@Test
+	void storesSharedMessagesOnceAndParsesOnlyWhatIsUsed() throws IOException {
+		BinaryMessageCatalog catalog = compile(Map.of(
+				Locale.ENGLISH, Map.of("a", "Shared message", "b", "Shared message", "c", "English only"),
+				Locale.CANADA, Map.of("a", "Shared message")));
+		// header, 2 locales, 3 keys, 3 x 2 offsets, and the strings "en", "en-CA", "a", "b", "c", "Shared message" and "English only"
+		assertThat(catalog.getSize()).isEqualTo(16 + 2 * 4 + 3 * 4 + 3 * 2 * 4 + 7 * 4 + 2 + 5 + 3 + 14 + 12);
+		assertThat(catalog.getMessage("b", catalog.getLocales().indexOf(Locale.CANADA))).isNull();
+
+		BinaryBundleTable english = new BinaryBundleTable(catalog, catalog.getLocales().indexOf(Locale.ENGLISH));
+		assertThat(english.keySet()).containsExactlyInAnyOrder("a", "b", "c");
+		assertThat(english.get("c").format(null, Locale.ENGLISH)).isEqualTo("English only");
+		assertThat(english.get("unknown")).isNull();
+		assertThat(english.getCachedSize()).isEqualTo(1);
+		assertThat(MessageCatalog.of(catalog, Locale.ENGLISH).find("c", Locale.CANADA).format(null, Locale.CANADA))
+				.isEqualTo("English only");
+	}
+
+	private static BinaryMessageCatalog compile(Map<Locale, Map<String, String>> bundles) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BinaryMessageCatalogWriter.write(bundles, out);
+		return BinaryMessageCatalog.read(new ByteArrayInputStream(out.toByteArray()));
+	}
+}
@@ -0,0 +1,140 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.HttpStatus;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogMessageSourceTests {
+
+	private static final String BASENAME = "messages/error_messages/error_messages";
+
+	private static CatalogMessageSource catalogMessageSource;
+
+	private static ResourceBundleMessageSource resourceBundleMessageSource;
+
+	@BeforeAll
+	static void setUp() throws Exception {
+		catalogMessageSource = new CatalogMessageSource(
+				MessageCatalog.load(new PathMatchingResourcePatternResolver(), BASENAME, Locale.ENGLISH));
+		resourceBundleMessageSource = new ResourceBundleMessageSource();
+		resourceBundleMessageSource.setBasenames(BASENAME);
+		resourceBundleMessageSource.setDefaultEncoding("UTF-8");
+		resourceBundleMessageSource.setFallbackToSystemLocale(false);
+		resourceBundleMessageSource.setDefaultLocale(Locale.ENGLISH);
+		resourceBundleMessageSource.setAlwaysUseMessageFormat(true);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"en", "fr", "ar", "ru", "fr-CA", "de", "und"})
+	void matchesResourceBundleMessageSource(String languageTag) {
+		Locale locale = Locale.forLanguageTag(languageTag);
+		for (String code : catalogMessageSource.getCatalog().getCodes(Locale.ENGLISH)) {
+			if (isConstraintMessage(code)) {
+				// named parameters such as {min} are no MessageFormat pattern, see rendersEveryMessageWithSingleApostrophes
+				continue;
+			}
+			assertThat(catalogMessageSource.getMessage(code, null, locale))
+					.isEqualTo(resourceBundleMessageSource.getMessage(code, null, locale));
+			Object[] args = {HttpStatus.CONFLICT, 42};
+			assertThat(catalogMessageSource.getMessage(code, args, locale))
+					.isEqualTo(resourceBundleMessageSource.getMessage(code, args, locale));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"en", "fr", "ar", "ru", "fr-CA"})
+	void rendersEveryMessageWithSingleApostrophes(String languageTag) {
+		Locale locale = Locale.forLanguageTag(languageTag);
+		for (String code : catalogMessageSource.getCatalog().getCodes(Locale.ENGLISH)) {
+			assertThat(ConstraintMessageTemplate.parse(catalogMessageSource.getMessage(code, null, locale)).render(Map.of()))
+					.as(code).doesNotContain("''");
+		}
+		if (locale.getLanguage().equals("fr")) {
+			assertThat(catalogMessageSource.getMessage("business.exception.default.title", null, locale)).isEqualTo("Erreur d'entreprise");
+			assertThat(catalogMessageSource.getMessage("validation.exception.email", null, locale)).isEqualTo("L'adresse e-mail est invalide.");
+			assertThat(ConstraintMessageTemplate.parse(catalogMessageSource.getMessage("validation.exception.digits", null, locale))
+					.render(Map.of("integer", 5, "fraction", 2)))
+					.isEqualTo("Le nombre doit avoir jusqu'à 5 chiffres avant la virgule et 2 chiffres après la virgule.");
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"{0} of {1}", "It''s {0}", "'{0}' is quoted {1}", "{0,number,#.##} total", "{1} {0} {5}"})
+	void formatsLikeMessageFormat(String pattern) {
+		Object[] args = {1234.5678, "x"};
+		assertThat(MessageTemplate.parse(pattern, Locale.FRENCH).format(args, Locale.FRENCH))
+				.isEqualTo(new java.text.MessageFormat(pattern, Locale.FRENCH).format(args));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"{0} of {1}", "It''s {0}", "'{0}' is quoted {1}", "{0,number,#.##} total", "Erreur d''entreprise"})
+	void formatsAlwaysLikeMessageFormatWithoutArguments(String pattern) {
+		assertThat(MessageTemplate.parse(pattern, Locale.FRENCH).formatAlways(null, Locale.FRENCH))
+				.isEqualTo(new java.text.MessageFormat(pattern, Locale.FRENCH).format(new Object[0]));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"en", "fr", "ar", "ru", "fr-CA"})
+	void rendersErrorMessagesTheSameWithAndWithoutUnusedArguments(String languageTag) {
+		Locale locale = Locale.forLanguageTag(languageTag);
+		Object[] args = {HttpStatus.CONFLICT};
+		for (LocalizedExceptionTypes type : LocalizedExceptionTypes.values()) {
+			assertThat(catalogMessageSource.errorMessagesUseArguments(type)).isFalse();
+			assertThat(catalogMessageSource.getErrorTitle(type, args, locale))
+					.isEqualTo(catalogMessageSource.getErrorTitle(type, null, locale))
+					.doesNotContain("''");
+			assertThat(catalogMessageSource.getErrorMessage(type, args, locale))
+					.isEqualTo(catalogMessageSource.getErrorMessage(type, null, locale))
+					.doesNotContain("''");
+		}
+		if (locale.getLanguage().equals("fr")) {
+			assertThat(catalogMessageSource.getErrorTitle(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR, null, locale))
+					.isEqualTo("Erreur d'entreprise");
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"en", "fr"})
+	void returnsCachedStringForArglessLookups(String languageTag) {
+		Locale locale = Locale.forLanguageTag(languageTag);
+		assertThat(catalogMessageSource.getMessage("business.exception.default.title", null, locale))
+				.isSameAs(catalogMessageSource.getMessage("business.exception.default.title", new Object[0], locale));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"en", "ru"})
+	void throwsForUnknownCodes(String languageTag) {
+		Locale locale = Locale.forLanguageTag(languageTag);
+		assertThatThrownBy(() -> catalogMessageSource.getMessage("unknown.code", null, locale))
+				.isInstanceOf(NoSuchMessageException.class);
+		assertThat(catalogMessageSource.getMessage("unknown.code", null, "fallback", locale)).isEqualTo("fallback");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"en", "fr", "ar", "ru", "fr-CA", "de", "und"})
+	void generatedErrorMessagesMatchTheCatalog(String languageTag) {
+		Locale locale = Locale.forLanguageTag(languageTag);
+		ErrorMessageRegistry generated = ErrorMessageRegistry.generated(Locale.ENGLISH);
+		for (LocalizedExceptionTypes type : LocalizedExceptionTypes.values()) {
+			assertThat(generated.findTitle(type, locale).formatAlways(null, locale))
+					.isEqualTo(catalogMessageSource.getMessage(type.getErrorTitleKey(), null, locale));
+			assertThat(generated.findMessage(type, locale).formatAlways(null, locale))
+					.isEqualTo(catalogMessageSource.getMessage(type.getErrorMessageKey(), null, locale));
+		}
+	}
+
+	private static boolean isConstraintMessage(String code) {
+		return code.startsWith("validation.exception.") && !code.startsWith("validation.exception.default.");
+	}
+}
@@ -0,0 +1,158 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExternalMessageBundleWatcherTests {
+
+	private static final String BUNDLE_NAME = "error_messages";
+
+	private static final Duration DEBOUNCE = Duration.ofMillis(50);
+
+	@TempDir
+	Path directory;
+
+	private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+
+	private CatalogMessageSource messageSource;
+
+	private ExternalMessageBundleWatcher watcher;
+
+	@BeforeEach
+	void setUp() {
+		messageSource = new CatalogMessageSource(MessageCatalog.of(Map.of(Locale.ENGLISH, Map.of("greeting", "Initial")), Locale.ENGLISH));
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		if (watcher != null) {
+			watcher.stop();
+		}
+	}
+
+	@Test
+	void reloadsTheBundlesWhenAFileChanges() throws Exception {
+		writeBundle(directory, "en", "greeting=Hello");
+		startWatcher(directory);
+		assertThat(watcher.reload()).isTrue();
+		events.clear();
+
+		writeBundle(directory, "en", "greeting=Hello again");
+
+		assertThat(nextPublishedEvent().snapshot().catalog().find("greeting", Locale.ENGLISH).getPattern()).isEqualTo("Hello again");
+		assertThat(messageSource.getMessage("greeting", null, Locale.ENGLISH)).isEqualTo("Hello again");
+		assertThat(watcher.getLastError()).isNull();
+	}
+
+	@Test
+	void reloadsTheBundlesWhenAConfigMapSwapsItsDataSymlink() throws Exception {
+		Path firstVersion = Files.createDirectory(directory.resolve("..2024_06_15_12_00_00.000000001"));
+		writeBundle(firstVersion, "en", "greeting=Hello");
+		writeBundle(firstVersion, "fr", "greeting=Bonjour");
+		Files.createSymbolicLink(directory.resolve("..data"), firstVersion.getFileName());
+		for (String file : List.of(BUNDLE_NAME + "_en.properties", BUNDLE_NAME + "_fr.properties")) {
+			Files.createSymbolicLink(directory.resolve(file), Path.of("..data", file));
+		}
+		startWatcher(directory);
+		assertThat(watcher.reload()).isTrue();
+		events.clear();
+
+		Path secondVersion = Files.createDirectory(directory.resolve("..2024_06_15_12_05_00.000000002"));
+		writeBundle(secondVersion, "en", "greeting=Hi");
+		writeBundle(secondVersion, "fr", "greeting=Salut");
+		Path newData = Files.createSymbolicLink(directory.resolve("..data_tmp"), secondVersion.getFileName());
+		Files.move(newData, directory.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+
+		MessageCatalog catalog = nextPublishedEvent().snapshot().catalog();
+		assertThat(catalog.find("greeting", Locale.ENGLISH).getPattern()).isEqualTo("Hi");
+		assertThat(catalog.find("greeting", Locale.FRENCH).getPattern()).isEqualTo("Salut");
+	}
+
+	@Test
+	void doesNotReloadUnchangedBundles() throws Exception {
+		writeBundle(directory, "en", "greeting=Hello");
+		startWatcher(directory);
+
+		assertThat(watcher.reloadIfChanged()).isTrue();
+		assertThat(watcher.reloadIfChanged()).isFalse();
+		Files.writeString(directory.resolve("unrelated.txt"), "ignored");
+		assertThat(watcher.reloadIfChanged()).isFalse();
+		assertThat(messageSource.getSnapshot().version()).isEqualTo(1);
+
+		writeBundle(directory, "en", "greeting=Hello again");
+		assertThat(watcher.reloadIfChanged()).isTrue();
+		assertThat(messageSource.getSnapshot().version()).isEqualTo(2);
+	}
+
+	@Test
+	void keepsThePreviousCatalogWhenTheBundlesAreInvalid() throws Exception {
+		writeBundle(directory, "en", "greeting=Hello {0}");
+		startWatcher(directory);
+		assertThat(watcher.reload()).isTrue();
+		events.clear();
+
+		writeBundle(directory, "fr", "greeting=Bonjour {1}");
+		assertThat(watcher.reload()).isFalse();
+		assertThat(watcher.getLastError()).contains("'greeting'", "'fr'");
+
+		Files.delete(directory.resolve(BUNDLE_NAME + "_en.properties"));
+		assertThat(watcher.reload()).isFalse();
+		assertThat(watcher.getLastError()).contains("Missing baseline bundle");
+
+		assertThat(events).isEmpty();
+		assertThat(messageSource.getSnapshot().version()).isEqualTo(1);
+		assertThat(messageSource.getMessage("greeting", new Object[]{"Ada"}, Locale.FRENCH)).isEqualTo("Hello Ada");
+	}
+
+	@Test
+	void publishesEachCatalogAtomically() throws Exception {
+		writeBundle(directory, "en", "greeting=Hello", "farewell=Goodbye");
+		startWatcher(directory);
+		assertThat(watcher.reload()).isTrue();
+		CatalogSnapshot first = messageSource.getSnapshot();
+
+		writeBundle(directory, "en", "greeting=Hi", "farewell=Bye");
+		assertThat(watcher.reload()).isTrue();
+		CatalogSnapshot second = messageSource.getSnapshot();
+
+		assertThat(second.version()).isEqualTo(first.version() + 1);
+		assertThat(first.catalog().find("greeting", Locale.ENGLISH).getPattern()).isEqualTo("Hello");
+		assertThat(first.catalog().find("farewell", Locale.ENGLISH).getPattern()).isEqualTo("Goodbye");
+		assertThat(second.catalog().find("greeting", Locale.ENGLISH).getPattern()).isEqualTo("Hi");
+		assertThat(second.catalog().find("farewell", Locale.ENGLISH).getPattern()).isEqualTo("Bye");
+		assertThat(events).extracting(event -> ((MessageCatalogPublishedEvent) event).snapshot()).containsExactly(first, second);
+	}
+
+	private void startWatcher(Path watched) throws IOException {
+		watcher = new ExternalMessageBundleWatcher(messageSource, new MessageCatalogValidator(Locale.ENGLISH, List.of("greeting")),
+				events::add, watched, BUNDLE_NAME, Locale.ENGLISH, DEBOUNCE);
+		watcher.start();
+	}
+
+	private MessageCatalogPublishedEvent nextPublishedEvent() throws InterruptedException {
+		Object event = events.poll(10, TimeUnit.SECONDS);
+		assertThat(event).as("published event").isInstanceOf(MessageCatalogPublishedEvent.class);
+		return (MessageCatalogPublishedEvent) event;
+	}
+
+	private static void writeBundle(Path directory, String language, String... lines) throws IOException {
+		Files.write(directory.resolve(BUNDLE_NAME + "_" + language + ".properties"), List.of(lines), StandardCharsets.UTF_8);
+	}
+}
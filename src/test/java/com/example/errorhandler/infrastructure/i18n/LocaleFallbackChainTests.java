@@ -0,0 +1,37 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocaleFallbackChainTests {
+
+	@Test
+	void walksRegionalLocalesThroughTheirLanguageToTheDefaultLocale() {
+		LocaleFallbackChain chain = LocaleFallbackChain.of(Locale.forLanguageTag("fr-CA"), Locale.ENGLISH);
+		assertThat(chain.size()).isEqualTo(3);
+		assertThat(chain.get(0)).isEqualTo(Locale.CANADA_FRENCH);
+		assertThat(chain.get(1)).isEqualTo(Locale.FRENCH);
+		assertThat(chain.get(2)).isEqualTo(Locale.ENGLISH);
+		assertThat(chain.isFallback(1)).isFalse();
+		assertThat(chain.isFallback(2)).isTrue();
+	}
+
+	@Test
+	void neverFallsBackFromTheDefaultLocale() {
+		LocaleFallbackChain chain = LocaleFallbackChain.of(Locale.UK, Locale.ENGLISH);
+		assertThat(chain.size()).isEqualTo(2);
+		assertThat(chain.isFallback(1)).isFalse();
+	}
+
+	@Test
+	void precomputesTheChainsOfTheSupportedLocales() {
+		LocaleFallbackChains chains = new LocaleFallbackChains(List.of(Locale.forLanguageTag("ar-SA")), Locale.ENGLISH);
+		assertThat(chains.forLocale(Locale.forLanguageTag("ar-SA")))
+				.isSameAs(chains.forLocale(Locale.forLanguageTag("ar-SA")))
+				.hasToString("[ar_SA, ar, en]");
+	}
+}
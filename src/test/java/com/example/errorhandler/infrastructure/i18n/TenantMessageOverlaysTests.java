@@ -0,0 +1,45 @@
+package com.example.errorhandler.infrastructure.i18n;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantMessageOverlaysTests {
+
+	private static final String TITLE = "business.exception.default.title";
+
+	private CatalogMessageSource base;
+
+	private TenantMessageOverlays overlays;
+
+	@BeforeEach
+	void setUp() {
+		base = new CatalogMessageSource(MessageCatalog.of(Map.of(
+				Locale.ENGLISH, Map.of(TITLE, "Business Error", "other", "Other"),
+				Locale.FRENCH, Map.of(TITLE, "Erreur métier", "other", "Autre")), Locale.ENGLISH));
+		overlays = new TenantMessageOverlays(base, event -> {
+		}, null, "error_messages", 16);
+		overlays.publish("acme", MessageCatalog.of(Map.of(Locale.ENGLISH, Map.of(TITLE, "Acme {0} Error")), Locale.ENGLISH));
+	}
+
+	@Test
+	void overlaysOnlyTheOverriddenCodesInTheBundleTheBaseWouldUse() {
+		assertThat(overlays.messageSourceFor("acme").getMessage(TITLE, new Object[] {"Business"}, Locale.ENGLISH))
+				.isEqualTo("Acme Business Error");
+		assertThat(overlays.messageSourceFor("acme").getMessage(TITLE, null, Locale.GERMAN)).isEqualTo("Acme {0} Error");
+		assertThat(overlays.messageSourceFor("acme").getMessage(TITLE, null, Locale.FRENCH)).isEqualTo("Erreur métier");
+		assertThat(overlays.messageSourceFor("acme").getMessage("other", null, Locale.ENGLISH)).isEqualTo("Other");
+	}
+
+	@Test
+	void resolvesTenantsWithoutOverlayFromTheSharedCatalog() {
+		assertThat(overlays.messageSourceFor("globex")).isSameAs(base);
+		assertThat(overlays.messageSourceFor(null)).isSameAs(base);
+		assertThat(overlays.remove("acme")).isTrue();
+		assertThat(overlays.messageSourceFor("acme").getMessage(TITLE, null, Locale.ENGLISH)).isEqualTo("Business Error");
+	}
+}
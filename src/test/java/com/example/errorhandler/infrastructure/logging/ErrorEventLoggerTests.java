@@ -0,0 +1,142 @@
+package com.example.errorhandler.infrastructure.logging;
+
+import com.example.errorhandler.infrastructure.logging.ErrorEventLogger.Category;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+class ErrorEventLoggerTests {
+
+	private static final Duration WINDOW = Duration.ofSeconds(10);
+
+	@Test
+	void logsTheFirstOccurrenceAndSummarizesRepeatsPerWindow(CapturedOutput output) {
+		ErrorEventLogger logger = logger(16, 1.0);
+		for (int i = 0; i < 5; i++) {
+			logger.record(Category.MESSAGE_FALLBACK, "business.exception.default.message", Locale.FRENCH, "DEFAULT_BUSINESS_ERROR", "first");
+		}
+		logger.record(Category.MESSAGE_FALLBACK, "business.exception.default.message", Locale.GERMAN, "DEFAULT_BUSINESS_ERROR", "other locale");
+
+		logger.drain();
+		assertThat(lines(output, "key=business.exception.default.message locale=fr type=DEFAULT_BUSINESS_ERROR: first")).isEqualTo(1);
+		assertThat(lines(output, "locale=de type=DEFAULT_BUSINESS_ERROR: other locale")).isEqualTo(1);
+		assertThat(output).doesNotContain("occurrences in last");
+
+		logger.flushWindow();
+		assertThat(lines(output, "locale=fr type=DEFAULT_BUSINESS_ERROR: 5 occurrences in last 10s")).isEqualTo(1);
+		assertThat(lines(output, "locale=de type=DEFAULT_BUSINESS_ERROR: 1 occurrences")).isZero();
+
+		logger.record(Category.MESSAGE_FALLBACK, "business.exception.default.message", Locale.FRENCH, "DEFAULT_BUSINESS_ERROR", "first");
+		logger.drain();
+		assertThat(lines(output, "locale=fr type=DEFAULT_BUSINESS_ERROR: first")).isEqualTo(2);
+	}
+
+	@Test
+	void dropsAndCountsEventsWhenTheQueueIsFull(CapturedOutput output) {
+		ErrorEventLogger logger = logger(3, 1.0);
+		for (int i = 0; i < 8; i++) {
+			logger.record(Category.VALIDATION, "key" + i, Locale.ENGLISH, "VALIDATION", "detail");
+		}
+
+		logger.drain();
+		logger.flushWindow();
+		assertThat(lines(output, "type=VALIDATION: detail")).isEqualTo(3);
+		assertThat(lines(output, "Dropped 5 error events in last 10s, the queue was full")).isEqualTo(1);
+
+		logger.record(Category.VALIDATION, "key8", Locale.ENGLISH, "VALIDATION", "detail");
+		logger.drain();
+		logger.flushWindow();
+		assertThat(lines(output, "key=key8")).isEqualTo(1);
+		assertThat(lines(output, "Dropped")).isEqualTo(1);
+	}
+
+	@Test
+	void countsEventsOfKeysBeyondTheKeyCapAsOverflow(CapturedOutput output) {
+		ErrorEventLogger logger = logger(4096, 1.0);
+		int keys = ErrorEventLogger.MAX_KEYS_PER_WINDOW;
+		for (int i = 0; i < keys; i++) {
+			logger.record(Category.INVALID_ACCEPT_LANGUAGE, "key" + i, null, "LOCALE", "detail");
+		}
+		logger.drain();
+		logger.record(Category.INVALID_ACCEPT_LANGUAGE, "key0", null, "LOCALE", "detail");
+		logger.record(Category.INVALID_ACCEPT_LANGUAGE, "key" + keys, null, "LOCALE", "detail");
+		logger.record(Category.INVALID_ACCEPT_LANGUAGE, "key" + (keys + 1), null, "LOCALE", "detail");
+		logger.record(Category.INVALID_ACCEPT_LANGUAGE, "key" + (keys + 1), null, "LOCALE", "detail");
+		logger.drain();
+
+		assertThat(lines(output, "type=LOCALE: detail")).isEqualTo(keys);
+		assertThat(output).doesNotContain("key=key" + keys + " ");
+
+		logger.flushWindow();
+		assertThat(lines(output, "key=key0 locale=null type=LOCALE: 2 occurrences in last 10s")).isEqualTo(1);
+		assertThat(lines(output, "3 error events of other keys in last 10s")).isEqualTo(1);
+
+		logger.record(Category.INVALID_ACCEPT_LANGUAGE, "key" + keys, null, "LOCALE", "detail");
+		logger.drain();
+		assertThat(lines(output, "key=key" + keys + " locale=null type=LOCALE: detail")).isEqualTo(1);
+	}
+
+	@Test
+	void deduplicatesKeysByTheirFirstCharacters(CapturedOutput output) {
+		ErrorEventLogger logger = logger(16, 1.0);
+		String prefix = "x".repeat(ErrorEventLogger.MAX_KEY_LENGTH);
+		logger.record(Category.UNHANDLED_EXCEPTION, prefix + "a", null, "UNEXPECTED_ERROR", "detail");
+		logger.record(Category.UNHANDLED_EXCEPTION, prefix + "b", null, "UNEXPECTED_ERROR", "detail");
+
+		logger.drain();
+		logger.flushWindow();
+		assertThat(lines(output, "key=" + prefix + " locale=null type=UNEXPECTED_ERROR: detail")).isEqualTo(1);
+		assertThat(lines(output, "key=" + prefix + " locale=null type=UNEXPECTED_ERROR: 2 occurrences")).isEqualTo(1);
+	}
+
+	@Test
+	void recordsNothingAtASamplingRateOfZero(CapturedOutput output) {
+		ErrorEventLogger logger = logger(16, 0.0);
+		for (int i = 0; i < 100; i++) {
+			logger.record(Category.MESSAGE_FALLBACK, "key", Locale.ENGLISH, "DEFAULT_BUSINESS_ERROR", "sampled");
+		}
+		logger.record(Category.VALIDATION, "key", Locale.ENGLISH, "VALIDATION", "kept");
+
+		logger.drain();
+		logger.flushWindow();
+		assertThat(output).doesNotContain("sampled");
+		assertThat(lines(output, "type=VALIDATION: kept")).isEqualTo(1);
+	}
+
+	@Test
+	void logsTheStackTraceOfAnExceptionOncePerWindow(CapturedOutput output) {
+		ErrorEventLogger logger = logger(16, 1.0);
+		for (int i = 0; i < 3; i++) {
+			IllegalStateException exception = new IllegalStateException("boom " + i);
+			logger.record(Category.UNHANDLED_EXCEPTION, exception.getClass().getName(), Locale.ENGLISH, "UNEXPECTED_ERROR",
+					exception.getMessage(), exception);
+		}
+
+		logger.drain();
+		logger.flushWindow();
+		assertThat(lines(output, "java.lang.IllegalStateException: boom 0")).isEqualTo(1);
+		assertThat(lines(output, "at com.example.errorhandler.infrastructure.logging.ErrorEventLoggerTests")).isEqualTo(1);
+		assertThat(output).doesNotContain("boom 1", "boom 2");
+		assertThat(lines(output, "key=java.lang.IllegalStateException locale=en type=UNEXPECTED_ERROR: 3 occurrences")).isEqualTo(1);
+
+		logger.record(Category.UNHANDLED_EXCEPTION, IllegalStateException.class.getName(), Locale.ENGLISH, "UNEXPECTED_ERROR",
+				"boom 3", new IllegalStateException("boom 3"));
+		logger.drain();
+		assertThat(lines(output, "java.lang.IllegalStateException: boom 3")).isEqualTo(1);
+	}
+
+	private static ErrorEventLogger logger(int queueCapacity, double messageFallbackRate) {
+		return new ErrorEventLogger(WINDOW, queueCapacity, messageFallbackRate, 1.0, 1.0, 1.0, false);
+	}
+
+	private static long lines(CapturedOutput output, String text) {
+		return output.getAll().lines().filter(line -> line.contains(text)).count();
+	}
+}
@@ -0,0 +1,104 @@
+package com.example.errorhandler.infrastructure.metrics;
+
+import com.example.errorhandler.domain.enums.LocalizedExceptionTypes;
+import com.example.errorhandler.infrastructure.exception.LocalizationFallbackListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorMetricsTests {
+
+	private SimpleMeterRegistry registry;
+
+	private ErrorMetrics errorMetrics;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		errorMetrics = new ErrorMetrics(registry, List.of(Locale.FRENCH, Locale.forLanguageTag("ar")));
+	}
+
+	@Test
+	void registersTheMetersOfEverySupportedLocaleUpFront() {
+		assertThat(registry.find(ErrorMetrics.ERRORS).tag("type", "DEFAULT_BUSINESS_ERROR").counters())
+				.extracting(counter -> counter.getId().getTag("locale"))
+				.containsExactlyInAnyOrder("fr", "ar", "en", "other");
+		assertThat(registry.find(ErrorMetrics.ERRORS).tag("type", "VALIDATION").counters()).hasSize(4);
+		assertThat(registry.find(ErrorMetrics.FALLBACKS).counters())
+				.hasSize(LocalizedExceptionTypes.values().length * LocalizationFallbackListener.Fallback.values().length);
+	}
+
+	@Test
+	void countsBusinessErrorsPerTypeStatusAndLocale() {
+		errorMetrics.recordBusinessError(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR, Locale.FRENCH, 1_000);
+		errorMetrics.recordBusinessError(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR, Locale.FRENCH, 3_000);
+		errorMetrics.recordBusinessError(LocalizedExceptionTypes.RESOURCE_NOT_FOUND, Locale.ENGLISH, 2_000);
+
+		assertThat(errorCount("DEFAULT_BUSINESS_ERROR", "428", "fr")).isEqualTo(2);
+		assertThat(errorCount("RESOURCE_NOT_FOUND", "404", "en")).isEqualTo(1);
+		assertThat(errorCount("DEFAULT_BUSINESS_ERROR", "428", "en")).isZero();
+		assertThat(registry.get(ErrorMetrics.RENDER).tag("kind", "business").timer().count()).isEqualTo(3);
+		assertThat(registry.get(ErrorMetrics.RENDER).tag("kind", "business").timer().totalTime(TimeUnit.NANOSECONDS)).isEqualTo(6_000);
+	}
+
+	@Test
+	void countsUnsupportedLocalesAsOther() {
+		errorMetrics.recordBusinessError(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR, Locale.GERMAN, 1_000);
+		errorMetrics.recordBusinessError(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR, Locale.forLanguageTag("fr-CA"), 1_000);
+		errorMetrics.recordValidationError(Locale.forLanguageTag("ru"), 1, 1_000);
+
+		assertThat(errorCount("DEFAULT_BUSINESS_ERROR", "428", "other")).isEqualTo(2);
+		assertThat(errorCount("VALIDATION", "400", "other")).isEqualTo(1);
+		assertThat(registry.find(ErrorMetrics.ERRORS).tag("locale", "de").counter()).isNull();
+	}
+
+	@Test
+	void recordsTheFieldErrorsOfValidationErrors() {
+		errorMetrics.recordValidationError(Locale.forLanguageTag("ar"), 3, 1_000);
+		errorMetrics.recordValidationError(Locale.forLanguageTag("ar"), 5, 1_000);
+
+		assertThat(errorCount("VALIDATION", "400", "ar")).isEqualTo(2);
+		assertThat(registry.get(ErrorMetrics.VALIDATION_ERRORS).summary().count()).isEqualTo(2);
+		assertThat(registry.get(ErrorMetrics.VALIDATION_ERRORS).summary().totalAmount()).isEqualTo(8);
+		assertThat(registry.get(ErrorMetrics.RENDER).tag("kind", "validation").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void countsWebErrorsWithTheStatusSent() {
+		errorMetrics.recordWebError(HttpStatus.TOO_MANY_REQUESTS, Locale.FRENCH, 1_000);
+		errorMetrics.recordWebError(HttpStatus.TOO_MANY_REQUESTS, Locale.FRENCH, 1_000);
+		errorMetrics.recordWebError(HttpStatusCode.valueOf(599), Locale.GERMAN, 1_000);
+
+		assertThat(errorCount("WEB", "429", "fr")).isEqualTo(2);
+		assertThat(errorCount("WEB", "599", "other")).isEqualTo(1);
+		assertThat(registry.get(ErrorMetrics.RENDER).tag("kind", "web").timer().count()).isEqualTo(3);
+		assertThat(registry.get(ErrorMetrics.RENDER).tag("kind", "business").timer().count()).isZero();
+	}
+
+	@Test
+	void countsFallbacksPerTypeAndKind() {
+		errorMetrics.onFallback(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR, Locale.GERMAN, LocalizationFallbackListener.Fallback.ENGLISH);
+		errorMetrics.onFallback(LocalizedExceptionTypes.DEFAULT_BUSINESS_ERROR, Locale.GERMAN, LocalizationFallbackListener.Fallback.ENGLISH);
+		errorMetrics.onFallback(LocalizedExceptionTypes.UNEXPECTED_ERROR, Locale.FRENCH, LocalizationFallbackListener.Fallback.DEFAULT);
+
+		assertThat(fallbackCount("DEFAULT_BUSINESS_ERROR", "english")).isEqualTo(2);
+		assertThat(fallbackCount("DEFAULT_BUSINESS_ERROR", "default")).isZero();
+		assertThat(fallbackCount("UNEXPECTED_ERROR", "default")).isEqualTo(1);
+	}
+
+	private double errorCount(String type, String status, String locale) {
+		return registry.get(ErrorMetrics.ERRORS).tag("type", type).tag("status", status).tag("locale", locale).counter().count();
+	}
+
+	private double fallbackCount(String type, String fallback) {
+		return registry.get(ErrorMetrics.FALLBACKS).tag("type", type).tag("fallback", fallback).counter().count();
+	}
+}
@@ -0,0 +1,185 @@
+package com.example.errorhandler.infrastructure.validation;
+
+import com.example.errorhandler.web.model.TestRequest;
+import com.example.errorhandler.web.model.TestRequestValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import org.hibernate.validator.constraints.CreditCardNumber;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.ObjectUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the generated {@link TestRequestValidator} reports exactly the field errors Hibernate
+ * Validator reports, with the same codes, rejected values, message templates and constraint attributes.
+ */
+class GeneratedValidatorConformanceTests {
+
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-06-15T12:00:00Z"), ZoneOffset.UTC);
+
+	private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+	private static ValidatorFactory validatorFactory;
+
+	private static SpringValidatorAdapter hibernateValidator;
+
+	private static GeneratedValidatorAdapter generatedValidator;
+
+	@BeforeAll
+	static void setUp() {
+		validatorFactory = Validation.byDefaultProvider().configure().clockProvider(() -> CLOCK).buildValidatorFactory();
+		hibernateValidator = new SpringValidatorAdapter(validatorFactory.getValidator());
+		generatedValidator = new GeneratedValidatorAdapter(hibernateValidator, List.of(new TestRequestValidator()), CLOCK, false);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		validatorFactory.close();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			// valid
+			"""
+			{"fieldNotBlank":"example","fieldNotEmpty":["item1","item2"],"fieldEmail":"user@example.com",
+			"fieldPositive":10,"fieldPositiveOrZero":0,"fieldNegative":-5,"fieldNegativeOrZero":0,"fieldRange":50,
+			"fieldSize":"test123","fieldLength":"exampleString","fieldRangeValue":50,"fieldMinLength":"example",
+			"fieldPattern":"abc123","fieldPast":"2000-01-01","fieldFuture":"2100-01-01","fieldFutureOrPresent":"2100-01-01",
+			"fieldPastOrPresent":"2020-01-01","fieldDigits":12345.67,"fieldPhoneNumber":"+1234567890",
+			"fieldCreditCard":"4111111111111111"}
+			""",
+			// every field missing
+			"{}",
+			// every field invalid
+			"""
+			{"fieldNotBlank":"   ","fieldNotEmpty":[],"fieldEmail":"user.example.com",
+			"fieldPositive":0,"fieldPositiveOrZero":-1,"fieldNegative":0,"fieldNegativeOrZero":1,"fieldRange":101,
+			"fieldSize":"ab","fieldLength":"abcd","fieldRangeValue":0,"fieldMinLength":"abcd",
+			"fieldPattern":"abc-123","fieldPast":"2024-06-15","fieldFuture":"2024-06-15","fieldFutureOrPresent":"2024-06-14",
+			"fieldPastOrPresent":"2024-06-16","fieldDigits":123456.789,"fieldPhoneNumber":"12345",
+			"fieldCreditCard":"4111111111111112"}
+			""",
+			// boundaries
+			"""
+			{"fieldNotBlank":" x ","fieldNotEmpty":[""],"fieldEmail":"first.last@localhost",
+			"fieldPositive":1,"fieldPositiveOrZero":0,"fieldNegative":-1,"fieldNegativeOrZero":0,"fieldRange":100,
+			"fieldSize":"abcdefghijk","fieldLength":"abcdefghijklmno","fieldRangeValue":100,"fieldMinLength":"abcde",
+			"fieldPattern":"","fieldPast":"2024-06-14","fieldFuture":"2024-06-16","fieldFutureOrPresent":"2024-06-15",
+			"fieldPastOrPresent":"2024-06-15","fieldDigits":99999.99,"fieldPhoneNumber":"+1234567890123456",
+			"fieldCreditCard":"4111 1111 1111 1111"}
+			"""
+	})
+	void reportsTheFieldErrorsOfHibernateValidator(String json) throws Exception {
+		TestRequest request = OBJECT_MAPPER.readValue(json, TestRequest.class);
+		assertThat(fieldErrors(generatedValidator, request))
+				.containsExactlyInAnyOrderElementsOf(fieldErrors(hibernateValidator, request));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"4111111111111111",
+			"4111-1111-1111-1111",
+			"4111 1111 1111 1111 ",
+			"4111-1111-1111-1112",
+			"4111-1111-1111-111-1",
+			"x4111111111111111",
+			"4111111111111111-",
+			"0"
+	})
+	void checksCreditCardNumbersLikeHibernateValidator(String value) {
+		assertThat(Constraints.isLuhnValid(value, false)).isEqualTo(isValid("strict", value));
+		assertThat(Constraints.isLuhnValid(value, true)).isEqualTo(isValid("lenient", value));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"user@example.com",
+			"first.last@localhost",
+			"\"quoted local\"@example.com",
+			"user@[192.168.0.1]",
+			"user@[IPv6:2001:db8::1]",
+			"user@example.com.",
+			"user@-example.com",
+			"user.@example.com",
+			"a@b@example.com",
+			"user.example.com",
+			"ünïcödé@exämple.com"
+	})
+	void checksEmailAddressesLikeHibernateValidator(String value) {
+		assertThat(Constraints.isEmail(value)).isEqualTo(isValid("email", value));
+	}
+
+	@Test
+	void stopsAtTheFirstViolationInFailFastMode() {
+		GeneratedValidatorAdapter failFast = new GeneratedValidatorAdapter(hibernateValidator, List.of(new TestRequestValidator()), CLOCK, true);
+		assertThat(fieldErrors(failFast, new TestRequest())).hasSize(1);
+	}
+
+	@Test
+	void loadsTheGeneratedValidatorsAsServices() {
+		assertThat(GeneratedValidatorAdapter.load(getClass().getClassLoader()))
+				.anySatisfy(validator -> assertThat(validator.getType()).isEqualTo(TestRequest.class));
+	}
+
+	private static boolean isValid(String property, String value) {
+		return validatorFactory.getValidator().validateValue(Constrained.class, property, value).isEmpty();
+	}
+
+	private static List<String> fieldErrors(SmartValidator validator, TestRequest request) {
+		BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, "testRequest");
+		validator.validate(request, bindingResult);
+		return bindingResult.getFieldErrors().stream().map(GeneratedValidatorConformanceTests::describe).toList();
+	}
+
+	private static String describe(FieldError fieldError) {
+		String messageTemplate;
+		Map<String, Object> attributes;
+		if (fieldError.contains(GeneratedConstraintViolation.class)) {
+			GeneratedConstraintViolation violation = fieldError.unwrap(GeneratedConstraintViolation.class);
+			messageTemplate = violation.messageTemplate();
+			attributes = violation.attributes();
+		} else {
+			ConstraintViolation<?> violation = fieldError.unwrap(ConstraintViolation.class);
+			messageTemplate = violation.getMessageTemplate();
+			attributes = violation.getConstraintDescriptor().getAttributes();
+		}
+		Map<String, String> comparableAttributes = new TreeMap<>();
+		attributes.forEach((name, value) -> comparableAttributes.put(name, ObjectUtils.nullSafeToString(value)));
+		// Hibernate Validator may report the implicit default group
+		comparableAttributes.remove("groups");
+		return fieldError.getField() + " " + ObjectUtils.nullSafeToString(fieldError.getCodes()) + " "
+				+ fieldError.getRejectedValue() + " " + messageTemplate + " " + comparableAttributes;
+	}
+
+	static class Constrained {
+
+		@CreditCardNumber
+		String strict;
+
+		@CreditCardNumber(ignoreNonDigitCharacters = true)
+		String lenient;
+
+		@Email
+		String email;
+	}
+}
@@ -0,0 +1,27 @@
+package com.example.errorhandler.validation.processor;
+
+import javax.lang.model.element.Element;
+
+/**
+ * Thrown when a constraint, or the way it is applied, cannot be compiled into a generated validator.
+ */
+class UnsupportedConstraintException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Element element;
+
+    UnsupportedConstraintException(String message, Element element) {
+        super(message);
+        this.element = element;
+    }
+
+    /**
+     * Returns the element the error is reported on.
+     *
+     * @return the annotated element
+     */
+    Element getElement() {
+        return element;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.errorhandler.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Generates a {@code GeneratedValidator} for every type annotated with {@code @GeneratedValidation}
+ * and registers the generated validators in
+ * {@code META-INF/services/com.example.errorhandler.infrastructure.validation.GeneratedValidator}.
+ * The processor only depends on the JDK; it refers to the annotation and to the runtime types by name.
+ * A constraint it cannot compile is reported as a compilation error on the annotated element.
+ */
+@SupportedAnnotationTypes(ValidationProcessor.GENERATED_VALIDATION)
+public class ValidationProcessor extends AbstractProcessor {
+
+    static final String GENERATED_VALIDATION = "com.example.errorhandler.infrastructure.validation.GeneratedValidation";
+    static final String RUNTIME_PACKAGE = "com.example.errorhandler.infrastructure.validation";
+
+    private static final String SERVICES_FILE = "META-INF/services/" + RUNTIME_PACKAGE + ".GeneratedValidator";
+
+    private final Map<String, TypeElement> generated = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+                    error("@GeneratedValidation is only supported on classes and records", element);
+                    continue;
+                }
+                TypeElement model = (TypeElement) element;
+                try {
+                    generated.put(new ValidatorGenerator(processingEnv, model).generate(), model);
+                } catch (UnsupportedConstraintException ex) {
+                    error(ex.getMessage(), ex.getElement());
+                } catch (IOException ex) {
+                    error("Cannot write the validator of " + model.getQualifiedName() + ": " + ex.getMessage(), model);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !generated.isEmpty()) {
+            writeServicesFile();
+        }
+        return false;
+    }
+
+    private void writeServicesFile() {
+        List<TypeElement> originatingElements = new ArrayList<>(generated.values());
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES_FILE,
+                    originatingElements.toArray(Element[]::new));
+            try (Writer writer = file.openWriter()) {
+                for (String validator : generated.keySet()) {
+                    writer.write(validator);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + SERVICES_FILE + ": " + ex.getMessage());
+        }
+    }
+
+    private void error(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
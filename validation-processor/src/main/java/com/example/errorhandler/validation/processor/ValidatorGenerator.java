@@ -0,0 +1,493 @@
+package com.example.errorhandler.validation.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Writes the validator of one model. Every constrained field is read once through its getter, which
+ * Lombok's {@code @Data} generates for the request models, and each of its constraints becomes an
+ * inline condition or a call to {@code Constraints}, in declaration order. Patterns are compiled and
+ * constraint attributes are built once, in static fields shared by all fields with equal ones.
+ */
+final class ValidatorGenerator {
+
+    private static final String JAKARTA = "jakarta.validation.constraints.";
+    private static final String HIBERNATE = "org.hibernate.validator.constraints.";
+    private static final String CONSTRAINTS = ValidationProcessor.RUNTIME_PACKAGE + ".Constraints";
+
+    private static final Set<String> INTEGRAL_TYPES = Set.of("java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long");
+    private static final Set<String> NUMBER_TYPES = Set.of("java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long",
+            "java.lang.Float", "java.lang.Double", "java.math.BigInteger", "java.math.BigDecimal");
+    private static final Set<String> TEMPORAL_TYPES = Set.of("java.time.Instant", "java.time.LocalDate", "java.time.LocalDateTime",
+            "java.time.LocalTime", "java.time.MonthDay", "java.time.OffsetDateTime", "java.time.OffsetTime", "java.time.Year",
+            "java.time.YearMonth", "java.time.ZonedDateTime");
+    private static final Map<String, Integer> PATTERN_FLAGS = Map.of("UNIX_LINES", 0x01, "CASE_INSENSITIVE", 0x02,
+            "COMMENTS", 0x04, "MULTILINE", 0x08, "DOTALL", 0x20, "UNICODE_CASE", 0x40, "CANON_EQ", 0x80);
+
+    private final ProcessingEnvironment processingEnv;
+    private final Elements elements;
+    private final Types types;
+    private final TypeElement model;
+    private final Map<String, String> constants = new LinkedHashMap<>();
+    private final StringBuilder body = new StringBuilder();
+
+    ValidatorGenerator(ProcessingEnvironment processingEnv, TypeElement model) {
+        this.processingEnv = processingEnv;
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.model = model;
+    }
+
+    /**
+     * Generates and writes the validator.
+     *
+     * @return the qualified name of the generated validator
+     * @throws IOException if the source file cannot be written
+     */
+    String generate() throws IOException {
+        if (!model.getTypeParameters().isEmpty()) {
+            throw new UnsupportedConstraintException("@GeneratedValidation is not supported on generic types", model);
+        }
+        if (!constraintsOf(model).isEmpty()) {
+            throw new UnsupportedConstraintException("Class-level constraints are not supported by generated validators", model);
+        }
+        int index = 0;
+        for (TypeElement type : hierarchy()) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (!constraintsOf(method).isEmpty()) {
+                    throw new UnsupportedConstraintException("Getter constraints are not supported by generated validators", method);
+                }
+            }
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    field(field, "value" + index++);
+                }
+            }
+        }
+
+        PackageElement packageElement = elements.getPackageOf(model);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(model).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + "Validator";
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, model);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source(packageName, simpleName));
+        }
+        return qualifiedName;
+    }
+
+    private String source(String packageName, String simpleName) {
+        String modelName = model.getQualifiedName().toString();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Validates {@link ").append(modelName).append("} without reflection. Generated from its constraint annotations.\n")
+                .append(" */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(ValidationProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(simpleName).append(" implements ")
+                .append(ValidationProcessor.RUNTIME_PACKAGE).append(".GeneratedValidator<").append(modelName).append("> {\n\n");
+        constants.forEach((initializer, declaration) -> source.append("    ").append(declaration).append(" = ").append(initializer).append(";\n"));
+        if (!constants.isEmpty()) {
+            source.append('\n');
+        }
+        source.append("    @java.lang.Override\n")
+                .append("    public java.lang.Class<").append(modelName).append("> getType() {\n")
+                .append("        return ").append(modelName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @java.lang.Override\n")
+                .append("    public void validate(").append(modelName).append(" object, java.time.Clock clock, ")
+                .append(ValidationProcessor.RUNTIME_PACKAGE).append(".ConstraintViolations violations) {\n")
+                .append(body)
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Returns the model and its superclasses, the topmost first, as Hibernate Validator also
+     * validates inherited fields.
+     */
+    private List<TypeElement> hierarchy() {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement type = model; type != null && !type.getQualifiedName().contentEquals("java.lang.Object"); ) {
+            hierarchy.addFirst(type);
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+        }
+        return new ArrayList<>(hierarchy);
+    }
+
+    private void field(VariableElement field, String local) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            if (nameOf(annotation).equals("jakarta.validation.Valid")) {
+                throw new UnsupportedConstraintException("Cascaded validation is not supported by generated validators", field);
+            }
+        }
+        TypeMirror type = field.asType();
+        if (type instanceof DeclaredType declaredType) {
+            for (TypeMirror argument : declaredType.getTypeArguments()) {
+                if (argument.getAnnotationMirrors().stream().anyMatch(this::isConstraint)) {
+                    throw new UnsupportedConstraintException("Container element constraints are not supported by generated validators", field);
+                }
+            }
+        }
+        List<AnnotationMirror> constraints = constraintsOf(field);
+        if (constraints.isEmpty()) {
+            return;
+        }
+        String property = field.getSimpleName().toString();
+        body.append("        var ").append(local).append(" = object.").append(accessorOf(field)).append("();\n");
+        for (AnnotationMirror constraint : constraints) {
+            String invalid = invalidCondition(constraint, type, local, field);
+            if (invalid == null) {
+                continue;
+            }
+            Map<String, AnnotationValue> attributes = attributesOf(constraint);
+            String message = (String) attributes.get("message").getValue();
+            if (!message.matches("\\{[^{}$]+}")) {
+                throw new UnsupportedConstraintException("Generated validators only support messages that reference a single code, e.g. "
+                        + "{validation.exception.size}, as they are not interpolated during validation", field);
+            }
+            body.append("        if (").append(invalid.contains("||") ? "(" + invalid + ")" : invalid).append(" && !violations.add(")
+                    .append(literal(property)).append(", ").append(local).append(", ")
+                    .append(literal(constraint.getAnnotationType().asElement().getSimpleName().toString())).append(", ")
+                    .append(literal(message)).append(", ")
+                    .append(constant("java.util.Map<java.lang.String, java.lang.Object>", "ATTRIBUTES", attributesInitializer(constraint)))
+                    .append(")) {\n")
+                    .append("            return;\n")
+                    .append("        }\n");
+        }
+    }
+
+    /**
+     * Returns the condition under which the value violates the constraint, or {@code null} if it
+     * never does, e.g. {@code @NotNull} on a primitive.
+     */
+    private String invalidCondition(AnnotationMirror constraint, TypeMirror type, String local, Element field) {
+        Map<String, AnnotationValue> attributes = attributesOf(constraint);
+        String name = nameOf(constraint);
+        boolean nullable = !type.getKind().isPrimitive();
+        switch (name) {
+            case JAKARTA + "NotNull":
+                return nullable ? local + " == null" : null;
+            case JAKARTA + "Null":
+                return nullable ? local + " != null" : "true";
+            case JAKARTA + "NotBlank":
+                requireCharSequence(type, constraint, field);
+                return local + " == null || !" + CONSTRAINTS + ".isNotBlank(" + local + ")";
+            case JAKARTA + "NotEmpty":
+                return local + " == null || " + sizeOf(type, local, constraint, field) + " == 0";
+            case JAKARTA + "AssertTrue":
+                requireBoolean(type, constraint, field);
+                return nullIsValid(nullable, local, "!" + local);
+            case JAKARTA + "AssertFalse":
+                requireBoolean(type, constraint, field);
+                return nullIsValid(nullable, local, local);
+            case JAKARTA + "Email":
+                requireCharSequence(type, constraint, field);
+                if (!".*".equals(attributes.get("regexp").getValue()) || !((List<?>) attributes.get("flags").getValue()).isEmpty()) {
+                    throw new UnsupportedConstraintException("@Email with regexp or flags is not supported by generated validators", field);
+                }
+                return nullIsValid(nullable, local, "!" + CONSTRAINTS + ".isEmail(" + local + ")");
+            case JAKARTA + "Pattern":
+                requireCharSequence(type, constraint, field);
+                int flags = 0;
+                for (Object flag : (List<?>) attributes.get("flags").getValue()) {
+                    flags |= PATTERN_FLAGS.get(((VariableElement) ((AnnotationValue) flag).getValue()).getSimpleName().toString());
+                }
+                String pattern = constant("java.util.regex.Pattern", "PATTERN",
+                        "java.util.regex.Pattern.compile(" + literal((String) attributes.get("regexp").getValue()) + ", " + flags + ")");
+                return nullIsValid(nullable, local, "!" + pattern + ".matcher(" + local + ").matches()");
+            case JAKARTA + "Positive":
+                requireIntegral(type, constraint, field);
+                return nullIsValid(nullable, local, local + " <= 0");
+            case JAKARTA + "PositiveOrZero":
+                requireIntegral(type, constraint, field);
+                return nullIsValid(nullable, local, local + " < 0");
+            case JAKARTA + "Negative":
+                requireIntegral(type, constraint, field);
+                return nullIsValid(nullable, local, local + " >= 0");
+            case JAKARTA + "NegativeOrZero":
+                requireIntegral(type, constraint, field);
+                return nullIsValid(nullable, local, local + " > 0");
+            case JAKARTA + "Min":
+                requireIntegral(type, constraint, field);
+                return nullIsValid(nullable, local, local + " < " + attributes.get("value").getValue() + "L");
+            case JAKARTA + "Max":
+                requireIntegral(type, constraint, field);
+                return nullIsValid(nullable, local, local + " > " + attributes.get("value").getValue() + "L");
+            case HIBERNATE + "Range":
+                requireIntegral(type, constraint, field);
+                return nullIsValid(nullable, local, local + " < " + attributes.get("min").getValue() + "L || "
+                        + local + " > " + attributes.get("max").getValue() + "L");
+            case JAKARTA + "Size":
+                String size = sizeOf(type, local, constraint, field);
+                return nullIsValid(nullable, local, size + " < " + attributes.get("min").getValue() + " || "
+                        + size + " > " + attributes.get("max").getValue());
+            case HIBERNATE + "Length":
+                requireCharSequence(type, constraint, field);
+                return nullIsValid(nullable, local, local + ".length() < " + attributes.get("min").getValue() + " || "
+                        + local + ".length() > " + attributes.get("max").getValue());
+            case JAKARTA + "Past":
+                return nullIsValid(nullable, local, compareToNow(type, local, constraint, field) + " >= 0");
+            case JAKARTA + "PastOrPresent":
+                return nullIsValid(nullable, local, compareToNow(type, local, constraint, field) + " > 0");
+            case JAKARTA + "Future":
+                return nullIsValid(nullable, local, compareToNow(type, local, constraint, field) + " <= 0");
+            case JAKARTA + "FutureOrPresent":
+                return nullIsValid(nullable, local, compareToNow(type, local, constraint, field) + " < 0");
+            case JAKARTA + "Digits":
+                if (!isNumber(type) && !isA(type, "java.lang.CharSequence")) {
+                    throw unsupportedType(constraint, type, field);
+                }
+                return nullIsValid(nullable, local, "!" + CONSTRAINTS + ".hasDigits(" + local + ", "
+                        + attributes.get("integer").getValue() + ", " + attributes.get("fraction").getValue() + ")");
+            case HIBERNATE + "CreditCardNumber":
+                requireCharSequence(type, constraint, field);
+                return nullIsValid(nullable, local, "!" + CONSTRAINTS + ".isLuhnValid(" + local + ", "
+                        + attributes.get("ignoreNonDigitCharacters").getValue() + ")");
+            default:
+                throw new UnsupportedConstraintException("@" + name + " is not supported by generated validators", field);
+        }
+    }
+
+    private static String nullIsValid(boolean nullable, String local, String invalid) {
+        if (!nullable) {
+            return invalid;
+        }
+        return local + " != null && " + (invalid.contains("||") ? "(" + invalid + ")" : invalid);
+    }
+
+    private String sizeOf(TypeMirror type, String local, AnnotationMirror constraint, Element field) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return local + ".length";
+        }
+        if (isA(type, "java.lang.CharSequence")) {
+            return local + ".length()";
+        }
+        if (isA(type, "java.util.Collection") || isA(type, "java.util.Map")) {
+            return local + ".size()";
+        }
+        throw unsupportedType(constraint, type, field);
+    }
+
+    private String compareToNow(TypeMirror type, String local, AnnotationMirror constraint, Element field) {
+        String typeName = qualifiedNameOf(type);
+        if (!TEMPORAL_TYPES.contains(typeName)) {
+            throw unsupportedType(constraint, type, field);
+        }
+        return local + ".compareTo(" + typeName + ".now(clock))";
+    }
+
+    private void requireCharSequence(TypeMirror type, AnnotationMirror constraint, Element field) {
+        if (!isA(type, "java.lang.CharSequence")) {
+            throw unsupportedType(constraint, type, field);
+        }
+    }
+
+    private void requireBoolean(TypeMirror type, AnnotationMirror constraint, Element field) {
+        if (type.getKind() != TypeKind.BOOLEAN && !"java.lang.Boolean".equals(qualifiedNameOf(type))) {
+            throw unsupportedType(constraint, type, field);
+        }
+    }
+
+    private void requireIntegral(TypeMirror type, AnnotationMirror constraint, Element field) {
+        TypeKind kind = type.getKind();
+        if (kind != TypeKind.BYTE && kind != TypeKind.SHORT && kind != TypeKind.INT && kind != TypeKind.LONG
+                && !INTEGRAL_TYPES.contains(qualifiedNameOf(type))) {
+            throw unsupportedType(constraint, type, field);
+        }
+    }
+
+    private boolean isNumber(TypeMirror type) {
+        return type.getKind().isPrimitive() && type.getKind() != TypeKind.BOOLEAN && type.getKind() != TypeKind.CHAR
+                || NUMBER_TYPES.contains(qualifiedNameOf(type));
+    }
+
+    private boolean isA(TypeMirror type, String className) {
+        TypeElement typeElement = elements.getTypeElement(className);
+        return type.getKind() == TypeKind.DECLARED && typeElement != null
+                && types.isAssignable(types.erasure(type), types.erasure(typeElement.asType()));
+    }
+
+    private String qualifiedNameOf(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED ? ((TypeElement) types.asElement(type)).getQualifiedName().toString() : "";
+    }
+
+    private UnsupportedConstraintException unsupportedType(AnnotationMirror constraint, TypeMirror type, Element field) {
+        String typeName = type.getKind() == TypeKind.DECLARED ? qualifiedNameOf(type) : type.getKind().name().toLowerCase();
+        return new UnsupportedConstraintException("@" + constraint.getAnnotationType().asElement().getSimpleName()
+                + " on " + typeName + " is not supported by generated validators", field);
+    }
+
+    private String accessorOf(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (model.getKind() == ElementKind.RECORD) {
+            return name;
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        String getter = (field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalized;
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(model))) {
+            if (method.getParameters().isEmpty() && method.getSimpleName().contentEquals(getter)) {
+                return getter;
+            }
+        }
+        // not declared, so it is generated by Lombok, which follows the JavaBeans convention as well
+        return getter;
+    }
+
+    /**
+     * Returns the constraints of the default group declared on the element, with those of
+     * repeated-constraint containers such as {@code @Pattern.List} unwrapped.
+     */
+    private List<AnnotationMirror> constraintsOf(Element element) {
+        List<AnnotationMirror> constraints = new ArrayList<>();
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (isConstraint(annotation)) {
+                constraints.add(annotation);
+                continue;
+            }
+            AnnotationValue value = attributesOf(annotation).get("value");
+            if (value != null && value.getValue() instanceof List<?> values) {
+                for (Object contained : values) {
+                    if (((AnnotationValue) contained).getValue() instanceof AnnotationMirror mirror && isConstraint(mirror)) {
+                        constraints.add(mirror);
+                    }
+                }
+            }
+        }
+        constraints.removeIf(constraint -> !isDefaultGroup(constraint));
+        return constraints;
+    }
+
+    private boolean isConstraint(AnnotationMirror annotation) {
+        return annotation.getAnnotationType().asElement().getAnnotationMirrors().stream()
+                .anyMatch(meta -> nameOf(meta).equals("jakarta.validation.Constraint"));
+    }
+
+    private boolean isDefaultGroup(AnnotationMirror constraint) {
+        AnnotationValue groups = attributesOf(constraint).get("groups");
+        return groups == null || ((List<?>) groups.getValue()).stream()
+                .allMatch(group -> qualifiedNameOf((TypeMirror) ((AnnotationValue) group).getValue()).equals("jakarta.validation.groups.Default"));
+    }
+
+    private Map<String, AnnotationValue> attributesOf(AnnotationMirror annotation) {
+        Map<String, AnnotationValue> attributes = new LinkedHashMap<>();
+        elements.getElementValuesWithDefaults(annotation)
+                .forEach((element, value) -> attributes.put(element.getSimpleName().toString(), value));
+        return attributes;
+    }
+
+    private String attributesInitializer(AnnotationMirror constraint) {
+        StringJoiner entries = new StringJoiner(",\n            ", "java.util.Map.ofEntries(\n            ", ")");
+        elements.getElementValuesWithDefaults(constraint).forEach((element, value) -> entries.add("java.util.Map.entry("
+                + literal(element.getSimpleName().toString()) + ", " + valueLiteral(value, element.getReturnType(), constraint) + ")"));
+        return entries.toString();
+    }
+
+    private String valueLiteral(AnnotationValue annotationValue, TypeMirror type, AnnotationMirror constraint) {
+        Object value = annotationValue.getValue();
+        if (value instanceof String string) {
+            return literal(string);
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Boolean) {
+            return value + (value instanceof Long ? "L" : "");
+        }
+        if (value instanceof Short || value instanceof Byte) {
+            return "(" + type.getKind().name().toLowerCase() + ") " + value;
+        }
+        if (value instanceof Character character) {
+            return "(char) " + (int) character;
+        }
+        if (value instanceof Float number) {
+            return "java.lang.Float.intBitsToFloat(" + Float.floatToRawIntBits(number) + ")";
+        }
+        if (value instanceof Double number) {
+            return "java.lang.Double.longBitsToDouble(" + Double.doubleToRawLongBits(number) + "L)";
+        }
+        if (value instanceof TypeMirror typeMirror) {
+            return types.erasure(typeMirror) + ".class";
+        }
+        if (value instanceof VariableElement constant) {
+            return ((TypeElement) constant.getEnclosingElement()).getQualifiedName() + "." + constant.getSimpleName();
+        }
+        if (value instanceof List<?> values && type instanceof ArrayType arrayType) {
+            TypeMirror componentType = arrayType.getComponentType();
+            String componentName = componentType.getKind() == TypeKind.DECLARED && qualifiedNameOf(componentType).equals("java.lang.Class")
+                    ? "java.lang.Class<?>" : types.erasure(componentType).toString();
+            StringJoiner items = new StringJoiner(", ", "new " + componentName + "[] {", "}");
+            values.forEach(item -> items.add(valueLiteral((AnnotationValue) item, componentType, constraint)));
+            return items.toString();
+        }
+        throw new UnsupportedConstraintException("@" + constraint.getAnnotationType().asElement().getSimpleName()
+                + " has an attribute of a type not supported by generated validators", model);
+    }
+
+    /**
+     * Returns the name of the static field initialized with the given expression, declaring it if
+     * no equal one has been declared yet.
+     */
+    private String constant(String type, String prefix, String initializer) {
+        String declaration = constants.get(initializer);
+        if (declaration == null) {
+            declaration = "private static final " + type + " " + prefix + "_" + constants.size();
+            constants.put(initializer, declaration);
+        }
+        return declaration.substring(declaration.lastIndexOf(' ') + 1);
+    }
+
+    private static String nameOf(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7E) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}